@@ -0,0 +1,78 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.TaskManagerApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Boots the real backend for a benchmark trial and seeds the tasks table.
+ * Logging and SQL echo are turned down so they don't dominate the measurements.
+ */
+final class BenchmarkApplication {
+
+    private static final int SAMPLE_SIZE = 1024;
+
+    static final List<String> VOCABULARY = List.of(
+            "invoice", "review", "deploy", "backend", "frontend", "meeting", "budget", "report",
+            "design", "release", "migration", "security", "customer", "onboarding", "database", "testing",
+            "documentation", "planning", "refactor", "incident", "roadmap", "hiring", "analytics", "support",
+            "payment", "integration", "performance", "audit", "training", "research", "inventory", "marketing");
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... extraArgs) {
+        return start(webApplicationType, new Class<?>[0], extraArgs);
+    }
+
+    static ConfigurableApplicationContext start(WebApplicationType webApplicationType, Class<?>[] extraSources,
+                                                String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.taskmanager=WARN",
+                // A single load generator would otherwise be held to one client's rate limit
+                "--taskmanager.admission.enabled=false",
+                "--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(TaskManagerApplication.class)
+                .sources(extraSources)
+                .web(webApplicationType)
+                // Passed as arguments so they win over application.properties
+                .run(args.toArray(new String[0]));
+    }
+
+    // Set-based insert so seeding 1M rows takes seconds rather than a million round trips.
+    // Titles and descriptions draw from a small vocabulary so search benchmarks have realistic term frequencies.
+    static void seed(ConfigurableApplicationContext context, int rows) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("INSERT INTO tasks (id, title, description, status, due_date, created_at, version) " +
+                "SELECT RANDOM_UUID(), " + word("X * 7") + " || ' ' || " + word("X * 13") + " || ' task ' || X, " +
+                "'Seeded row ' || X || ' about the ' || " + word("X * 31") + " || ' and ' || " + word("X / 3") + ", " +
+                "MOD(X, 3), " +
+                "DATEADD('DAY', 30 + MOD(X, 365), CURRENT_TIMESTAMP), " +
+                "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), 0 " +
+                "FROM SYSTEM_RANGE(1, " + rows + ")");
+    }
+
+    private static String word(String expression) {
+        return "ARRAY[" + String.join(", ", VOCABULARY.stream().map(w -> "'" + w + "'").toList()) + "]" +
+                "[MOD(" + expression + ", " + VOCABULARY.size() + ") + 1]";
+    }
+
+    static UUID[] sampleIds(ConfigurableApplicationContext context) {
+        List<UUID> ids = context.getBean(JdbcTemplate.class)
+                .queryForList("SELECT id FROM tasks ORDER BY RAND() LIMIT " + SAMPLE_SIZE, UUID.class);
+        return ids.toArray(new UUID[0]);
+    }
+}
@@ -0,0 +1,111 @@
+package com.taskmanager.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Full TaskController paths through MockMvc: argument binding, validation, the cache,
+ * the repository and JSON rendering, without socket I/O in the way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskControllerBenchmark {
+
+    private static final String TASKS = "/v1/api/tasks";
+
+    @Param({"1000", "100000", "1000000"})
+    public int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private UUID[] ids;
+    private final UUID[] missingIds = new UUID[1024];
+    private int next;
+    private String newTaskJson;
+    private String batchJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.SERVLET);
+        BenchmarkApplication.seed(context, tableSize);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        ids = BenchmarkApplication.sampleIds(context);
+        for (int i = 0; i < missingIds.length; i++) {
+            missingIds[i] = UUID.randomUUID();
+        }
+
+        String dueDate = LocalDateTime.now().plusYears(1).withNano(0).toString();
+        newTaskJson = "{\"title\":\"Benchmark create\",\"description\":\"Created by JMH\",\"dueDate\":\"" + dueDate + "\"}";
+        StringBuilder batch = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            batch.append(i == 0 ? "" : ",").append(newTaskJson);
+        }
+        batchJson = batch.append(']').toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getTaskById() throws Exception {
+        return mockMvc.perform(get(TASKS + "/{id}", nextId())).andReturn();
+    }
+
+    // Scanner traffic: ids that do not exist. After the first pass the misses come from the task cache,
+    // so this measures the error path itself (exception, handler, ErrorResponse rendering).
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public MvcResult getMissingTask() throws Exception {
+        return mockMvc.perform(get(TASKS + "/{id}", missingIds[next++ & (missingIds.length - 1)])).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getFirstPage() throws Exception {
+        return mockMvc.perform(get(TASKS).param("limit", "100")).andReturn();
+    }
+
+    // Run with -prof gc and compare gc.alloc.rate.norm (bytes allocated per request) with getFirstPage
+    @Benchmark
+    public MvcResult getFirstPageSummary() throws Exception {
+        return mockMvc.perform(get(TASKS).param("limit", "100").param("view", "summary")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult createTask() throws Exception {
+        return mockMvc.perform(post(TASKS).contentType(MediaType.APPLICATION_JSON).content(newTaskJson)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult createTaskBatch() throws Exception {
+        return mockMvc.perform(post(TASKS + "/batch").contentType(MediaType.APPLICATION_JSON).content(batchJson)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult updateTaskStatus() throws Exception {
+        String status = (next & 1) == 0 ? "completed" : "pending";
+        return mockMvc.perform(patch(TASKS + "/{id}/status", nextId()).param("status", status)).andReturn();
+    }
+
+    private UUID nextId() {
+        return ids[next++ & (ids.length - 1)];
+    }
+}
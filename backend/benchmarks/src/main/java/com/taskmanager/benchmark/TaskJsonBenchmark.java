@@ -0,0 +1,102 @@
+package com.taskmanager.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskmanager.json.TaskJsonComponent;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson round trips for a single Task and for a page of tasks, using the ObjectMapper
+ * exactly as Spring Boot configures it for the controllers. serializer=reflective leaves out
+ * {@link TaskJsonComponent}, for comparison with Jackson's bean serializer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskJsonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int listSize;
+
+    @Param({"handwritten", "reflective"})
+    public String serializer;
+
+    private ConfigurableApplicationContext context;
+    private ObjectWriter taskWriter;
+    private ObjectReader taskReader;
+    private Task task;
+    private String taskJson;
+    private List<Task> tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        Class<?>[] sources = serializer.equals("handwritten")
+                ? new Class<?>[]{JacksonAutoConfiguration.class, TaskJsonComponent.class}
+                : new Class<?>[]{JacksonAutoConfiguration.class};
+        context = new SpringApplicationBuilder(sources)
+                .web(WebApplicationType.NONE)
+                .properties("spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run();
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        taskWriter = objectMapper.writer();
+        taskReader = objectMapper.readerFor(Task.class);
+
+        task = sampleTask(0);
+        taskJson = taskWriter.writeValueAsString(task);
+        tasks = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            tasks.add(sampleTask(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeTask() throws JsonProcessingException {
+        return taskWriter.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public Task deserializeTask() throws JsonProcessingException {
+        return taskReader.readValue(taskJson);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskList() throws JsonProcessingException {
+        return taskWriter.writeValueAsBytes(tasks);
+    }
+
+    private static Task sampleTask(int i) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .title("Benchmark task " + i)
+                .description("A moderately sized description for task " + i + " used to benchmark serialization")
+                .status(TaskStatus.IN_PROGRESS)
+                .dueDate(now.plusDays(30))
+                .createdAt(now)
+                .updatedAt(now.plusHours(1))
+                .version(3L)
+                .build();
+    }
+}
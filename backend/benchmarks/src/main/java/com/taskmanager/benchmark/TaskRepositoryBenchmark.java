@@ -0,0 +1,74 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskRepository against the in-memory H2 database at 1k, 100k and 1M rows.
+ * findAll materialises the whole table and is only meaningful as a regression signal
+ * for the unbounded path; the paged variant is what GET /tasks actually runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskRepositoryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private UUID[] ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.NONE);
+        BenchmarkApplication.seed(context, tableSize);
+        taskRepository = context.getBean(TaskRepository.class);
+        ids = BenchmarkApplication.sampleIds(context);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task save() {
+        return taskRepository.save(Task.create("Benchmark save", "Inserted by JMH", LocalDateTime.now().plusDays(7)));
+    }
+
+    @Benchmark
+    public Optional<Task> findById() {
+        return taskRepository.findById(ids[next++ & (ids.length - 1)]);
+    }
+
+    @Benchmark
+    public List<Task> findFirstPage() {
+        return taskRepository.findPage(null, null, null, PageRequest.ofSize(100));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public void findAll(Blackhole blackhole) {
+        blackhole.consume(taskRepository.findAll());
+    }
+}
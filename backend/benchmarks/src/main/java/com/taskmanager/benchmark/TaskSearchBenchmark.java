@@ -0,0 +1,93 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.search.TaskSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /search's work (rank a page with the inverted index, then load those rows) against
+ * the naive alternative of a {@code LIKE '%word%'} scan over title and description.
+ * The LIKE variant stops at the first page of unranked matches, so it is the best case
+ * for the scan with common words; a word that matches nothing forces it through the whole table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskSearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "100000", "1000000"})
+    public int tableSize;
+
+    // A common word, a prefix, two words that must both match, a word in a single task, and a word in none
+    @Param({"invoice", "inv", "invoice review", "777", "zebra"})
+    public String query;
+
+    private ConfigurableApplicationContext context;
+    private TaskSearchIndex taskSearchIndex;
+    private TaskRepository taskRepository;
+    private EntityManager entityManager;
+    private String likeSql;
+    private List<String> likeWords;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.NONE);
+        BenchmarkApplication.seed(context, tableSize);
+        taskSearchIndex = context.getBean(TaskSearchIndex.class);
+        taskSearchIndex.rebuild();
+        taskRepository = context.getBean(TaskRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+
+        likeWords = List.of(query.toLowerCase(Locale.ROOT).split("\\s+"));
+        StringBuilder sql = new StringBuilder("SELECT * FROM tasks WHERE ");
+        for (int i = 0; i < likeWords.size(); i++) {
+            sql.append(i == 0 ? "" : " AND ")
+                    .append("(LOWER(title) LIKE ?").append(2 * i + 1)
+                    .append(" OR LOWER(description) LIKE ?").append(2 * i + 2).append(')');
+        }
+        likeSql = sql.append(" LIMIT ").append(PAGE_SIZE).toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Task> invertedIndex() {
+        return taskRepository.findAllById(taskSearchIndex.search(query, 0, PAGE_SIZE).ids());
+    }
+
+    @Benchmark
+    public TaskSearchIndex.SearchResult invertedIndexRankingOnly() {
+        return taskSearchIndex.search(query, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<Task> likeScan() {
+        Query like = entityManager.createNativeQuery(likeSql, Task.class);
+        for (int i = 0; i < likeWords.size(); i++) {
+            String pattern = "%" + likeWords.get(i) + "%";
+            like.setParameter(2 * i + 1, pattern);
+            like.setParameter(2 * i + 2, pattern);
+        }
+        return like.getResultList();
+    }
+}
@@ -0,0 +1,67 @@
+package com.taskmanager.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskmanager.model.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Status validation and JSON mapping, comparing what the String-typed status cost (the @Pattern regex
+ * plus the controller's chain of equals calls) with the TaskStatus lookup and its Jackson round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskStatusBenchmark {
+
+    // The constraint Task.status carried before it became an enum
+    private static final Pattern STATUS_PATTERN = Pattern.compile("^(pending|in-progress|completed)$");
+
+    @Param({"pending", "completed"})
+    public String status;
+
+    private String statusJson;
+    private ObjectWriter statusWriter;
+    private ObjectReader statusReader;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        statusWriter = objectMapper.writerFor(TaskStatus.class);
+        statusReader = objectMapper.readerFor(TaskStatus.class);
+        statusJson = statusWriter.writeValueAsString(TaskStatus.fromValue(status));
+    }
+
+    @Benchmark
+    public boolean regexValidation() {
+        return STATUS_PATTERN.matcher(status).matches();
+    }
+
+    @Benchmark
+    public boolean equalsChainValidation() {
+        return status.equals("pending") || status.equals("in-progress") || status.equals("completed");
+    }
+
+    @Benchmark
+    public TaskStatus enumLookup() {
+        return TaskStatus.fromValue(status);
+    }
+
+    @Benchmark
+    public String serializeEnum() throws JsonProcessingException {
+        return statusWriter.writeValueAsString(TaskStatus.fromValue(status));
+    }
+
+    @Benchmark
+    public TaskStatus deserializeEnum() throws JsonProcessingException {
+        return statusReader.readValue(statusJson);
+    }
+}
@@ -0,0 +1,58 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.model.Task;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of Task, for a valid payload and for one that trips every constraint
+ * (the invalid path also pays for message interpolation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private Task validTask;
+    private Task invalidTask;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validTask = Task.create("Valid benchmark task", "Description", LocalDateTime.now().plusYears(1));
+        invalidTask = Task.builder()
+                .title("")
+                .description("a".repeat(1001))
+                .status(null)
+                .dueDate(LocalDateTime.now().minusDays(1))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Task>> validateValidTask() {
+        return validator.validate(validTask);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Task>> validateInvalidTask() {
+        return validator.validate(invalidTask);
+    }
+}
@@ -0,0 +1,333 @@
+package com.taskmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test comparing platform-thread and virtual-thread request handling, and both
+ * against the reactive WebFlux + R2DBC variant in ../reactive.
+ * <p>
+ * Each mode boots the backend on a random port and drives it with {@code clients} concurrent
+ * keep-alive connections for {@code warmup + seconds}. The mix is 80% {@code GET /v1/api/tasks?limit=20}
+ * and 20% {@code PATCH /{id}/status}, both of which reach the database. The in-memory H2 database
+ * answers in microseconds, so every statement is delayed by {@code dbLatencyMillis} to stand in for
+ * the network round trip to a real database. Without that delay, neither mode blocks long enough
+ * for the thread model to matter.
+ * <p>
+ * Mode {@code reactive} starts the reactive variant's jar ({@code reactiveJar}, built with {@code mvn package}
+ * in ../reactive) as a separate process, with the same statement delay and the same number of pooled
+ * connections, and seeds it through the API since its in-memory database lives in that process.
+ * <p>
+ * Arguments are {@code key=value} pairs, e.g. {@code clients=2000 seconds=30 modes=platform,virtual,reactive}.
+ */
+public final class ThreadModeLoadTest {
+
+    private static final String TASKS = "/v1/api/tasks";
+
+    private static final String DEFAULT_REACTIVE_JAR = "../reactive/target/task-manager-reactive-1.0.0.jar";
+
+    private static final int SEED_CONCURRENCY = 64;
+
+    private static final int SAMPLE_SIZE = 1024;
+
+    private ThreadModeLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        int clients = Integer.parseInt(options.getOrDefault("clients", "2000"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "30"));
+        int rows = Integer.parseInt(options.getOrDefault("rows", "10000"));
+        String dbLatencyMillis = options.getOrDefault("dbLatencyMillis", "2");
+        String poolSize = options.getOrDefault("poolSize", "20");
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : options.getOrDefault("modes", "platform,virtual").split(",")) {
+            if (mode.equals("reactive")) {
+                results.add(runReactive(options.getOrDefault("reactiveJar", DEFAULT_REACTIVE_JAR), rows,
+                        dbLatencyMillis, poolSize, clients, warmupSeconds, seconds));
+                continue;
+            }
+            ConfigurableApplicationContext context = BenchmarkApplication.start(WebApplicationType.SERVLET,
+                    new Class<?>[]{DatabaseLatencyConfig.class},
+                    "--spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                    "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                    "--taskmanager.load-test.db-latency-millis=" + dbLatencyMillis);
+            try {
+                BenchmarkApplication.seed(context, rows);
+                UUID[] ids = BenchmarkApplication.sampleIds(context);
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                results.add(run(mode, baseUrl, ids, clients, warmupSeconds, seconds));
+            } finally {
+                context.close();
+            }
+        }
+
+        System.out.printf("%nclients=%d, seconds=%d, dbLatencyMillis=%s, poolSize=%s%n",
+                clients, seconds, dbLatencyMillis, poolSize);
+        System.out.printf("%-10s %12s %12s %10s %10s %10s %8s%n",
+                "mode", "requests", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (Result result : results) {
+            System.out.printf("%-10s %12d %12.1f %10.1f %10.1f %10.1f %8d%n",
+                    result.mode, result.requests, result.throughput, result.p50, result.p99, result.max, result.errors);
+        }
+    }
+
+    private static Result runReactive(String jar, int rows, String dbLatencyMillis, String poolSize,
+                                      int clients, int warmupSeconds, int seconds) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        Process process = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-Xmx2g", "-jar", jar,
+                "--server.port=" + port,
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.r2dbc.pool.max-size=" + poolSize,
+                "--taskmanager.load-test.db-latency-millis=" + dbLatencyMillis)
+                .inheritIO()
+                .start();
+        try {
+            String baseUrl = "http://localhost:" + port;
+            HttpClient httpClient = HttpClient.newHttpClient();
+            awaitStarted(process, httpClient, baseUrl);
+            UUID[] ids = seedOverHttp(httpClient, baseUrl, rows);
+            return run("reactive", baseUrl, ids, clients, warmupSeconds, seconds);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static void awaitStarted(Process process, HttpClient httpClient, String baseUrl) throws Exception {
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(baseUrl + TASKS + "?limit=1")).GET().build();
+        long deadline = System.nanoTime() + Duration.ofSeconds(120).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Reactive variant exited with " + process.exitValue());
+            }
+            try {
+                if (httpClient.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("Reactive variant did not start within 120s");
+    }
+
+    // Rows go in through POST, SEED_CONCURRENCY at a time; the first SAMPLE_SIZE ids become the PATCH targets
+    private static UUID[] seedOverHttp(HttpClient httpClient, String baseUrl, int rows) throws InterruptedException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String dueDate = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.SECONDS).toString();
+        AtomicInteger next = new AtomicInteger();
+        List<UUID> ids = Collections.synchronizedList(new ArrayList<>(SAMPLE_SIZE));
+        try (ExecutorService seeders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int s = 0; s < SEED_CONCURRENCY; s++) {
+                seeders.submit(() -> {
+                    for (int row = next.getAndIncrement(); row < rows; row = next.getAndIncrement()) {
+                        String title = BenchmarkApplication.VOCABULARY.get(row % BenchmarkApplication.VOCABULARY.size())
+                                + " task " + row;
+                        String body = "{\"title\":\"" + title + "\",\"description\":\"Seeded row " + row
+                                + "\",\"status\":\"pending\",\"dueDate\":\"" + dueDate + "\"}";
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + TASKS))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body))
+                                .build();
+                        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() != 201) {
+                            throw new IllegalStateException("Seeding failed with " + response.statusCode()
+                                    + ": " + response.body());
+                        }
+                        if (row < SAMPLE_SIZE) {
+                            ids.add(UUID.fromString(objectMapper.readTree(response.body()).get("id").asText()));
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return ids.toArray(new UUID[0]);
+    }
+
+    private static Result run(String mode, String baseUrl, UUID[] ids, int clients, int warmupSeconds, int seconds)
+            throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        long measureFrom = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long measureTo = measureFrom + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+        long[][] latencies = new long[clients][];
+
+        System.out.printf("%s: %d clients, %ds warmup, %ds measured%n", mode, clients, warmupSeconds, seconds);
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                clientThreads.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long now;
+                    while ((now = System.nanoTime()) < measureTo) {
+                        HttpRequest request = random.nextInt(10) < 8
+                                ? HttpRequest.newBuilder(URI.create(baseUrl + TASKS + "?limit=20")).GET().build()
+                                : HttpRequest.newBuilder(URI.create(baseUrl + TASKS + "/" + ids[random.nextInt(ids.length)]
+                                        + "/status?status=" + (random.nextBoolean() ? "completed" : "pending")))
+                                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                                .header("Prefer", "return=minimal")
+                                .build();
+                        boolean ok;
+                        try {
+                            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            ok = status < 400;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        long end = System.nanoTime();
+                        if (now >= measureFrom && end <= measureTo) {
+                            if (ok) {
+                                recorder.record(end - now);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                    latencies[client] = recorder.toArray();
+                });
+            }
+        }
+
+        long total = 0;
+        for (long[] clientLatencies : latencies) {
+            total += clientLatencies.length;
+        }
+        long[] all = new long[(int) total];
+        int offset = 0;
+        for (long[] clientLatencies : latencies) {
+            System.arraycopy(clientLatencies, 0, all, offset, clientLatencies.length);
+            offset += clientLatencies.length;
+        }
+        Arrays.sort(all);
+        return new Result(mode, all.length, all.length / (double) seconds,
+                percentile(all, 0.50), percentile(all, 0.99), all.length == 0 ? 0 : all[all.length - 1] / 1e6,
+                errors.get());
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+    }
+
+    private record Result(String mode, long requests, double throughput, double p50, double p99, double max,
+                          long errors) {
+    }
+
+    private static final class LatencyRecorder {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * Delays every statement preparation by a fixed amount while the pooled connection is held,
+     * the way a network round trip to a remote database would.
+     */
+    @Configuration(proxyBeanMethods = false)
+    static class DatabaseLatencyConfig {
+
+        @Bean
+        static BeanPostProcessor databaseLatencyPostProcessor(
+                @Value("${taskmanager.load-test.db-latency-millis:0}") long latencyMillis) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (latencyMillis <= 0 || !(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                            (proxy, method, methodArgs) -> {
+                                Object result = invoke(dataSource, method, methodArgs);
+                                return result instanceof Connection connection
+                                        ? slowConnection(connection, latencyMillis)
+                                        : result;
+                            });
+                }
+            };
+        }
+
+        private static Connection slowConnection(Connection connection, long latencyMillis) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, methodArgs) -> {
+                        if (method.getName().startsWith("prepare")) {
+                            Thread.sleep(latencyMillis);
+                        }
+                        return invoke(connection, method, methodArgs);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
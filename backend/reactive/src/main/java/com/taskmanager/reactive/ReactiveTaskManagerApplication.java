@@ -0,0 +1,18 @@
+package com.taskmanager.reactive;
+
+import com.taskmanager.json.TaskJsonComponent;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * The task API on WebFlux and R2DBC: no request ever holds a thread while it waits for the database.
+ * Component scanning stays inside com.taskmanager.reactive; the shared serializers are imported explicitly.
+ */
+@SpringBootApplication
+@Import(TaskJsonComponent.class)
+public class ReactiveTaskManagerApplication {
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveTaskManagerApplication.class, args);
+    }
+}
@@ -0,0 +1,88 @@
+package com.taskmanager.reactive.config;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+
+/**
+ * Delays every statement execution by taskmanager.load-test.db-latency-millis while the pooled connection is
+ * held, the way a network round trip to a remote database would; the R2DBC counterpart of the benchmarks'
+ * ThreadModeLoadTest.DatabaseLatencyConfig, so both stacks are compared against the same database latency.
+ * The delay is a timer, not a sleep: like a real round trip it holds a connection but no thread. Off (0) unless
+ * the load test sets it.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DatabaseLatencyConfig {
+
+    @Bean
+    static BeanPostProcessor databaseLatencyPostProcessor(
+            @Value("${taskmanager.load-test.db-latency-millis:0}") long latencyMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (latencyMillis <= 0 || !(bean instanceof ConnectionFactory connectionFactory)) {
+                    return bean;
+                }
+                Duration latency = Duration.ofMillis(latencyMillis);
+                // All of the pool's interfaces, so it can still be closed at shutdown
+                return proxy(connectionFactory, (method, args) -> {
+                    Object result = invoke(connectionFactory, method, args);
+                    return method.getName().equals("create")
+                            ? Mono.from((Publisher<?>) result).map(connection -> slowConnection((Connection) connection, latency))
+                            : result;
+                });
+            }
+        };
+    }
+
+    private static Connection slowConnection(Connection connection, Duration latency) {
+        return proxy(connection, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            return method.getName().equals("createStatement") ? slowStatement((Statement) result, latency) : result;
+        });
+    }
+
+    private static Statement slowStatement(Statement statement, Duration latency) {
+        Statement[] self = new Statement[1];
+        self[0] = proxy(statement, (method, args) -> {
+            if (method.getName().equals("execute")) {
+                return Mono.delay(latency).thenMany(Flux.from(statement.execute()));
+            }
+            Object result = invoke(statement, method, args);
+            // bind(), add() and the other builder methods return the statement itself
+            return result == statement ? self[0] : result;
+        });
+        return self[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, Handler handler) {
+        return (T) Proxy.newProxyInstance(target.getClass().getClassLoader(), ClassUtils.getAllInterfaces(target),
+                (proxy, method, args) -> handler.handle(method, args));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
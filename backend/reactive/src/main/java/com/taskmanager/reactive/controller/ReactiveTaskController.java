@@ -0,0 +1,392 @@
+package com.taskmanager.reactive.controller;
+
+import com.taskmanager.controller.EntityTags;
+import com.taskmanager.dto.TaskCursor;
+import com.taskmanager.exception.InvalidArgumentException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.reactive.repository.ReactiveTaskRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The core of the task API (paging, export, read, create, update, status change, delete) with the same paths,
+ * headers and error bodies as the Servlet TaskController. Every handler returns a Mono or Flux and every database
+ * call is an R2DBC statement, so a request waiting on the database holds no thread.
+ */
+@RestController
+@RequestMapping("v1/api/tasks")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = {ReactiveTaskController.NEXT_CURSOR_HEADER, HttpHeaders.ETAG})
+@Tag(name = "Tasks", description = "Task management APIs (reactive)")
+public class ReactiveTaskController {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+    static final String NDJSON_VALUE = "application/x-ndjson";
+    static final String RETURN_MINIMAL = "return=minimal";
+    // Rows requested from the database at a time while exporting, the JPA export's fetch size
+    static final int EXPORT_PREFETCH = 500;
+
+    private final ReactiveTaskRepository taskRepository;
+
+    public ReactiveTaskController(ReactiveTaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Operation(
+            summary = "Get tasks",
+            description = "Retrieve a page of tasks ordered by creation time. Pass the X-Next-Cursor response header " +
+                    "back as 'after' to fetch the next page; the header is absent on the last page."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved tasks",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = Task.class, type = "array"))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid paging or filter parameters",
+                    content = @Content
+            )
+    })
+    @GetMapping
+    public Mono<ResponseEntity<List<Task>>> getAllTasks(
+            @Parameter(description = "Maximum number of tasks to return (1-" + MAX_PAGE_SIZE + ")", example = "100")
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @Parameter(description = "Cursor returned in X-Next-Cursor by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Only return tasks with this status",
+                    schema = @Schema(allowableValues = {"pending", "in-progress", "completed"}))
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Only return tasks due at or after this time", example = "2023-12-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @Parameter(description = "Only return tasks due before this time", example = "2023-12-31T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo) {
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return Mono.error(new InvalidArgumentException("Invalid limit. Must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        TaskStatus statusFilter = status == null ? null : TaskStatus.fromValue(status);
+        TaskCursor cursor = after == null ? null : TaskCursor.decode(after);
+        // One row past the page tells whether there is a next one
+        return taskRepository.findPage(cursor == null ? null : cursor.createdAt(), cursor == null ? null : cursor.id(),
+                        statusFilter, dueFrom, dueTo, limit + 1)
+                .collectList()
+                .map(rows -> {
+                    if (rows.size() <= limit) {
+                        return ResponseEntity.ok(rows);
+                    }
+                    List<Task> page = rows.subList(0, limit);
+                    return ResponseEntity.ok()
+                            .header(NEXT_CURSOR_HEADER, TaskCursor.of(page.get(limit - 1)).encode())
+                            .body(page);
+                });
+    }
+
+    @Operation(
+            summary = "Export all tasks",
+            description = "Stream every task as newline-delimited JSON, one task per line. Rows are read from the " +
+                    "database only as fast as the client takes them, so a slow reader never buffers the table."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Tasks streamed successfully",
+            content = @Content(mediaType = NDJSON_VALUE)
+    )
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    public ResponseEntity<Flux<Task>> exportTasks() {
+        // WebFlux requests the next task once the previous line is written; limitRate turns that demand into
+        // batches of EXPORT_PREFETCH rows instead of one request per row
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"")
+                .body(taskRepository.streamAll().limitRate(EXPORT_PREFETCH));
+    }
+
+    @Operation(
+            summary = "Get task by ID",
+            description = "Retrieve a specific task by its UUID. The response carries the task's version as an ETag; " +
+                    "send it back in If-None-Match to get 304 Not Modified when the task is unchanged."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Task found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = Task.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Task unchanged since the ETag given in If-None-Match",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Task not found",
+                    content = @Content
+            )
+    })
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Task>> getTaskById(
+            @Parameter(description = "UUID of the task to be retrieved", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id,
+            @Parameter(description = "ETag from a previous response; unchanged tasks return 304", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return taskRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task", "id", id)))
+                .map(task -> {
+                    String eTag = EntityTags.of(task);
+                    if (EntityTags.noneMatchFails(ifNoneMatch, eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<Task>build();
+                    }
+                    return ResponseEntity.ok().eTag(eTag).body(task);
+                });
+    }
+
+    @Operation(
+            summary = "Create a new task",
+            description = "Create a new task with validation. Title and due date are required fields."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Task created successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = Task.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input data",
+                    content = @Content
+            )
+    })
+    @PostMapping
+    public Mono<ResponseEntity<Task>> createTask(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Task object to be created",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = Task.class))
+            )
+            @Valid @RequestBody Task task) {
+        return taskRepository.insert(task)
+                .map(savedTask -> ResponseEntity.status(HttpStatus.CREATED).eTag(EntityTags.of(savedTask)).body(savedTask));
+    }
+
+    @Operation(
+            summary = "Update entire task",
+            description = "Update all fields of an existing task. Send the task's ETag in If-Match to reject the " +
+                    "update with 412 if someone else has changed the task in the meantime."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Task updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = Task.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input data",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Task not found",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Task was modified concurrently",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the task's current ETag",
+                    content = @Content
+            )
+    })
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Task>> updateTask(
+            @Parameter(description = "UUID of the task to be updated", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id,
+            @Parameter(description = "Only apply the change if the task still has this ETag", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Updated task object",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = Task.class))
+            )
+            @Valid @RequestBody Task taskDetails) {
+        return taskRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task", "id", id)))
+                .flatMap(task -> {
+                    // Checks the version we read; the versioned UPDATE then guards the window between read and write
+                    EntityTags.checkIfMatch(ifMatch, task);
+                    Task changed = task.toBuilder()
+                            .title(taskDetails.getTitle())
+                            .description(taskDetails.getDescription())
+                            .status(taskDetails.getStatus())
+                            .dueDate(taskDetails.getDueDate())
+                            .build();
+                    // Like JPA's dirty checking, an update that changes nothing keeps the version
+                    if (sameContent(task, changed)) {
+                        return Mono.just(task);
+                    }
+                    return taskRepository.update(changed)
+                            .switchIfEmpty(Mono.error(() -> new OptimisticLockingFailureException(
+                                    "Task " + id + " was changed after it was read")));
+                })
+                .map(updatedTask -> ResponseEntity.ok().eTag(EntityTags.of(updatedTask)).body(updatedTask));
+    }
+
+    @Operation(
+            summary = "Update task status",
+            description = "Update only the status of a task. Valid status values: pending, in-progress, completed. " +
+                    "Send 'Prefer: return=minimal' to receive 204 No Content instead of the updated task."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Status updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = Task.class))
+            ),
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Status updated successfully (Prefer: return=minimal)",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid status value",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Task not found",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the task's current ETag",
+                    content = @Content
+            )
+    })
+    @PatchMapping("/{id}/status")
+    public Mono<ResponseEntity<Task>> updateTaskStatus(
+            @Parameter(description = "UUID of the task to be updated", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id,
+            @Parameter(description = "New status value", example = "completed",
+                    schema = @Schema(allowableValues = {"pending", "in-progress", "completed"}))
+            @RequestParam String status,
+            @Parameter(description = "Only apply the change if the task still has this ETag", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = "Set to 'return=minimal' to skip returning the updated task", example = "return=minimal")
+            @RequestHeader(value = "Prefer", required = false) String prefer) {
+
+        TaskStatus newStatus = TaskStatus.fromValue(status);
+        // A missing row (or a stale If-Match version) shows up as an empty result
+        return expectedVersion(id, ifMatch)
+                .flatMap(expected -> taskRepository.updateStatus(id, newStatus, Task.currentTimestamp(), expected.orElse(null)))
+                .switchIfEmpty(Mono.defer(() -> this.<Task>writeMissed(id, ifMatch)))
+                .map(updatedTask -> {
+                    if (prefer != null && prefer.contains(RETURN_MINIMAL)) {
+                        return ResponseEntity.noContent().header("Preference-Applied", RETURN_MINIMAL).<Task>build();
+                    }
+                    return ResponseEntity.ok().eTag(EntityTags.of(updatedTask)).body(updatedTask);
+                });
+    }
+
+    @Operation(
+            summary = "Delete a task",
+            description = "Delete a specific task by its UUID"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Task deleted successfully",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Task not found",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the task's current ETag",
+                    content = @Content
+            )
+    })
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTask(
+            @Parameter(description = "UUID of the task to be deleted", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id,
+            @Parameter(description = "Only apply the change if the task still has this ETag", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return expectedVersion(id, ifMatch)
+                .flatMap(expected -> taskRepository.delete(id, expected.orElse(null)))
+                .flatMap(deleted -> {
+                    if (deleted > 0) {
+                        return Mono.just(ResponseEntity.ok().<Void>build());
+                    }
+                    return this.<ResponseEntity<Void>>writeMissed(id, ifMatch);
+                });
+    }
+
+    // The version the conditional write must find, empty when it is unconditional. If-Match normally names one;
+    // with a list (or only weak tags) the task's current version is read first and must be one of those listed.
+    private Mono<Optional<Long>> expectedVersion(UUID id, String ifMatch) {
+        Set<Long> versions = EntityTags.ifMatchVersions(ifMatch);
+        if (versions == null) {
+            return Mono.just(Optional.empty());
+        }
+        if (versions.size() == 1) {
+            return Mono.just(Optional.of(versions.iterator().next()));
+        }
+        return taskRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task", "id", id)))
+                .flatMap(task -> versions.contains(task.getVersion())
+                        ? Mono.just(Optional.of(task.getVersion()))
+                        : Mono.error(EntityTags.preconditionFailed(ifMatch)));
+    }
+
+    // Only reached when nothing was written, so the extra existence check stays off the happy path
+    private <T> Mono<T> writeMissed(UUID id, String ifMatch) {
+        Mono<Boolean> exists = ifMatch == null ? Mono.just(false) : taskRepository.existsById(id);
+        return exists.flatMap(found -> Mono.error(found
+                ? EntityTags.preconditionFailed(ifMatch)
+                : new ResourceNotFoundException("Task", "id", id)));
+    }
+
+    private static boolean sameContent(Task a, Task b) {
+        return a.getTitle().equals(b.getTitle())
+                && Objects.equals(a.getDescription(), b.getDescription())
+                && a.getStatus() == b.getStatus()
+                && a.getDueDate().equals(b.getDueDate());
+    }
+}
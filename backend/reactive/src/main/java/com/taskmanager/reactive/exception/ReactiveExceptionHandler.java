@@ -0,0 +1,168 @@
+package com.taskmanager.reactive.exception;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.taskmanager.exception.ErrorResponse;
+import com.taskmanager.exception.PreconditionFailedException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The WebFlux counterpart of the backend's GlobalExceptionHandler: the same statuses, error titles and
+ * {@link ErrorResponse} bodies, mapped from the exceptions WebFlux raises instead of the Servlet ones
+ * (WebExchangeBindException for @Valid, ServerWebInputException for unreadable bodies and parameters).
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    // Handle validation errors from @Valid
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(
+            WebExchangeBindException ex, ServerWebExchange exchange) {
+
+        List<ObjectError> errors = ex.getBindingResult().getAllErrors();
+        List<ErrorResponse.FieldError> fieldErrors = new ArrayList<>(errors.size());
+        for (ObjectError error : errors) {
+            if (error instanceof FieldError fieldError) {
+                fieldErrors.add(new ErrorResponse.FieldError(
+                        fieldError.getField(), fieldError.getDefaultMessage(), fieldError.getRejectedValue()));
+            } else {
+                fieldErrors.add(new ErrorResponse.FieldError(error.getObjectName(), error.getDefaultMessage(), null));
+            }
+        }
+
+        ErrorResponse errorResponse = errorResponse(HttpStatus.BAD_REQUEST, "Validation Failed",
+                "One or more fields have validation errors", exchange);
+        errorResponse.setFieldErrors(fieldErrors);
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    // Handle request bodies that are not valid JSON or do not fit the model, e.g. an unknown status value,
+    // and path or query parameters that cannot be converted, e.g. a malformed UUID
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(
+            ServerWebInputException ex, ServerWebExchange exchange) {
+
+        JsonMappingException mappingException = findCause(ex, JsonMappingException.class);
+        if (mappingException == null && ex.getMethodParameter() != null
+                && !ex.getMethodParameter().hasParameterAnnotation(RequestBody.class)) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid Argument", ex.getReason(), exchange);
+        }
+        ErrorResponse errorResponse = errorResponse(HttpStatus.BAD_REQUEST, "Malformed Request",
+                "Request body could not be read", exchange);
+        if (mappingException != null && !mappingException.getPath().isEmpty()) {
+            // The value's own validation message (e.g. from TaskStatus.fromValue) when there is one
+            Throwable reason = mappingException.getCause();
+            String message = reason != null ? reason.getMessage() : mappingException.getOriginalMessage();
+            errorResponse.setFieldErrors(List.of(
+                    new ErrorResponse.FieldError(fieldPath(mappingException), message, null)));
+        }
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    // Handle resource not found exceptions
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+            ResourceNotFoundException ex, ServerWebExchange exchange) {
+
+        return error(HttpStatus.NOT_FOUND, "Resource Not Found", ex.getMessage(), exchange);
+    }
+
+    // Handle failed If-Match preconditions
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+            PreconditionFailedException ex, ServerWebExchange exchange) {
+
+        return error(HttpStatus.PRECONDITION_FAILED, "Precondition Failed", ex.getMessage(), exchange);
+    }
+
+    // Handle concurrent modifications detected by the versioned UPDATE
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, ServerWebExchange exchange) {
+
+        return error(HttpStatus.CONFLICT, "Conflict",
+                "Task was modified by another request; reload it and try again", exchange);
+    }
+
+    // Handle illegal argument exceptions
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
+            IllegalArgumentException ex, ServerWebExchange exchange) {
+
+        return error(HttpStatus.BAD_REQUEST, "Invalid Argument", ex.getMessage(), exchange);
+    }
+
+    // Other errors WebFlux raises with a status of their own, e.g. 405 or 415, keep that status
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(
+            ResponseStatusException ex, ServerWebExchange exchange) {
+
+        HttpStatusCode status = ex.getStatusCode();
+        HttpStatus resolved = HttpStatus.resolve(status.value());
+        String error = resolved != null ? resolved.getReasonPhrase() : String.valueOf(status.value());
+        return new ResponseEntity<>(new ErrorResponse(LocalDateTime.now(), status.value(), error, ex.getReason(),
+                exchange.getRequest().getPath().value()), status);
+    }
+
+    // Handle all other exceptions
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGlobalException(
+            Exception ex, ServerWebExchange exchange) {
+
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", ex.getMessage(), exchange);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String error, String message,
+                                                      ServerWebExchange exchange) {
+        return new ResponseEntity<>(errorResponse(status, error, message, exchange), status);
+    }
+
+    private static ErrorResponse errorResponse(HttpStatus status, String error, String message,
+                                               ServerWebExchange exchange) {
+        return new ErrorResponse(LocalDateTime.now(), status.value(), error, message,
+                exchange.getRequest().getPath().value());
+    }
+
+    private static <T extends Throwable> T findCause(Throwable ex, Class<T> type) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+        }
+        return null;
+    }
+
+    // "status" for a single task, "[2].status" for an item of a list
+    private static String fieldPath(JsonMappingException ex) {
+        StringBuilder path = new StringBuilder();
+        for (JsonMappingException.Reference reference : ex.getPath()) {
+            if (reference.getFieldName() != null) {
+                if (path.length() > 0) {
+                    path.append('.');
+                }
+                path.append(reference.getFieldName());
+            } else {
+                path.append('[').append(reference.getIndex()).append(']');
+            }
+        }
+        return path.toString();
+    }
+}
@@ -0,0 +1,232 @@
+package com.taskmanager.reactive.repository;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.reactivestreams.Publisher;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The tasks table over R2DBC, with the same statements the JPA repository runs: keyset pages over
+ * (created_at, id), status stored as its {@link TaskStatus#code()}, and the version column bumped on every
+ * change. Written as SQL against the R2DBC {@link ConnectionFactory} because the shared {@link Task} carries JPA
+ * mapping annotations that Spring Data R2DBC does not read. Each call borrows a connection from the pool for as
+ * long as its statements run and hands it back when the result completes, fails or is cancelled.
+ */
+@Repository
+public class ReactiveTaskRepository {
+
+    private static final String COLUMNS = "id, title, description, status, due_date, created_at, updated_at, version";
+
+    private final ConnectionFactory connectionFactory;
+
+    public ReactiveTaskRepository(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    public Mono<Task> findById(UUID id) {
+        return withConnection(connection -> tasks(connection
+                .createStatement("SELECT " + COLUMNS + " FROM tasks WHERE id = $1")
+                .bind(0, id)))
+                .singleOrEmpty();
+    }
+
+    public Mono<Boolean> existsById(UUID id) {
+        return withConnection(connection -> Flux.from(connection
+                        .createStatement("SELECT 1 FROM tasks WHERE id = $1")
+                        .bind(0, id)
+                        .execute())
+                .flatMap(result -> result.map(row -> Boolean.TRUE)))
+                .hasElements();
+    }
+
+    /**
+     * One page in (createdAt, id) order, starting after the given position when {@code afterCreatedAt} is set.
+     * Filters that are null are left out of the statement rather than bound as nulls, so the planner sees the
+     * same predicates as for the matching index.
+     */
+    public Flux<Task> findPage(LocalDateTime afterCreatedAt, UUID afterId, TaskStatus status,
+                               LocalDateTime dueFrom, LocalDateTime dueTo, int limit) {
+        List<String> predicates = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+        if (afterCreatedAt != null) {
+            // The leading created_at >= bound is what the index seeks to; the OR alone is only a filter
+            predicates.add("created_at >= $" + (parameters.size() + 1) + " AND (created_at > $" + (parameters.size() + 2)
+                    + " OR id > $" + (parameters.size() + 3) + ")");
+            parameters.add(afterCreatedAt);
+            parameters.add(afterCreatedAt);
+            parameters.add(afterId);
+        }
+        if (status != null) {
+            predicates.add("status = $" + (parameters.size() + 1));
+            parameters.add(status.code());
+        }
+        if (dueFrom != null) {
+            predicates.add("due_date >= $" + (parameters.size() + 1));
+            parameters.add(dueFrom);
+        }
+        if (dueTo != null) {
+            predicates.add("due_date < $" + (parameters.size() + 1));
+            parameters.add(dueTo);
+        }
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM tasks");
+        if (!predicates.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        // Same ORDER BY as the JPA page, so H2 reads idx_tasks_status_created_at_id in order when filtering by status
+        sql.append(status != null ? " ORDER BY status ASC, created_at ASC, id ASC" : " ORDER BY created_at ASC, id ASC");
+        sql.append(" LIMIT $").append(parameters.size() + 1);
+        parameters.add(limit);
+
+        return withConnection(connection -> {
+            Statement statement = connection.createStatement(sql.toString());
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.bind(i, parameters.get(i));
+            }
+            return tasks(statement);
+        });
+    }
+
+    // Every task in (createdAt, id) order, emitted as the subscriber requests them
+    public Flux<Task> streamAll() {
+        return withConnection(connection -> tasks(connection
+                .createStatement("SELECT " + COLUMNS + " FROM tasks ORDER BY created_at ASC, id ASC")));
+    }
+
+    // Same initial state as a JPA persist: a random UUID, version 0 and updatedAt equal to createdAt
+    public Mono<Task> insert(Task task) {
+        LocalDateTime now = Task.currentTimestamp();
+        Task created = task.toBuilder()
+                .id(UUID.randomUUID())
+                .createdAt(now)
+                .updatedAt(now)
+                .version(0L)
+                .build();
+        return withConnection(connection -> rowsUpdated(bindDescription(connection
+                        .createStatement("INSERT INTO tasks (" + COLUMNS + ") VALUES ($1, $2, $3, $4, $5, $6, $7, $8)")
+                        .bind(0, created.getId())
+                        .bind(1, created.getTitle()), 2, created.getDescription())
+                .bind(3, created.getStatus().code())
+                .bind(4, created.getDueDate())
+                .bind(5, created.getCreatedAt())
+                .bind(6, created.getUpdatedAt())
+                .bind(7, created.getVersion())))
+                .then(Mono.just(created));
+    }
+
+    /**
+     * Writes {@code task}'s fields if the row still has {@code task}'s version, the check JPA's {@code @Version}
+     * makes on save. Empty when the row has changed (or gone) since it was read.
+     */
+    public Mono<Task> update(Task task) {
+        Task updated = task.toBuilder()
+                .updatedAt(Task.currentTimestamp())
+                .version(task.getVersion() + 1)
+                .build();
+        return withConnection(connection -> rowsUpdated(bindDescription(connection
+                        .createStatement("UPDATE tasks SET title = $1, description = $2, status = $3, due_date = $4, " +
+                                "updated_at = $5, version = version + 1 WHERE id = $6 AND version = $7")
+                        .bind(0, updated.getTitle()), 1, updated.getDescription())
+                .bind(2, updated.getStatus().code())
+                .bind(3, updated.getDueDate())
+                .bind(4, updated.getUpdatedAt())
+                .bind(5, updated.getId())
+                .bind(6, task.getVersion())))
+                .single()
+                .filter(rows -> rows > 0)
+                .map(rows -> updated);
+    }
+
+    /**
+     * The JPA repository's updateStatusReturning: the row is read and written back only if its version is still the
+     * one read, so updatedAt and version only move when the status changes, and a non-null {@code expectedVersion}
+     * makes it a compare-and-set. A concurrent change in between makes the UPDATE miss, and the row is read again.
+     * Returns the task as written, or empty when the row is missing or has another version than expected.
+     */
+    public Mono<Task> updateStatus(UUID id, TaskStatus status, LocalDateTime updatedAt, Long expectedVersion) {
+        return findById(id)
+                .filter(previous -> expectedVersion == null || expectedVersion.equals(previous.getVersion()))
+                .flatMap(previous -> {
+                    if (previous.getStatus() == status) {
+                        return Mono.just(previous);
+                    }
+                    Task updated = previous.toBuilder()
+                            .status(status)
+                            .updatedAt(updatedAt)
+                            .version(previous.getVersion() + 1)
+                            .build();
+                    return withConnection(connection -> rowsUpdated(connection
+                            .createStatement("UPDATE tasks SET status = $1, updated_at = $2, version = version + 1 " +
+                                    "WHERE id = $3 AND version = $4")
+                            .bind(0, status.code())
+                            .bind(1, updatedAt)
+                            .bind(2, id)
+                            .bind(3, previous.getVersion())))
+                            .single()
+                            .flatMap(rows -> rows == 1
+                                    ? Mono.just(updated)
+                                    : updateStatus(id, status, updatedAt, expectedVersion));
+                });
+    }
+
+    // Number of rows deleted: 0 when the task is missing or, with an expectedVersion, has changed
+    public Mono<Long> delete(UUID id, Long expectedVersion) {
+        return withConnection(connection -> {
+            Statement statement = connection.createStatement("DELETE FROM tasks WHERE id = $1" +
+                            (expectedVersion == null ? "" : " AND version = $2"))
+                    .bind(0, id);
+            if (expectedVersion != null) {
+                statement.bind(1, expectedVersion);
+            }
+            return rowsUpdated(statement);
+        }).single();
+    }
+
+    // Holds one pooled connection for the lifetime of the returned Flux
+    private <T> Flux<T> withConnection(Function<Connection, Publisher<T>> work) {
+        return Flux.usingWhen(connectionFactory.create(), work, Connection::close);
+    }
+
+    private static Flux<Task> tasks(Statement statement) {
+        return Flux.from(statement.execute())
+                .concatMap(result -> result.map(ReactiveTaskRepository::toTask));
+    }
+
+    private static Mono<Long> rowsUpdated(Statement statement) {
+        return Flux.from(statement.execute())
+                .concatMap(Result::getRowsUpdated)
+                .reduce(0L, Long::sum);
+    }
+
+    private static Statement bindDescription(Statement statement, int index, String description) {
+        return description == null
+                ? statement.bindNull(index, String.class)
+                : statement.bind(index, description);
+    }
+
+    private static Task toTask(Readable row) {
+        Short status = row.get("status", Short.class);
+        return Task.builder()
+                .id(row.get("id", UUID.class))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .status(status == null ? null : TaskStatus.fromCode(status))
+                .dueDate(row.get("due_date", LocalDateTime.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,271 @@
+package com.taskmanager.reactive.controller;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.reactive.repository.ReactiveTaskRepository;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ReactiveTaskControllerIntegrationTest {
+
+    private static final String TASKS = "/v1/api/tasks";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveTaskRepository taskRepository;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        Flux.usingWhen(connectionFactory.create(),
+                        connection -> Flux.from(connection.createStatement("DELETE FROM tasks").execute())
+                                .flatMap(result -> result.getRowsUpdated()),
+                        Connection::close)
+                .blockLast();
+    }
+
+    @Test
+    void testCreateReadAndConditionalGet() {
+        Task created = create("Write the report");
+
+        assertNotNull(created.getId());
+        assertEquals(TaskStatus.PENDING, created.getStatus());
+        webTestClient.get().uri(TASKS + "/" + created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"")
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Write the report")
+                .jsonPath("$.status").isEqualTo("pending");
+        webTestClient.get().uri(TASKS + "/" + created.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void testErrorBodiesMatchTheServletBackend() {
+        webTestClient.post().uri(TASKS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("title", "", "dueDate", LocalDateTime.now().minusDays(1).toString()))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation Failed")
+                .jsonPath("$.path").isEqualTo(TASKS)
+                .jsonPath("$.fieldErrors[?(@.field == 'dueDate')].message").isEqualTo("Due date must be in the future");
+        webTestClient.post().uri(TASKS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("title", "Valid title", "status", "done", "dueDate", LocalDateTime.now().plusDays(1).toString()))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Malformed Request")
+                .jsonPath("$.fieldErrors[0].field").isEqualTo("status")
+                .jsonPath("$.fieldErrors[0].message").isEqualTo(TaskStatus.INVALID_MESSAGE);
+        webTestClient.get().uri(TASKS + "/" + UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Resource Not Found");
+        webTestClient.get().uri(TASKS + "?limit=0")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid Argument");
+    }
+
+    @Test
+    void testPagesFollowTheCursor() {
+        for (int i = 0; i < 5; i++) {
+            create("Task number " + i);
+        }
+
+        List<Task> firstPage = webTestClient.get().uri(TASKS + "?limit=3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(ReactiveTaskController.NEXT_CURSOR_HEADER)
+                .expectBodyList(Task.class).returnResult().getResponseBody();
+        String cursor = webTestClient.get().uri(TASKS + "?limit=3")
+                .exchange()
+                .returnResult(Task.class).getResponseHeaders().getFirst(ReactiveTaskController.NEXT_CURSOR_HEADER);
+        List<Task> secondPage = webTestClient.get().uri(TASKS + "?limit=3&after=" + cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(ReactiveTaskController.NEXT_CURSOR_HEADER)
+                .expectBodyList(Task.class).returnResult().getResponseBody();
+
+        assertEquals(3, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertEquals("Task number 0", firstPage.get(0).getTitle());
+        assertEquals("Task number 4", secondPage.get(1).getTitle());
+    }
+
+    @Test
+    void testStatusChangesAndConditionalWrites() {
+        Task task = create("Guarded");
+
+        webTestClient.patch().uri(TASKS + "/" + task.getId() + "/status?status=in-progress")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody().jsonPath("$.status").isEqualTo("in-progress");
+        webTestClient.patch().uri(TASKS + "/" + task.getId() + "/status?status=completed")
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .exchange()
+                .expectStatus().isEqualTo(412);
+        webTestClient.patch().uri(TASKS + "/" + task.getId() + "/status?status=completed")
+                .header("Prefer", "return=minimal")
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.patch().uri(TASKS + "/" + UUID.randomUUID() + "/status?status=completed")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.put().uri(TASKS + "/" + task.getId())
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("title", "Renamed", "status", "pending", "dueDate", LocalDateTime.now().plusDays(2).toString()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+                .expectBody().jsonPath("$.title").isEqualTo("Renamed");
+
+        webTestClient.delete().uri(TASKS + "/" + task.getId())
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .exchange()
+                .expectStatus().isEqualTo(412);
+        webTestClient.delete().uri(TASKS + "/" + task.getId())
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri(TASKS + "/" + task.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testIfMatchListsOnStatusChangeAndDelete() {
+        Task task = create("Listed");
+
+        webTestClient.patch().uri(TASKS + "/" + task.getId() + "/status?status=completed")
+                .header(HttpHeaders.IF_MATCH, "\"5\", \"0\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+        // Weak tags never pass the strong comparison, so W/"1" does not match version 1
+        webTestClient.patch().uri(TASKS + "/" + task.getId() + "/status?status=pending")
+                .header(HttpHeaders.IF_MATCH, "W/\"1\", \"7\"")
+                .exchange()
+                .expectStatus().isEqualTo(412);
+        webTestClient.delete().uri(TASKS + "/" + UUID.randomUUID())
+                .header(HttpHeaders.IF_MATCH, "\"0\", \"1\"")
+                .exchange()
+                .expectStatus().isNotFound();
+        webTestClient.delete().uri(TASKS + "/" + task.getId())
+                .header(HttpHeaders.IF_MATCH, "\"0\", \"2\"")
+                .exchange()
+                .expectStatus().isEqualTo(412);
+        webTestClient.delete().uri(TASKS + "/" + task.getId())
+                .header(HttpHeaders.IF_MATCH, "\"9\", \"1\"")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void testConcurrentStatusChangesEachGetTheirOwnVersion() {
+        Task task = create("Contended");
+        List<TaskStatus> statuses = List.of(TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED, TaskStatus.PENDING);
+
+        // A change re-reads the row when another got in first, so no two writers ever report the same version
+        // with different statuses, and the stored row is the one the last writer reported. H2 runs each statement on
+        // the subscribing thread, so every change is subscribed on its own worker to make them overlap.
+        List<Task> written = Flux.range(0, 30)
+                .flatMap(i -> taskRepository.updateStatus(task.getId(), statuses.get(i % statuses.size()),
+                        LocalDateTime.now(), null).subscribeOn(Schedulers.boundedElastic()))
+                .collectList()
+                .block();
+        Task stored = taskRepository.findById(task.getId()).block();
+
+        assertEquals(30, written.size());
+        Map<Long, TaskStatus> statusByVersion = new HashMap<>();
+        for (Task change : written) {
+            TaskStatus earlier = statusByVersion.putIfAbsent(change.getVersion(), change.getStatus());
+            assertTrue(earlier == null || earlier == change.getStatus(), "Version " + change.getVersion() + " written twice");
+        }
+        assertEquals(stored.getVersion(), Collections.max(statusByVersion.keySet()));
+        assertEquals(stored.getStatus(), statusByVersion.get(stored.getVersion()));
+    }
+
+    @Test
+    void testExportStreamsEveryTaskAsNdjson() {
+        for (int i = 0; i < 3; i++) {
+            create("Exported " + i);
+        }
+
+        Flux<Task> lines = webTestClient.get().uri(TASKS + "/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Task.class).getResponseBody();
+
+        StepVerifier.create(lines.map(Task::getTitle))
+                .expectNext("Exported 0", "Exported 1", "Exported 2")
+                .verifyComplete();
+    }
+
+    @Test
+    void testRowsAreReadOnDemand() {
+        for (int i = 0; i < 3; i++) {
+            create("Streamed " + i);
+        }
+
+        // Nothing is emitted beyond what the subscriber has asked for
+        StepVerifier.create(taskRepository.streamAll(), 0)
+                .expectSubscription()
+                .expectNoEvent(java.time.Duration.ofMillis(100))
+                .thenRequest(1)
+                .expectNextMatches(task -> task.getTitle().equals("Streamed 0"))
+                .thenRequest(2)
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    private Task create(String title) {
+        return webTestClient.post().uri(TASKS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("title", title, "description", "Created by the test",
+                        "dueDate", LocalDateTime.now().plusDays(1).toString()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"")
+                .expectBody(Task.class).returnResult().getResponseBody();
+    }
+}
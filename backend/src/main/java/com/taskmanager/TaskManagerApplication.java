@@ -2,10 +2,21 @@ package com.taskmanager;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 public class TaskManagerApplication {
-    public static void main(String[] args) {
-        SpringApplication.run(TaskManagerApplication.class, args);
+
+    // How long the cds build profile's training run keeps the application up after startup
+    private static final long TRAINING_RUN_SETTLE_MILLIS = 2000;
+
+    public static void main(String[] args) throws InterruptedException {
+        ConfigurableApplicationContext context = SpringApplication.run(TaskManagerApplication.class, args);
+        if (Boolean.getBoolean("taskmanager.cds.training-run")) {
+            // Lets the work started at startup (search index build, first statistics reconcile) finish, so its
+            // classes are archived too and the shutdown does not cut it off; exiting then writes the archive
+            Thread.sleep(TRAINING_RUN_SETTLE_MILLIS);
+            System.exit(SpringApplication.exit(context));
+        }
     }
-}
\ No newline at end of file
+}
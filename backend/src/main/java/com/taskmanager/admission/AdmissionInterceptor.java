@@ -0,0 +1,132 @@
+package com.taskmanager.admission;
+
+import com.taskmanager.exception.ServiceUnavailableException;
+import com.taskmanager.exception.TooManyRequestsException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission control in front of {@code TaskController}: the client's rate limit first (429), then the
+ * concurrency limit (503). Both rejections go through {@code GlobalExceptionHandler} and carry Retry-After.
+ * <p>
+ * The concurrency permit is held until the response is complete. That includes async responses such as the
+ * export, which keeps a connection and streams the table after the request thread has handed over. Only the
+ * change stream gives its permit back at the hand-over: it stays open indefinitely but does no database work.
+ */
+@Component
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String API_KEY_HEADER = "X-API-Key";
+
+    static final long BUSY_RETRY_AFTER_SECONDS = 1;
+    private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+
+    private final ClientRateLimiter rateLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    public AdmissionInterceptor(ClientRateLimiter rateLimiter, ConcurrencyLimiter concurrencyLimiter) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async and error dispatches belong to a request that was already admitted
+        if (request.getDispatcherType() != DispatcherType.REQUEST || CorsUtils.isPreFlightRequest(request)) {
+            return true;
+        }
+        long waitNanos = rateLimiter.tryAcquire(clientKey(request));
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException("Rate limit exceeded, please retry later",
+                    Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            throw new ServiceUnavailableException("Server is busy, please retry later", BUSY_RETRY_AFTER_SECONDS);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new AtomicBoolean(true));
+        return true;
+    }
+
+    // The async dispatch's afterCompletion normally releases the permit; the listener also covers async
+    // requests that end without one, e.g. when the client disconnects
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isEventStream(handler)) {
+            release(request);
+            return;
+        }
+        AtomicBoolean permit = (AtomicBoolean) request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit != null) {
+            request.getAsyncContext().addListener(new PermitReleasingListener(permit));
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    // The API key is not authenticated; it only separates integrations that share an address
+    public static String clientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        if (apiKey != null && !apiKey.isBlank()) {
+            return "key:" + apiKey;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static boolean isEventStream(Object handler) {
+        return handler instanceof HandlerMethod handlerMethod
+                && SseEmitter.class.isAssignableFrom(handlerMethod.getReturnType().getParameterType());
+    }
+
+    // Called from the request thread, the async dispatch and the async listener; only the first call releases
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AtomicBoolean permit) {
+            release(permit);
+        }
+    }
+
+    private void release(AtomicBoolean permit) {
+        if (permit.compareAndSet(true, false)) {
+            concurrencyLimiter.release();
+        }
+    }
+
+    private final class PermitReleasingListener implements AsyncListener {
+
+        private final AtomicBoolean permit;
+
+        PermitReleasingListener(AtomicBoolean permit) {
+            this.permit = permit;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(permit);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskmanager.admission;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One {@link TokenBucket} per client, refilled at {@code requests-per-second} and holding up to {@code burst}
+ * requests. Buckets live in a {@link ConcurrentHashMap}, so clients only contend with requests for the same key.
+ * Full buckets are dropped on a schedule, which keeps the map to the clients seen in the last interval.
+ */
+@Component
+public class ClientRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final int burst;
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+
+    public ClientRateLimiter(@Value("${taskmanager.admission.requests-per-second:50}") double requestsPerSecond,
+                             @Value("${taskmanager.admission.burst:100}") int burst) {
+        if (!(requestsPerSecond > 0)) {
+            throw new IllegalArgumentException("taskmanager.admission.requests-per-second must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("taskmanager.admission.burst must be at least 1");
+        }
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+        this.burst = burst;
+    }
+
+    /**
+     * @return 0 if the client may proceed, otherwise the nanoseconds until its next request would be allowed
+     */
+    public long tryAcquire(String client) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(client);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(client, key -> new TokenBucket(emissionIntervalNanos, burst, now));
+        }
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            rejected.increment();
+        }
+        return waitNanos;
+    }
+
+    // A request racing the removal may take a token from the dropped bucket; the client then starts over
+    // with a full one, which is what it would have had a moment later anyway
+    @Scheduled(fixedDelayString = "${taskmanager.admission.idle-eviction-interval:PT1M}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    public int clientCount() {
+        return buckets.size();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskmanager.admission;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the task API requests being processed at once. Requests over the cap are turned away straight
+ * away instead of queueing for a database connection behind the ones already running.
+ */
+@Component
+public class ConcurrencyLimiter {
+
+    private final int maxInFlight;
+    private final Semaphore permits;
+    private final LongAdder rejected = new LongAdder();
+
+    public ConcurrencyLimiter(@Value("${taskmanager.admission.max-in-flight:40}") int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("taskmanager.admission.max-in-flight must be at least 1");
+        }
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int maxInFlight() {
+        return maxInFlight;
+    }
+
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskmanager.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single timestamp (the generic cell rate algorithm): the time at which the bucket
+ * would be full again. Taking a token pushes that time forward by one emission interval, and a request is
+ * allowed while the time stays within {@code burst} intervals of now. One compare-and-set per request, no lock.
+ */
+public final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long emissionIntervalNanos, int burst, long now) {
+        this.emissionIntervalNanos = emissionIntervalNanos;
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token if one is available at {@code now}.
+     *
+     * @return 0 if the token was taken, otherwise the nanoseconds until the next one is available
+     */
+    public long tryAcquire(long now) {
+        while (true) {
+            long current = fullAt.get();
+            // A bucket that filled up in the past starts from now; unused time does not bank extra tokens
+            long start = current - now > 0 ? current : now;
+            long wait = start - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * A full bucket carries no state worth keeping: a new one would behave the same.
+     */
+    public boolean isFull(long now) {
+        return fullAt.get() - now <= 0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskmanager.cache;
+
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-through cache for single-task lookups. Size and TTL come from
+ * {@code spring.cache.caffeine.spec}; every write path invalidates through {@link TaskChangedEvent}.
+ */
+@Component
+public class TaskCache {
+
+    public static final String CACHE_NAME = "tasks";
+
+    private final TaskRepository taskRepository;
+    private final CacheManager cacheManager;
+
+    public TaskCache(TaskRepository taskRepository, CacheManager cacheManager) {
+        this.taskRepository = taskRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    // Loads through Caffeine's compute, so an eviction racing a load waits for the load to finish and then
+    // removes it, instead of the load re-inserting a stale row afterwards. A miss stores nothing: unknown ids
+    // (scanners, stale links) would otherwise fill the cache with empty entries and push out the hot tasks.
+    // Not @Cacheable: its sync mode cannot skip caching a result, and would store the miss as a null value.
+    public Optional<Task> findById(UUID id) {
+        return Optional.ofNullable((Task) nativeCache().get(id, key -> taskRepository.findById(id).orElse(null)));
+    }
+
+    // Evict only once the write is committed; writes made outside a transaction evict immediately
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(event.taskId());
+        }
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache() {
+        return ((CaffeineCache) cacheManager.getCache(CACHE_NAME)).getNativeCache();
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskmanager.config;
+
+import com.taskmanager.idempotency.IdempotencyInterceptor;
+import com.taskmanager.idempotency.IdempotentRequestFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Puts {@link IdempotencyInterceptor} on task creation. Ordered after admission control, so replays
+ * still count against the client's rate limit. {@link IdempotentRequestFilter} runs first on the same path,
+ * so the body's hash is known when the key is claimed.
+ */
+@Configuration
+public class IdempotencyConfig implements WebMvcConfigurer {
+
+    private final IdempotencyInterceptor idempotencyInterceptor;
+
+    public IdempotencyConfig(IdempotencyInterceptor idempotencyInterceptor) {
+        this.idempotencyInterceptor = idempotencyInterceptor;
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotentRequestFilter> idempotentRequestFilter(
+            @Value("${taskmanager.idempotency.max-body-size:16KB}") DataSize maxBodySize) {
+        FilterRegistrationBean<IdempotentRequestFilter> registration =
+                new FilterRegistrationBean<>(new IdempotentRequestFilter((int) maxBodySize.toBytes()));
+        registration.addUrlPatterns("/v1/api/tasks");
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(idempotencyInterceptor).addPathPatterns("/v1/api/tasks").order(1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.taskmanager.config;
+
+import com.taskmanager.dto.TaskSummary;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.ErrorResponse;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatusConverter;
+import com.taskmanager.reminder.TaskReminder;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Contact;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.servers.Server;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * Reflection the native image cannot discover on its own (see the native profile in pom.xml). Spring's AOT step
+ * already covers beans, repositories, entities and the request and response types of controller methods; this
+ * adds what is only reached through Jackson, Hibernate Validator or a JPQL constructor expression. Lombok needs
+ * nothing: its getters, builders and constructors are ordinary compiled code.
+ */
+@Configuration
+@ImportRuntimeHints(RuntimeHintsConfig.TaskManagerRuntimeHints.class)
+public class RuntimeHintsConfig {
+
+    // The built-in validators for the constraints on Task, which Hibernate Validator instantiates reflectively
+    static final List<String> TASK_VALIDATORS = List.of(
+            "org.hibernate.validator.internal.constraintvalidators.bv.NotBlankValidator",
+            "org.hibernate.validator.internal.constraintvalidators.bv.NotNullValidator",
+            "org.hibernate.validator.internal.constraintvalidators.bv.size.SizeValidatorForCharSequence",
+            "org.hibernate.validator.internal.constraintvalidators.bv.time.future.FutureValidatorForLocalDateTime");
+
+    static class TaskManagerRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+            // Written by the change stream, the reminder sinks and the exception handler, not returned by a controller
+            bindings.registerReflectionHints(hints.reflection(), TaskChangedEvent.class, TaskReminder.class,
+                    ErrorResponse.class);
+            // Springdoc serializes the OpenApiConfig bean through its getters
+            bindings.registerReflectionHints(hints.reflection(), OpenAPI.class, Info.class, Contact.class,
+                    License.class, Server.class);
+
+            // Constraint annotations are read from the fields, including by Validator.validateValue in batches
+            hints.reflection().registerType(Task.class, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            for (String validator : TASK_VALIDATORS) {
+                hints.reflection().registerType(TypeReference.of(validator), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+            // Created by the repository's "select new TaskSummary(...)" queries
+            hints.reflection().registerType(TaskSummary.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.reflection().registerType(TaskStatusConverter.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+    }
+}
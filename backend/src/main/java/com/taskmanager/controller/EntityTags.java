@@ -0,0 +1,81 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.exception.PreconditionFailedException;
+import com.taskmanager.model.Task;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Strong entity tags for tasks, derived from the JPA version column, and the
+ * If-Match / If-None-Match comparisons from RFC 9110. Public for the reactive module, which compiles
+ * this class in so both variants answer conditional requests the same way.
+ */
+public final class EntityTags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {
+    }
+
+    public static String of(Task task) {
+        return task.getVersion() == null ? null : "\"" + task.getVersion() + "\"";
+    }
+
+    // If-None-Match uses weak comparison: W/"3" matches "3"
+    public static boolean noneMatchFails(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals(ANY) || stripWeak(tag).equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-Match uses strong comparison, so weak tags never match
+    public static void checkIfMatch(String ifMatch, Task task) {
+        Set<Long> versions = ifMatchVersions(ifMatch);
+        if (versions != null && !versions.contains(task.getVersion())) {
+            throw preconditionFailed(ifMatch);
+        }
+    }
+
+    /**
+     * Versions an If-Match header accepts, or {@code null} when any version does (no If-Match, or If-Match: *).
+     * Weak and malformed tags never pass the strong comparison, so they add nothing; an empty set matches nothing.
+     */
+    public static Set<Long> ifMatchVersions(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals(ANY)) {
+                return null;
+            }
+            if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+                continue;
+            }
+            try {
+                versions.add(Long.parseLong(tag.substring(1, tag.length() - 1)));
+            } catch (NumberFormatException e) {
+                // Not one of our tags, so it cannot match
+            }
+        }
+        return versions;
+    }
+
+    public static PreconditionFailedException preconditionFailed(String ifMatch) {
+        return new PreconditionFailedException("Task has been modified; If-Match " + ifMatch + " does not match its current ETag");
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
@@ -1,10 +1,34 @@
 package com.taskmanager.controller;
 
+import com.taskmanager.cache.TaskCache;
+import com.taskmanager.dto.BatchResponse;
+import com.taskmanager.dto.ChangeToken;
+import com.taskmanager.dto.TaskChanges;
+import com.taskmanager.dto.TaskCursor;
+import com.taskmanager.dto.TaskPatch;
+import com.taskmanager.dto.TaskStats;
+import com.taskmanager.dto.TaskSummary;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.InvalidArgumentException;
 import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.exception.ServiceUnavailableException;
+import com.taskmanager.idempotency.IdempotencyClaim;
+import com.taskmanager.idempotency.IdempotencyInterceptor;
+import com.taskmanager.idempotency.IdempotencyStore;
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
 import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.search.TaskSearchIndex;
+import com.taskmanager.service.StatusGroupCommit;
+import com.taskmanager.service.TaskBatchService;
+import com.taskmanager.service.TaskExportService;
+import com.taskmanager.service.TaskSyncService;
+import com.taskmanager.stats.TaskStatistics;
+import com.taskmanager.stream.TaskEventStream;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,39 +36,367 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("v1/api/tasks")
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = {TaskController.NEXT_CURSOR_HEADER,
+        TaskController.TOTAL_COUNT_HEADER, HttpHeaders.ETAG, IdempotencyInterceptor.REPLAYED_HEADER})
 @Tag(name = "Tasks", description = "Task management APIs")
 public class TaskController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+    static final String NDJSON_VALUE = "application/x-ndjson";
+    static final int MAX_BATCH_SIZE = 500;
+    static final String RETURN_MINIMAL = "return=minimal";
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    static final int DEFAULT_SEARCH_LIMIT = 20;
+    static final int MAX_SEARCH_LIMIT = 100;
+    static final int MAX_SEARCH_OFFSET = 10_000;
+    static final long SEARCH_RETRY_AFTER_SECONDS = 5;
+    static final int DEFAULT_CHANGES_LIMIT = 500;
+    static final long STATS_RETRY_AFTER_SECONDS = 5;
+
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskCache taskCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskEventStream taskEventStream;
+
+    @Autowired
+    private TaskSyncService taskSyncService;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    // Only present with taskmanager.status-writes.group-commit.enabled=true
+    @Autowired(required = false)
+    private StatusGroupCommit statusGroupCommit;
+
+    @Operation(
+            summary = "Get tasks",
+            description = "Retrieve a page of tasks ordered by creation time. Pass the X-Next-Cursor response header " +
+                    "back as 'after' to fetch the next page; the header is absent on the last page. " +
+                    "Add view=summary to get only the list-view fields."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved tasks",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = Task.class, type = "array"))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid paging or filter parameters",
+                    content = @Content
+            )
+    })
+    @GetMapping
+    public ResponseEntity<List<Task>> getAllTasks(
+            @Parameter(description = "Maximum number of tasks to return (1-" + MAX_PAGE_SIZE + ")", example = "100")
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @Parameter(description = "Cursor returned in X-Next-Cursor by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Only return tasks with this status",
+                    schema = @Schema(allowableValues = {"pending", "in-progress", "completed"}))
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Only return tasks due at or after this time", example = "2023-12-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @Parameter(description = "Only return tasks due before this time", example = "2023-12-31T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo) {
+
+        Pageable pageable = pageRequest(limit);
+        TaskStatus statusFilter = statusFilter(status);
+        List<Task> tasks;
+        if (after == null) {
+            tasks = taskRepository.findPage(statusFilter, dueFrom, dueTo, pageable);
+        } else {
+            TaskCursor cursor = TaskCursor.decode(after);
+            tasks = taskRepository.findPageAfter(cursor.createdAt(), cursor.id(), statusFilter, dueFrom, dueTo, pageable);
+        }
+        return page(tasks, limit, TaskCursor::of);
+    }
+
+    @Operation(
+            summary = "Get task summaries",
+            description = "Same paging and filters as 'Get tasks', but each task only carries id, title, status and " +
+                    "dueDate. Only those columns are read, which keeps large descriptions out of list responses."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved task summaries",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskSummary.class, type = "array"))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid paging or filter parameters",
+                    content = @Content
+            )
+    })
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<List<TaskSummary>> getTaskSummaries(
+            @Parameter(description = "Maximum number of tasks to return (1-" + MAX_PAGE_SIZE + ")", example = "100")
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @Parameter(description = "Cursor returned in X-Next-Cursor by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Only return tasks with this status",
+                    schema = @Schema(allowableValues = {"pending", "in-progress", "completed"}))
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Only return tasks due at or after this time", example = "2023-12-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @Parameter(description = "Only return tasks due before this time", example = "2023-12-31T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo) {
+
+        Pageable pageable = pageRequest(limit);
+        TaskStatus statusFilter = statusFilter(status);
+        List<TaskSummary> summaries;
+        if (after == null) {
+            summaries = taskRepository.findSummaryPage(statusFilter, dueFrom, dueTo, pageable);
+        } else {
+            TaskCursor cursor = TaskCursor.decode(after);
+            summaries = taskRepository.findSummaryPageAfter(cursor.createdAt(), cursor.id(), statusFilter, dueFrom, dueTo, pageable);
+        }
+        return page(summaries, limit, TaskCursor::of);
+    }
+
+    // Fetch one extra row to learn whether another page exists without a count query
+    private static Pageable pageRequest(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidArgumentException("Invalid limit. Must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return PageRequest.ofSize(limit + 1);
+    }
+
+    private static TaskStatus statusFilter(String status) {
+        return status == null ? null : TaskStatus.fromValue(status);
+    }
+
+    private static <T> ResponseEntity<List<T>> page(List<T> rows, int limit, Function<T, TaskCursor> cursorOf) {
+        if (rows.size() <= limit) {
+            return ResponseEntity.ok(rows);
+        }
+        List<T> page = rows.subList(0, limit);
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, cursorOf.apply(page.get(limit - 1)).encode())
+                .body(page);
+    }
+
     @Operation(
-            summary = "Get all tasks",
-            description = "Retrieve a list of all tasks in the system"
+            summary = "Export all tasks",
+            description = "Stream every task as newline-delimited JSON, one task per line. " +
+                    "The response is written incrementally, so it is suitable for very large tables."
     )
     @ApiResponse(
             responseCode = "200",
-            description = "Successfully retrieved tasks",
-            content = @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = Task.class, type = "array"))
+            description = "Tasks streamed successfully",
+            content = @Content(mediaType = NDJSON_VALUE)
     )
-    @GetMapping
-    public List<Task> getAllTasks() {
-        return taskRepository.findAll();
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        StreamingResponseBody body = taskExportService::exportTo;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"")
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Stream task changes",
+            description = "Server-Sent Events feed of every committed write. Each 'task' event carries JSON with the " +
+                    "change type (CREATED, UPDATED, STATUS_CHANGED or DELETED), the taskId and, except for deletions, " +
+                    "the task after the change. A reconnecting client sends Last-Event-ID (EventSource does this " +
+                    "automatically) to receive the events it missed; a 'reset' event means they are no longer " +
+                    "available and the task list should be reloaded."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Event stream opened",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges(
+            @Parameter(description = "Id of the last event received, to resume after a disconnect")
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+        return taskEventStream.subscribe(lastEventId);
+    }
+
+    @Operation(
+            summary = "Sync task changes",
+            description = "Delta sync for offline clients. Returns the tasks created or updated since the token and " +
+                    "the ids of tasks deleted since, plus nextToken to pass as 'since' next time. Without a token " +
+                    "every task is returned. While hasMore is true, fetch again straight away with nextToken. " +
+                    "Changes from the last few seconds are held back until they have settled."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Changes since the token",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskChanges.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid token or limit",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "410",
+                    description = "Token is older than the deletion history; reload all tasks and sync without a token",
+                    content = @Content
+            )
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChanges> getChanges(
+            @Parameter(description = "nextToken from the previous sync; omit for an initial sync")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of updated tasks, and of deletions, to return (1-" + MAX_PAGE_SIZE + ")", example = "500")
+            @RequestParam(defaultValue = "" + DEFAULT_CHANGES_LIMIT) int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidArgumentException("Invalid limit. Must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        ChangeToken token = since == null ? null : ChangeToken.decode(since);
+        return ResponseEntity.ok(taskSyncService.changesSince(token, limit));
+    }
+
+    @Operation(
+            summary = "Get task statistics",
+            description = "Counts for the dashboard: total, per status, overdue and due within the next 7 days. " +
+                    "Per-status counts are kept up to date on every write; overdue and due-soon counts may be up to " +
+                    "15 seconds old. Cost does not grow with the number of tasks."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Current statistics",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskStats.class))
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Statistics are still being loaded after startup; retry after the Retry-After delay",
+                    content = @Content
+            )
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStats> getStats() {
+        if (!taskStatistics.isReady()) {
+            throw new ServiceUnavailableException("Task statistics are still being loaded", STATS_RETRY_AFTER_SECONDS);
+        }
+        return ResponseEntity.ok(taskStatistics.snapshot());
+    }
+
+    @Operation(
+            summary = "Search tasks",
+            description = "Full-text search over task titles and descriptions. Every word in q must match, either " +
+                    "exactly or as the start of a longer word; results are ranked by relevance, with title matches " +
+                    "weighted above description matches. The total number of matches is returned in X-Total-Count."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Matching tasks, best match first",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = Task.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing query or invalid paging parameters",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "The search index is still being built after startup; retry after Retry-After seconds",
+                    content = @Content
+            )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<Task>> searchTasks(
+            @Parameter(description = "Search words", example = "documentation")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of tasks to return (1-" + MAX_SEARCH_LIMIT + ")", example = "20")
+            @RequestParam(defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit,
+            @Parameter(description = "Number of ranked matches to skip (0-" + MAX_SEARCH_OFFSET + ")", example = "0")
+            @RequestParam(defaultValue = "0") int offset) {
+
+        if (q.isBlank()) {
+            throw new InvalidArgumentException("Search query must not be empty");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new InvalidArgumentException("Invalid limit. Must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        if (offset < 0 || offset > MAX_SEARCH_OFFSET) {
+            throw new InvalidArgumentException("Invalid offset. Must be between 0 and " + MAX_SEARCH_OFFSET);
+        }
+
+        if (!taskSearchIndex.isReady()) {
+            throw new ServiceUnavailableException("Search index is still being built", SEARCH_RETRY_AFTER_SECONDS);
+        }
+
+        TaskSearchIndex.SearchResult result = taskSearchIndex.search(q, offset, limit);
+        // One IN query for the page, then put the rows back into rank order
+        Map<UUID, Task> byId = new HashMap<>();
+        for (Task task : taskRepository.findAllById(result.ids())) {
+            byId.put(task.getId(), task);
+        }
+        List<Task> tasks = new ArrayList<>(result.ids().size());
+        for (UUID id : result.ids()) {
+            Task task = byId.get(id);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(result.total()))
+                .body(tasks);
     }
 
     @Operation(
             summary = "Get task by ID",
-            description = "Retrieve a specific task by its unique identifier"
+            description = "Retrieve a specific task by its unique identifier. The response carries the task's ETag; " +
+                    "send it back in If-None-Match to get 304 Not Modified while the task is unchanged."
     )
     @ApiResponses({
             @ApiResponse(
@@ -53,6 +405,11 @@ public class TaskController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = Task.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Task unchanged since the ETag given in If-None-Match",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Task not found",
@@ -64,15 +421,25 @@ public class TaskController {
     @GetMapping("/{id}")
     public ResponseEntity<Task> getTaskById(
             @Parameter(description = "UUID of the task to be retrieved", example = "123e4567-e89b-12d3-a456-426614174000")
-            @PathVariable UUID id) {
-        Task task = taskRepository.findById(id)
+            @PathVariable UUID id,
+            @Parameter(description = "ETag from a previous response; unchanged tasks return 304", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Task task = taskCache.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
-        return ResponseEntity.ok(task);
+
+        // Pollers that already hold the current version skip the body and its serialization
+        String eTag = EntityTags.of(task);
+        if (EntityTags.noneMatchFails(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(task);
     }
 
     @Operation(
             summary = "Create a new task",
-            description = "Create a new task with validation. Title and due date are required fields."
+            description = "Create a new task with validation. Title and due date are required fields. " +
+                    "Send an Idempotency-Key to make retries safe: a retry with the same key gets the original " +
+                    "response (marked Idempotent-Replayed) instead of creating the task again."
     )
     @ApiResponses({
             @ApiResponse(
@@ -85,25 +452,43 @@ public class TaskController {
                     responseCode = "400",
                     description = "Invalid input data",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "The Idempotency-Key has already been used with a different request body",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "A request with the same Idempotency-Key is still in progress",
+                    content = @Content
             )
     })
 
 
+    @Parameter(in = ParameterIn.HEADER, name = IdempotencyInterceptor.IDEMPOTENCY_KEY_HEADER,
+            description = "Client-chosen key identifying this creation across retries", example = "6f1c2a9e-create-1")
     @PostMapping
     public ResponseEntity<Task> createTask(
+            @RequestAttribute(value = IdempotencyInterceptor.CLAIM_ATTRIBUTE, required = false) IdempotencyClaim idempotencyClaim,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Task object to be created",
                     required = true,
                     content = @Content(schema = @Schema(implementation = Task.class))
             )
             @Valid @RequestBody Task task) {
-        Task savedTask = taskRepository.save(task);
-        return ResponseEntity.status(201).body(savedTask);
+        // IdempotencyInterceptor has already replayed known keys; a key that gets here is claimed by this request
+        Task savedTask = idempotencyClaim == null
+                ? taskRepository.save(task)
+                : idempotencyStore.create(idempotencyClaim, () -> taskRepository.save(task), EntityTags::of);
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask));
+        return ResponseEntity.status(201).eTag(EntityTags.of(savedTask)).body(savedTask);
     }
 
     @Operation(
             summary = "Update entire task",
-            description = "Update all fields of an existing task"
+            description = "Update all fields of an existing task. Send the task's ETag in If-Match to reject the " +
+                    "update with 412 if someone else has changed the task in the meantime."
     )
     @ApiResponses({
             @ApiResponse(
@@ -121,6 +506,16 @@ public class TaskController {
                     responseCode = "404",
                     description = "Task not found",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Task was modified concurrently",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the task's current ETag",
+                    content = @Content
             )
     })
 
@@ -129,6 +524,8 @@ public class TaskController {
     public ResponseEntity<Task> updateTask(
             @Parameter(description = "UUID of the task to be updated", example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID id,
+            @Parameter(description = "Only apply the change if the task still has this ETag", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Updated task object",
                     required = true,
@@ -138,19 +535,24 @@ public class TaskController {
 
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+        // Checks the version we read; @Version then guards the window between this read and the write
+        EntityTags.checkIfMatch(ifMatch, task);
 
+        TaskStatus previousStatus = task.getStatus();
         task.setTitle(taskDetails.getTitle());
         task.setDescription(taskDetails.getDescription());
         task.setStatus(taskDetails.getStatus());
         task.setDueDate(taskDetails.getDueDate());
 
         Task updatedTask = taskRepository.save(task);
-        return ResponseEntity.ok(updatedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(updatedTask, previousStatus));
+        return ResponseEntity.ok().eTag(EntityTags.of(updatedTask)).body(updatedTask);
     }
 
     @Operation(
             summary = "Update task status",
-            description = "Update only the status of a task. Valid status values: pending, in-progress, completed"
+            description = "Update only the status of a task. Valid status values: pending, in-progress, completed. " +
+                    "Send 'Prefer: return=minimal' to receive 204 No Content instead of the updated task."
     )
     @ApiResponses({
             @ApiResponse(
@@ -159,6 +561,11 @@ public class TaskController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = Task.class))
             ),
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Status updated successfully (Prefer: return=minimal)",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid status value",
@@ -168,6 +575,16 @@ public class TaskController {
                     responseCode = "404",
                     description = "Task not found",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the task's current ETag",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many status changes waiting for group commit (with Retry-After)",
+                    content = @Content
             )
     })
 
@@ -178,18 +595,58 @@ public class TaskController {
             @PathVariable UUID id,
             @Parameter(description = "New status value", example = "completed",
                     schema = @Schema(allowableValues = {"pending", "in-progress", "completed"}))
-            @RequestParam String status) {
+            @RequestParam String status,
+            @Parameter(description = "Only apply the change if the task still has this ETag", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = "Set to 'return=minimal' to skip returning the updated task", example = "return=minimal")
+            @RequestHeader(value = "Prefer", required = false) String prefer) {
+
+        TaskStatus newStatus = TaskStatus.fromValue(status);
 
-        if (!isValidStatus(status)) {
-            throw new IllegalArgumentException("Invalid status value. Must be one of: pending, in-progress, completed");
+        // No entity load or dirty check either way; a missing row (or a stale If-Match version) shows up as an empty result
+        Long expectedVersion = expectedVersion(id, ifMatch);
+        TaskRepository.StatusChange change;
+        if (statusGroupCommit != null) {
+            // Committed together with concurrent status changes; the event has been published by then
+            change = statusGroupCommit.updateStatus(id, newStatus, expectedVersion)
+                    .orElseThrow(() -> statusUpdateMissed(id, ifMatch));
+        } else {
+            change = taskRepository.updateStatusReturning(id, newStatus, Task.currentTimestamp(), expectedVersion)
+                    .orElseThrow(() -> statusUpdateMissed(id, ifMatch));
+            eventPublisher.publishEvent(TaskChangedEvent.statusChanged(change.task(), change.previousStatus()));
         }
+        Task updatedTask = change.task();
+        if (prefer != null && prefer.contains(RETURN_MINIMAL)) {
+            return ResponseEntity.noContent().header("Preference-Applied", RETURN_MINIMAL).build();
+        }
+        return ResponseEntity.ok().eTag(EntityTags.of(updatedTask)).body(updatedTask);
+    }
 
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+    // The version the conditional update must find. If-Match normally names one; with a list (or only weak
+    // tags) the task's current version is read first and must be one of those listed.
+    private Long expectedVersion(UUID id, String ifMatch) {
+        Set<Long> versions = EntityTags.ifMatchVersions(ifMatch);
+        if (versions == null) {
+            return null;
+        }
+        if (versions.size() == 1) {
+            return versions.iterator().next();
+        }
+        Long current = taskRepository.findUnmanagedById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id))
+                .getVersion();
+        if (!versions.contains(current)) {
+            throw EntityTags.preconditionFailed(ifMatch);
+        }
+        return current;
+    }
 
-        task.setStatus(status);
-        Task updatedTask = taskRepository.save(task);
-        return ResponseEntity.ok(updatedTask);
+    // Only reached when nothing was updated, so the extra existence check stays off the happy path
+    private RuntimeException statusUpdateMissed(UUID id, String ifMatch) {
+        if (ifMatch != null && taskRepository.existsById(id)) {
+            return EntityTags.preconditionFailed(ifMatch);
+        }
+        return new ResourceNotFoundException("Task", "id", id);
     }
 
     @Operation(
@@ -206,6 +663,11 @@ public class TaskController {
                     responseCode = "404",
                     description = "Task not found",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the task's current ETag",
+                    content = @Content
             )
     })
 
@@ -213,16 +675,110 @@ public class TaskController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteTask(
             @Parameter(description = "UUID of the task to be deleted", example = "123e4567-e89b-12d3-a456-426614174000")
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            @Parameter(description = "Only apply the change if the task still has this ETag", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+        EntityTags.checkIfMatch(ifMatch, task);
 
-        taskRepository.delete(task);
+        taskSyncService.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(id, task.getStatus()));
         return ResponseEntity.ok().build();
     }
 
-    private boolean isValidStatus(String status) {
-        return status != null &&
-                (status.equals("pending") || status.equals("in-progress") || status.equals("completed"));
+    @Operation(
+            summary = "Create tasks in bulk",
+            description = "Create up to " + MAX_BATCH_SIZE + " tasks in one request. Each task is validated on its own; " +
+                    "valid tasks are saved and invalid ones are reported in the per-item results."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed; see the per-item status codes",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or oversized batch",
+                    content = @Content
+            )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> createTasks(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Task objects to be created",
+                    required = true,
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = Task.class)))
+            )
+            @RequestBody List<Task> tasks) {
+        checkBatchSize(tasks);
+        return ResponseEntity.ok(taskBatchService.createAll(tasks));
+    }
+
+    @Operation(
+            summary = "Update tasks in bulk",
+            description = "Apply partial updates to up to " + MAX_BATCH_SIZE + " tasks in one request. " +
+                    "Only the fields present in each item are changed and validated."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed; see the per-item status codes",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or oversized batch",
+                    content = @Content
+            )
+    })
+    @PatchMapping("/batch")
+    public ResponseEntity<BatchResponse> updateTasks(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Partial task updates, each identified by id",
+                    required = true,
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskPatch.class)))
+            )
+            @RequestBody List<TaskPatch> patches) {
+        checkBatchSize(patches);
+        return ResponseEntity.ok(taskBatchService.updateAll(patches));
+    }
+
+    @Operation(
+            summary = "Delete tasks in bulk",
+            description = "Delete up to " + MAX_BATCH_SIZE + " tasks in one request, identified by their UUIDs"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed; see the per-item status codes",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or oversized batch",
+                    content = @Content
+            )
+    })
+    @DeleteMapping("/batch")
+    public ResponseEntity<BatchResponse> deleteTasks(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "UUIDs of the tasks to be deleted",
+                    required = true,
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = UUID.class)))
+            )
+            @RequestBody List<UUID> ids) {
+        checkBatchSize(ids);
+        return ResponseEntity.ok(taskBatchService.deleteAll(ids));
+    }
+
+    private void checkBatchSize(List<?> items) {
+        if (items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new InvalidArgumentException("Invalid batch size. Must contain between 1 and " + MAX_BATCH_SIZE + " items");
+        }
     }
 }
\ No newline at end of file
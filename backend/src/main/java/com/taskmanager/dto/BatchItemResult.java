@@ -0,0 +1,60 @@
+package com.taskmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.taskmanager.exception.ErrorResponse;
+import com.taskmanager.model.Task;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Outcome of a single item in a batch request")
+public class BatchItemResult {
+
+    @Schema(description = "Position of the item in the request array", example = "0")
+    private int index;
+
+    @Schema(description = "HTTP status code for this item", example = "201")
+    private int status;
+
+    @Schema(description = "Identifier of the affected task", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "The created or updated task")
+    private Task task;
+
+    @Schema(description = "Error message when the item failed", example = "Task not found with id: '123e4567-e89b-12d3-a456-426614174000'")
+    private String message;
+
+    @Schema(description = "Field validation errors when the item failed validation")
+    private List<ErrorResponse.FieldError> fieldErrors;
+
+    public static BatchItemResult success(int index, int status, Task task) {
+        return new BatchItemResult(index, status, task.getId(), task, null, null);
+    }
+
+    public static BatchItemResult deleted(int index, UUID id) {
+        return new BatchItemResult(index, 200, id, null, null, null);
+    }
+
+    public static BatchItemResult failure(int index, int status, UUID id, String message) {
+        return new BatchItemResult(index, status, id, null, message, null);
+    }
+
+    public static BatchItemResult invalid(int index, UUID id, List<ErrorResponse.FieldError> fieldErrors) {
+        return new BatchItemResult(index, 400, id, null, "One or more fields have validation errors", fieldErrors);
+    }
+
+    @JsonIgnore
+    public boolean isSuccessful() {
+        return status < 400;
+    }
+}
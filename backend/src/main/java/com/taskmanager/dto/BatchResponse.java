@@ -0,0 +1,31 @@
+package com.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Per-item results of a batch request")
+public class BatchResponse {
+
+    @Schema(description = "Number of items that were applied", example = "9")
+    private int succeeded;
+
+    @Schema(description = "Number of items that were rejected", example = "1")
+    private int failed;
+
+    @Schema(description = "Result for each item, in request order")
+    private List<BatchItemResult> results;
+
+    public static BatchResponse of(List<BatchItemResult> results) {
+        results.sort(Comparator.comparingInt(BatchItemResult::getIndex));
+        int succeeded = (int) results.stream().filter(BatchItemResult::isSuccessful).count();
+        return new BatchResponse(succeeded, results.size() - succeeded, results);
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.exception.InvalidArgumentException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque continuation token for delta sync: the keyset position reached in the (updatedAt, id) ordering of
+ * tasks and in the (deletedAt, taskId) ordering of tombstones. Both feeds are read independently, so each
+ * keeps its own position. Encoded as URL-safe base64 like {@link TaskCursor}.
+ */
+public record ChangeToken(LocalDateTime updatedAt, UUID taskId, LocalDateTime deletedAt, UUID tombstoneId) {
+
+    // Sorts before every generated id; a position (t, NIL) means "everything up to but excluding t was read"
+    public static final UUID NIL = new UUID(0, 0);
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, updatedAt.toString(), taskId.toString(), deletedAt.toString(), tombstoneId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 4) {
+                throw new InvalidArgumentException("Invalid sync token: " + token);
+            }
+            return new ChangeToken(
+                    LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]),
+                    LocalDateTime.parse(parts[2]), UUID.fromString(parts[3]));
+        } catch (DateTimeParseException e) {
+            throw new InvalidArgumentException("Invalid sync token: " + token);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.Task;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Tasks created, updated or deleted since a sync token")
+public class TaskChanges {
+
+    @Schema(description = "Tasks created or updated since the token, oldest change first; apply these before the deletions")
+    private List<Task> updated;
+
+    @Schema(description = "Ids of tasks deleted since the token", example = "[\"123e4567-e89b-12d3-a456-426614174000\"]")
+    private List<UUID> deleted;
+
+    @Schema(description = "Opaque token to pass as 'since' on the next sync")
+    private String nextToken;
+
+    @Schema(description = "True when more changes are available right away; fetch again with nextToken", example = "false")
+    private boolean hasMore;
+}
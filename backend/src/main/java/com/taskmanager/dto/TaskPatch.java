@@ -0,0 +1,35 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Partial update of a task; only non-null fields are applied")
+public class TaskPatch {
+
+    @Schema(description = "Unique identifier of the task to update", example = "123e4567-e89b-12d3-a456-426614174000",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private UUID id;
+
+    @Schema(description = "New title of the task", example = "Complete project documentation")
+    private String title;
+
+    @Schema(description = "New description of the task", example = "Write comprehensive API documentation")
+    private String description;
+
+    @Schema(description = "New status of the task", example = "completed", allowableValues = {"pending", "in-progress", "completed"})
+    private TaskStatus status;
+
+    @Schema(description = "New due date and time of the task", example = "2023-12-31T23:59:59")
+    private LocalDateTime dueDate;
+}
@@ -0,0 +1,27 @@
+package com.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Task counts for the dashboard")
+public class TaskStats {
+
+    @Schema(description = "Total number of tasks", example = "42")
+    private long total;
+
+    @Schema(description = "Number of tasks in each status", example = "{\"pending\": 20, \"in-progress\": 12, \"completed\": 10}")
+    private Map<String, Long> byStatus;
+
+    @Schema(description = "Tasks that are not completed and whose due date has passed", example = "3")
+    private long overdue;
+
+    @Schema(description = "Tasks that are not completed and are due within the next 7 days", example = "8")
+    private long dueSoon;
+}
@@ -0,0 +1,27 @@
+package com.taskmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.taskmanager.model.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The fields a task list shows, selected straight into this record by the repository's summary queries
+ * (GET /v1/api/tasks?view=summary). Never a managed entity, so it is not dirty-checked or cached.
+ * {@code createdAt} is only there to build the next-page cursor and is not serialized.
+ */
+@Schema(description = "Task as shown in list views")
+public record TaskSummary(
+        @Schema(description = "Unique identifier of the task", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID id,
+        @Schema(description = "Title of the task", example = "Complete project documentation")
+        String title,
+        @Schema(description = "Current status of the task", example = "in-progress", allowableValues = {"pending", "in-progress", "completed"})
+        TaskStatus status,
+        @Schema(description = "Due date and time of the task", example = "2023-12-31T23:59:59")
+        LocalDateTime dueDate,
+        @JsonIgnore
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,37 @@
+package com.taskmanager.event;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+
+import java.util.UUID;
+
+/**
+ * Published after a task has been written. {@code task} is the state after the change,
+ * or {@code null} for deletions. {@code previousStatus} is the status before the change,
+ * or {@code null} for creations.
+ */
+public record TaskChangedEvent(Type type, UUID taskId, Task task, TaskStatus previousStatus) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(Type.CREATED, task.getId(), task, null);
+    }
+
+    public static TaskChangedEvent updated(Task task, TaskStatus previousStatus) {
+        return new TaskChangedEvent(Type.UPDATED, task.getId(), task, previousStatus);
+    }
+
+    public static TaskChangedEvent statusChanged(Task task, TaskStatus previousStatus) {
+        return new TaskChangedEvent(Type.STATUS_CHANGED, task.getId(), task, previousStatus);
+    }
+
+    public static TaskChangedEvent deleted(UUID taskId, TaskStatus previousStatus) {
+        return new TaskChangedEvent(Type.DELETED, taskId, null, previousStatus);
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskmanager.exception;
+
+/**
+ * Base for exceptions that end a request with an expected error status, such as a 404 for an unknown id.
+ * Clients and scanners trigger these on every bad request, so no stack trace is captured: it would only ever
+ * point at the throw site, and filling it in costs more than handling the error.
+ */
+public abstract class ExpectedException extends RuntimeException {
+
+    protected ExpectedException(String message) {
+        super(message, null, false, false);
+    }
+}
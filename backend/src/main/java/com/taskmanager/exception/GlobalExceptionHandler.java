@@ -1,44 +1,56 @@
 package com.taskmanager.exception;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String URI_PREFIX = "uri=";
+
     // Handle validation errors from @Valid
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(
             MethodArgumentNotValidException ex, WebRequest request) {
         
-        List<ErrorResponse.FieldError> fieldErrors = ex.getBindingResult()
-                .getAllErrors()
-                .stream()
-                .map(error -> {
-                    String fieldName = ((FieldError) error).getField();
-                    String errorMessage = error.getDefaultMessage();
-                    Object rejectedValue = ((FieldError) error).getRejectedValue();
-                    return new ErrorResponse.FieldError(fieldName, errorMessage, rejectedValue);
-                })
-                .collect(Collectors.toList());
-
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.BAD_REQUEST.value(),
-                "Validation Failed",
-                "One or more fields have validation errors",
-                request.getDescription(false).replace("uri=", "")
-        );
+        List<ObjectError> errors = ex.getBindingResult().getAllErrors();
+        List<ErrorResponse.FieldError> fieldErrors = new ArrayList<>(errors.size());
+        for (ObjectError error : errors) {
+            if (error instanceof FieldError fieldError) {
+                fieldErrors.add(new ErrorResponse.FieldError(
+                        fieldError.getField(), fieldError.getDefaultMessage(), fieldError.getRejectedValue()));
+            } else {
+                fieldErrors.add(new ErrorResponse.FieldError(error.getObjectName(), error.getDefaultMessage(), null));
+            }
+        }
+
+        ErrorResponse errorResponse = errorResponse(HttpStatus.BAD_REQUEST, "Validation Failed",
+                "One or more fields have validation errors", request);
         errorResponse.setFieldErrors(fieldErrors);
 
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
@@ -49,42 +61,146 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleConstraintViolationException(
             ConstraintViolationException ex, WebRequest request) {
         
-        List<ErrorResponse.FieldError> fieldErrors = ex.getConstraintViolations()
-                .stream()
-                .map(violation -> {
-                    String fieldName = violation.getPropertyPath().toString();
-                    String errorMessage = violation.getMessage();
-                    Object rejectedValue = violation.getInvalidValue();
-                    return new ErrorResponse.FieldError(fieldName, errorMessage, rejectedValue);
-                })
-                .collect(Collectors.toList());
-
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.BAD_REQUEST.value(),
-                "Constraint Violation",
-                "One or more constraints were violated",
-                request.getDescription(false).replace("uri=", "")
-        );
+        Set<ConstraintViolation<?>> violations = ex.getConstraintViolations();
+        List<ErrorResponse.FieldError> fieldErrors = new ArrayList<>(violations.size());
+        for (ConstraintViolation<?> violation : violations) {
+            fieldErrors.add(new ErrorResponse.FieldError(
+                    violation.getPropertyPath().toString(), violation.getMessage(), violation.getInvalidValue()));
+        }
+
+        ErrorResponse errorResponse = errorResponse(HttpStatus.BAD_REQUEST, "Constraint Violation",
+                "One or more constraints were violated", request);
         errorResponse.setFieldErrors(fieldErrors);
 
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    // Handle request bodies that are not valid JSON or do not fit the model, e.g. an unknown status value
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleMessageNotReadableException(
+            HttpMessageNotReadableException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = errorResponse(HttpStatus.BAD_REQUEST, "Malformed Request",
+                "Request body could not be read", request);
+        if (ex.getCause() instanceof JsonMappingException mappingException && !mappingException.getPath().isEmpty()) {
+            // The value's own validation message (e.g. from TaskStatus.fromValue) when there is one
+            Throwable reason = mappingException.getCause();
+            String message = reason != null ? reason.getMessage() : mappingException.getOriginalMessage();
+            errorResponse.setFieldErrors(List.of(
+                    new ErrorResponse.FieldError(fieldPath(mappingException), message, null)));
+        }
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    // Handle path and query parameters that cannot be converted, e.g. GET /v1/api/tasks/not-a-uuid. The message
+    // names the parameter instead of repeating the conversion failure, which carries Java type names.
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(
+            MethodArgumentTypeMismatchException ex, WebRequest request) {
+
+        return error(HttpStatus.BAD_REQUEST, "Invalid Argument",
+                "Invalid value '" + ex.getValue() + "' for parameter '" + ex.getName() + "'", request);
+    }
+
+    // Handle required query parameters that were not sent
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ErrorResponse> handleMissingServletRequestParameterException(
+            MissingServletRequestParameterException ex, WebRequest request) {
+
+        return error(HttpStatus.BAD_REQUEST, "Invalid Argument",
+                "Missing required parameter '" + ex.getParameterName() + "'", request);
+    }
+
+    // Handle methods a path does not support, e.g. DELETE /v1/api/tasks; the Allow header lists the ones it does
+    @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
+    public ResponseEntity<ErrorResponse> handleMethodNotSupportedException(
+            HttpRequestMethodNotSupportedException ex, WebRequest request) {
+
+        Set<HttpMethod> supported = ex.getSupportedHttpMethods();
+        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED)
+                .allow(supported != null ? supported.toArray(new HttpMethod[0]) : new HttpMethod[0])
+                .body(errorResponse(HttpStatus.METHOD_NOT_ALLOWED, "Method Not Allowed",
+                        "Request method '" + ex.getMethod() + "' is not supported", request));
+    }
+
     // Handle resource not found exceptions
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex, WebRequest request) {
         
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.NOT_FOUND.value(),
-                "Resource Not Found",
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
+        return error(HttpStatus.NOT_FOUND, "Resource Not Found", ex.getMessage(), request);
+    }
+
+    // Handle failed If-Match preconditions
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+            PreconditionFailedException ex, WebRequest request) {
+
+        return error(HttpStatus.PRECONDITION_FAILED, "Precondition Failed", ex.getMessage(), request);
+    }
+
+    // Handle request bodies over the size that is buffered for an Idempotency-Key check
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handlePayloadTooLargeException(
+            PayloadTooLargeException ex, WebRequest request) {
+
+        return error(HttpStatus.PAYLOAD_TOO_LARGE, "Payload Too Large", ex.getMessage(), request);
+    }
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    // Handle an Idempotency-Key reused with a different request body
+    @ExceptionHandler(UnprocessableEntityException.class)
+    public ResponseEntity<ErrorResponse> handleUnprocessableEntityException(
+            UnprocessableEntityException ex, WebRequest request) {
+
+        return error(HttpStatus.UNPROCESSABLE_ENTITY, "Unprocessable Entity", ex.getMessage(), request);
+    }
+
+    // Handle sync tokens older than the tombstone retention
+    @ExceptionHandler(ResourceGoneException.class)
+    public ResponseEntity<ErrorResponse> handleResourceGoneException(
+            ResourceGoneException ex, WebRequest request) {
+
+        return error(HttpStatus.GONE, "Gone", ex.getMessage(), request);
+    }
+
+    // Handle concurrent modifications detected by the @Version check
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException ex, WebRequest request) {
+
+        return error(HttpStatus.CONFLICT, "Conflict",
+                "Task was modified by another request; reload it and try again", request);
+    }
+
+    // Handle features that are temporarily unavailable, e.g. search while its index is being built
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+            ServiceUnavailableException ex, WebRequest request) {
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", ex.getMessage(), request));
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(
+            TooManyRequestsException ex, WebRequest request) {
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", ex.getMessage(), request));
+    }
+
+    // Writing the response failed, almost always because the client went away (e.g. a closed event
+    // stream). Once the response is committed no error can be sent, so stop instead of failing again.
+    @ExceptionHandler({IOException.class, AsyncRequestNotUsableException.class})
+    public ResponseEntity<ErrorResponse> handleResponseWriteFailure(
+            Exception ex, WebRequest request, HttpServletResponse response) {
+        if (response.isCommitted()) {
+            return null;
+        }
+        return handleGlobalException(ex, request);
     }
 
     // Handle all other exceptions
@@ -92,15 +208,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleGlobalException(
             Exception ex, WebRequest request) {
         
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                "Internal Server Error",
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", ex.getMessage(), request);
     }
 
     // Handle illegal argument exceptions
@@ -108,14 +216,40 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
             IllegalArgumentException ex, WebRequest request) {
         
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.BAD_REQUEST.value(),
-                "Invalid Argument",
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
+        return error(HttpStatus.BAD_REQUEST, "Invalid Argument", ex.getMessage(), request);
+    }
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String error, String message,
+                                                      WebRequest request) {
+        return new ResponseEntity<>(errorResponse(status, error, message, request), status);
+    }
+
+    private static ErrorResponse errorResponse(HttpStatus status, String error, String message, WebRequest request) {
+        return new ErrorResponse(LocalDateTime.now(), status.value(), error, message, path(request));
+    }
+
+    // The request URI as is; getDescription() would build "uri=<path>" only for the prefix to be stripped again
+    private static String path(WebRequest request) {
+        if (request instanceof ServletWebRequest servletRequest) {
+            return servletRequest.getRequest().getRequestURI();
+        }
+        String description = request.getDescription(false);
+        return description.startsWith(URI_PREFIX) ? description.substring(URI_PREFIX.length()) : description;
+    }
+
+    // "status" for a single task, "[2].status" for an item of a batch
+    private static String fieldPath(JsonMappingException ex) {
+        StringBuilder path = new StringBuilder();
+        for (JsonMappingException.Reference reference : ex.getPath()) {
+            if (reference.getFieldName() != null) {
+                if (path.length() > 0) {
+                    path.append('.');
+                }
+                path.append(reference.getFieldName());
+            } else {
+                path.append('[').append(reference.getIndex()).append(']');
+            }
+        }
+        return path.toString();
     }
-}
\ No newline at end of file
+}
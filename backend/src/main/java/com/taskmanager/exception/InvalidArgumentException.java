@@ -0,0 +1,18 @@
+package com.taskmanager.exception;
+
+/**
+ * An invalid request parameter or value, answered with 400 like any {@link IllegalArgumentException}.
+ * Thrown for client mistakes only, so, like {@link ExpectedException}, it skips the stack trace.
+ */
+public class InvalidArgumentException extends IllegalArgumentException {
+
+    public InvalidArgumentException(String message) {
+        super(message);
+    }
+
+    // IllegalArgumentException has no constructor that turns the stack trace off
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
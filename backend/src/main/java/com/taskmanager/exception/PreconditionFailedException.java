@@ -0,0 +1,11 @@
+package com.taskmanager.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends ExpectedException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
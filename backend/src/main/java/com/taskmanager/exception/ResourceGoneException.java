@@ -0,0 +1,12 @@
+package com.taskmanager.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.GONE)
+public class ResourceGoneException extends ExpectedException {
+
+    public ResourceGoneException(String message) {
+        super(message);
+    }
+}
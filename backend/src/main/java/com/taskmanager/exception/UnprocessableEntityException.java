@@ -0,0 +1,11 @@
+package com.taskmanager.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class UnprocessableEntityException extends ExpectedException {
+    public UnprocessableEntityException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanager.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An Idempotency-Key as {@link IdempotencyStore} keeps it: scoped to the client that sent it, together with a
+ * hash of the request body that goes with it. Also the request's hold on the key once
+ * {@link IdempotencyStore#claim} has given it the key, so that only that request can complete or release it.
+ */
+public final class IdempotencyClaim {
+
+    private final String key;
+    private final String requestHash;
+    // What other requests with the key wait on while this one owns it; set and cleared by IdempotencyStore
+    CompletableFuture<IdempotentResponse> owned;
+
+    /**
+     * @param key         SHA-256 of the client and its Idempotency-Key, so two clients picking the same key never
+     *                    see each other's tasks, and API keys are not written to {@code idempotency_keys}
+     * @param requestHash SHA-256 of the request body
+     */
+    public IdempotencyClaim(String key, String requestHash) {
+        this.key = key;
+        this.requestHash = requestHash;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public String requestHash() {
+        return requestHash;
+    }
+
+    static IdempotencyClaim of(String client, String idempotencyKey, String requestHash) {
+        return new IdempotencyClaim(sha256(client + '\n' + idempotencyKey), requestHash);
+    }
+
+    static String sha256(String value) {
+        return sha256(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
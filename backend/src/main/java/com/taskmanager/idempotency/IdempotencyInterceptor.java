@@ -0,0 +1,88 @@
+package com.taskmanager.idempotency;
+
+import com.taskmanager.admission.AdmissionInterceptor;
+import com.taskmanager.exception.InvalidArgumentException;
+import com.taskmanager.exception.PayloadTooLargeException;
+import com.taskmanager.model.IdempotencyRecord;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Handles the Idempotency-Key header on {@code POST /v1/api/tasks}. Keys are scoped to the client, identified as
+ * for admission control. A key that has already been answered is replayed here, before the body is validated,
+ * as long as the body is the one that first used the key ({@link IdempotentRequestFilter} has hashed it);
+ * otherwise the request claims the key and goes on to the controller, which completes it through
+ * {@link IdempotencyStore#create}. A claim the controller did not complete (e.g. a validation error) is
+ * released once the request is done.
+ */
+@Component
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    // The claim this request owns, for the controller to complete; a literal so it can go in an annotation
+    public static final String CLAIM_ATTRIBUTE = "com.taskmanager.idempotency.IdempotencyInterceptor.claim";
+
+    private final IdempotencyStore idempotencyStore;
+
+    public IdempotencyInterceptor(IdempotencyStore idempotencyStore) {
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key == null || request.getDispatcherType() != DispatcherType.REQUEST
+                || !HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+        if (key.isBlank() || key.length() > IdempotencyRecord.MAX_KEY_LENGTH) {
+            throw new InvalidArgumentException(IDEMPOTENCY_KEY_HEADER + " must be 1-" +
+                    IdempotencyRecord.MAX_KEY_LENGTH + " characters");
+        }
+        if (request.getAttribute(IdempotentRequestFilter.TOO_LARGE_ATTRIBUTE) instanceof Integer maxBodySize) {
+            throw new PayloadTooLargeException("Request body exceeds " + maxBodySize + " bytes");
+        }
+        IdempotencyClaim claim = IdempotencyClaim.of(AdmissionInterceptor.clientKey(request), key,
+                (String) request.getAttribute(IdempotentRequestFilter.REQUEST_HASH_ATTRIBUTE));
+        IdempotentResponse stored = idempotencyStore.claim(claim);
+        if (stored == null) {
+            request.setAttribute(CLAIM_ATTRIBUTE, claim);
+            return true;
+        }
+        replay(stored, response);
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object claim = request.getAttribute(CLAIM_ATTRIBUTE);
+        if (claim != null) {
+            request.removeAttribute(CLAIM_ATTRIBUTE);
+            idempotencyStore.release((IdempotencyClaim) claim);
+        }
+    }
+
+    private static void replay(IdempotentResponse stored, HttpServletResponse response) throws IOException {
+        byte[] body = stored.body().getBytes(StandardCharsets.UTF_8);
+        response.setStatus(HttpStatus.CREATED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (stored.entityTag() != null) {
+            response.setHeader(HttpHeaders.ETAG, stored.entityTag());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,201 @@
+package com.taskmanager.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.exception.ServiceUnavailableException;
+import com.taskmanager.exception.UnprocessableEntityException;
+import com.taskmanager.model.IdempotencyRecord;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the response to each task creation sent with an Idempotency-Key for {@code ttl}. Keys are
+ * per client, see {@link IdempotencyClaim}, and a key reused with a different request body is rejected with 422.
+ * <p>
+ * A request first {@link #claim claims} its key. Only one request per key is in flight at a time: others
+ * with the same key wait for it and then get its response, so concurrent retries coalesce onto one insert.
+ * Completed responses are kept in a bounded in-memory cache and in {@code idempotency_keys}, which is written
+ * in the same transaction as the task, so a retry after a cache eviction or a restart still finds it.
+ * Failed attempts are not remembered; the next request with the key runs again.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    static final long IN_PROGRESS_RETRY_AFTER_SECONDS = 1;
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+    private final Duration ttl;
+    private final long waitTimeoutNanos;
+    private final Cache<String, IdempotentResponse> completed;
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(IdempotencyRecordRepository recordRepository, ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${taskmanager.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${taskmanager.idempotency.cache-size:10000}") long cacheSize,
+                            @Value("${taskmanager.idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        this.recordRepository = recordRepository;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Returns the response already given for the claim's key, waiting for it if a request with the same key is in
+     * flight. Returns null if there is none, in which case the caller now owns the key and must either
+     * {@link #create} the task or {@link #release} the key.
+     *
+     * @throws UnprocessableEntityException if the key was used with a different request body
+     */
+    public IdempotentResponse claim(IdempotencyClaim request) {
+        String key = request.key();
+        long deadline = System.nanoTime() + waitTimeoutNanos;
+        while (true) {
+            IdempotentResponse response = completed.getIfPresent(key);
+            if (response != null) {
+                return matching(request, response);
+            }
+            CompletableFuture<IdempotentResponse> claim = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> owner = inFlight.putIfAbsent(key, claim);
+            if (owner == null) {
+                // Completed just before the claim, evicted from memory, or answered before a restart
+                response = lookup(key);
+                if (response == null) {
+                    request.owned = claim;
+                    return null;
+                }
+                completed.put(key, response);
+                inFlight.remove(key, claim);
+                claim.complete(response);
+                return matching(request, response);
+            }
+            response = await(owner, deadline);
+            if (response != null) {
+                return matching(request, response);
+            }
+            // The owner failed without a response; try to claim the key again
+        }
+    }
+
+    /**
+     * Creates the task for a claimed key and records the response in the same transaction, then hands it to
+     * any requests waiting on the key.
+     */
+    public Task create(IdempotencyClaim request, Supplier<Task> save, Function<Task, String> entityTag) {
+        String key = request.key();
+        Created created = transaction.execute(status -> {
+            Task task = save.get();
+            IdempotentResponse response = new IdempotentResponse(request.requestHash(), entityTag.apply(task),
+                    serialize(task));
+            recordRepository.save(new IdempotencyRecord(key, task.getId(), response.requestHash(),
+                    response.entityTag(), response.body(), Task.currentTimestamp()));
+            return new Created(task, response);
+        });
+        completed.put(key, created.response());
+        CompletableFuture<IdempotentResponse> claim = request.owned;
+        request.owned = null;
+        if (claim != null) {
+            inFlight.remove(key, claim);
+            claim.complete(created.response());
+        }
+        return created.task();
+    }
+
+    /**
+     * Gives up a claimed key without a response. A no-op once {@link #create} has completed the key. Only the
+     * caller's own claim is removed: a request that has claimed the key since keeps it.
+     */
+    public void release(IdempotencyClaim request) {
+        CompletableFuture<IdempotentResponse> claim = request.owned;
+        request.owned = null;
+        if (claim != null) {
+            inFlight.remove(request.key(), claim);
+            claim.complete(null);
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${taskmanager.idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        int purged = recordRepository.deleteOlderThan(LocalDateTime.now().minus(ttl));
+        if (purged > 0) {
+            log.debug("Purged {} idempotency keys older than {}", purged, ttl);
+        }
+    }
+
+    // Drops the in-memory copies, as a restart would
+    void clearMemory() {
+        completed.invalidateAll();
+    }
+
+    private IdempotentResponse lookup(String key) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(ttl);
+        return recordRepository.findById(key)
+                .filter(record -> record.getCreatedAt().isAfter(cutoff))
+                .map(record -> new IdempotentResponse(record.getRequestHash(), record.getEntityTag(),
+                        record.getResponseBody()))
+                .orElse(null);
+    }
+
+    private static IdempotentResponse matching(IdempotencyClaim request, IdempotentResponse response) {
+        if (!response.requestHash().equals(request.requestHash())) {
+            throw new UnprocessableEntityException("Idempotency-Key has already been used with a different request body");
+        }
+        return response;
+    }
+
+    private IdempotentResponse await(CompletableFuture<IdempotentResponse> owner, long deadline) {
+        try {
+            return owner.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("A request with this Idempotency-Key is still in progress",
+                    IN_PROGRESS_RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a request with the same Idempotency-Key", e);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private String serialize(Task task) {
+        try {
+            return objectMapper.writeValueAsString(task);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize task " + task.getId(), e);
+        }
+    }
+
+    private record Created(Task task, IdempotentResponse response) {
+    }
+}
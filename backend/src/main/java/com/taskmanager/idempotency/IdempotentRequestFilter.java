@@ -0,0 +1,112 @@
+package com.taskmanager.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the body of a {@code POST} sent with an Idempotency-Key before the handler runs, and records its hash
+ * for {@link IdempotencyInterceptor}, which compares it with the body that first used the key. The controller
+ * then reads the same bytes from memory.
+ * <p>
+ * A task body is a few KB at most, so at most {@code maxBodySize} bytes are buffered. A larger body, by its
+ * Content-Length or once that many bytes have been read, is only flagged here; the interceptor then rejects
+ * the request with 413 before anything else reads it.
+ */
+public class IdempotentRequestFilter extends OncePerRequestFilter {
+
+    static final String REQUEST_HASH_ATTRIBUTE = IdempotentRequestFilter.class.getName() + ".requestHash";
+    static final String TOO_LARGE_ATTRIBUTE = IdempotentRequestFilter.class.getName() + ".tooLarge";
+
+    private final int maxBodySize;
+
+    public IdempotentRequestFilter(int maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(IdempotencyInterceptor.IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (request.getContentLengthLong() > maxBodySize) {
+            request.setAttribute(TOO_LARGE_ATTRIBUTE, maxBodySize);
+            filterChain.doFilter(request, response);
+            return;
+        }
+        // Without a Content-Length (chunked), one byte past the limit is enough to know the body is too large
+        byte[] body = request.getInputStream().readNBytes(maxBodySize + 1);
+        if (body.length > maxBodySize) {
+            request.setAttribute(TOO_LARGE_ATTRIBUTE, maxBodySize);
+            filterChain.doFilter(request, response);
+            return;
+        }
+        request.setAttribute(REQUEST_HASH_ATTRIBUTE, IdempotencyClaim.sha256(body));
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("The body has already been read");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskmanager.idempotency;
+
+/**
+ * What a replayed {@code 201 Created} carries: the created task as it was serialized then, and its ETag. The
+ * hash of the request that created it is kept to turn away a reuse of the key with another body.
+ */
+public record IdempotentResponse(String requestHash, String entityTag, String body) {
+}
@@ -0,0 +1,88 @@
+package com.taskmanager.json;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Formats ids and timestamps into a caller's char buffer, without the intermediate strings of
+ * {@code UUID.toString()} and {@code DateTimeFormatter}.
+ */
+final class JsonValues {
+
+    // 36 for a UUID; 29 for yyyy-MM-ddTHH:mm:ss.SSSSSSSSS
+    static final int BUFFER_SIZE = 36;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JsonValues() {
+    }
+
+    static int formatUuid(UUID id, char[] buffer) {
+        writeHex(id.getMostSignificantBits() >>> 32, 8, buffer, 0);
+        buffer[8] = '-';
+        writeHex(id.getMostSignificantBits() >>> 16, 4, buffer, 9);
+        buffer[13] = '-';
+        writeHex(id.getMostSignificantBits(), 4, buffer, 14);
+        buffer[18] = '-';
+        writeHex(id.getLeastSignificantBits() >>> 48, 4, buffer, 19);
+        buffer[23] = '-';
+        writeHex(id.getLeastSignificantBits(), 12, buffer, 24);
+        return 36;
+    }
+
+    /**
+     * Writes {@code value} as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} does: seconds always present, the
+     * fraction only when non-zero and without trailing zeros. Returns the length, or -1 for years outside
+     * 0000-9999, which {@link #formatDateTimeSlow} handles.
+     */
+    static int formatDateTime(LocalDateTime value, char[] buffer) {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        writeDigits(year, 4, buffer, 0);
+        buffer[4] = '-';
+        writeDigits(value.getMonthValue(), 2, buffer, 5);
+        buffer[7] = '-';
+        writeDigits(value.getDayOfMonth(), 2, buffer, 8);
+        buffer[10] = 'T';
+        writeDigits(value.getHour(), 2, buffer, 11);
+        buffer[13] = ':';
+        writeDigits(value.getMinute(), 2, buffer, 14);
+        buffer[16] = ':';
+        writeDigits(value.getSecond(), 2, buffer, 17);
+        int nano = value.getNano();
+        if (nano == 0) {
+            return 19;
+        }
+        buffer[19] = '.';
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        writeDigits(nano, digits, buffer, 20);
+        return 20 + digits;
+    }
+
+    static String formatDateTimeSlow(LocalDateTime value) {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+    }
+
+    // Right-aligned and zero-padded to width
+    private static void writeDigits(int value, int width, char[] buffer, int offset) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    // The low 4 * digits bits of value
+    private static void writeHex(long value, int digits, char[] buffer, int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.taskmanager.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.taskmanager.dto.TaskSummary;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Hand-written serializers for {@link Task} and {@link TaskSummary}, the objects every list response is made of.
+ * They replace Jackson's reflective bean serializer on the application's ObjectMapper, so controllers, the
+ * NDJSON export, the change stream and stored idempotent responses all use them.
+ * <p>
+ * Property names and status values are pre-encoded once, and ids and timestamps are formatted straight into a
+ * small buffer instead of through {@code UUID.toString()} and {@code DateTimeFormatter}. The output is byte for
+ * byte what the bean serializer produced (see {@code TaskJsonGoldenTest}): properties in declaration order, nulls
+ * written out, timestamps in ISO-8601 without zone. It does not follow ObjectMapper settings that would change
+ * that format, such as non-null inclusion or dates as timestamps. Reading tasks still goes through Jackson's
+ * bean deserializer, which does the validation and coercion.
+ */
+@JsonComponent
+public class TaskJsonComponent {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    private static final SerializedString[] STATUS_VALUES = new SerializedString[TaskStatus.values().length];
+
+    static {
+        for (TaskStatus status : TaskStatus.values()) {
+            STATUS_VALUES[status.ordinal()] = new SerializedString(status.value());
+        }
+    }
+
+    public static class TaskSerializer extends StdSerializer<Task> {
+
+        public TaskSerializer() {
+            super(Task.class);
+        }
+
+        @Override
+        public void serialize(Task task, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            char[] buffer = new char[JsonValues.BUFFER_SIZE];
+            gen.writeStartObject(task);
+            gen.writeFieldName(ID);
+            writeUuid(gen, task.getId(), buffer);
+            gen.writeFieldName(TITLE);
+            gen.writeString(task.getTitle());
+            gen.writeFieldName(DESCRIPTION);
+            gen.writeString(task.getDescription());
+            gen.writeFieldName(STATUS);
+            writeStatus(gen, task.getStatus());
+            gen.writeFieldName(DUE_DATE);
+            writeDateTime(gen, task.getDueDate(), buffer);
+            gen.writeFieldName(CREATED_AT);
+            writeDateTime(gen, task.getCreatedAt(), buffer);
+            gen.writeFieldName(UPDATED_AT);
+            writeDateTime(gen, task.getUpdatedAt(), buffer);
+            gen.writeFieldName(VERSION);
+            if (task.getVersion() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(task.getVersion());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    // createdAt is only kept for the paging cursor and stays out of the JSON, as its @JsonIgnore says
+    public static class TaskSummarySerializer extends StdSerializer<TaskSummary> {
+
+        public TaskSummarySerializer() {
+            super(TaskSummary.class);
+        }
+
+        @Override
+        public void serialize(TaskSummary summary, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            char[] buffer = new char[JsonValues.BUFFER_SIZE];
+            gen.writeStartObject(summary);
+            gen.writeFieldName(ID);
+            writeUuid(gen, summary.id(), buffer);
+            gen.writeFieldName(TITLE);
+            gen.writeString(summary.title());
+            gen.writeFieldName(STATUS);
+            writeStatus(gen, summary.status());
+            gen.writeFieldName(DUE_DATE);
+            writeDateTime(gen, summary.dueDate(), buffer);
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeStatus(JsonGenerator gen, TaskStatus status) throws IOException {
+        if (status == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(STATUS_VALUES[status.ordinal()]);
+        }
+    }
+
+    private static void writeUuid(JsonGenerator gen, UUID id, char[] buffer) throws IOException {
+        if (id == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(buffer, 0, JsonValues.formatUuid(id, buffer));
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator gen, LocalDateTime value, char[] buffer) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            int length = JsonValues.formatDateTime(value, buffer);
+            if (length < 0) {
+                gen.writeString(JsonValues.formatDateTimeSlow(value));
+            } else {
+                gen.writeString(buffer, 0, length);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskmanager.metrics;
+
+import com.taskmanager.admission.ClientRateLimiter;
+import com.taskmanager.admission.ConcurrencyLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the admission limiters: {@code tasks.requests.rejected} tagged by which limit turned the request
+ * away, {@code tasks.requests.inflight} against {@code tasks.requests.inflight.max}, and the number of
+ * clients with a partly used rate limit ({@code tasks.ratelimit.clients}).
+ */
+@Component
+public class AdmissionMetrics implements MeterBinder {
+
+    static final String REJECTED = "tasks.requests.rejected";
+    static final String IN_FLIGHT = "tasks.requests.inflight";
+    static final String IN_FLIGHT_MAX = "tasks.requests.inflight.max";
+    static final String RATE_LIMITED_CLIENTS = "tasks.ratelimit.clients";
+
+    private final ClientRateLimiter rateLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    public AdmissionMetrics(ClientRateLimiter rateLimiter, ConcurrencyLimiter concurrencyLimiter) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(REJECTED, rateLimiter, ClientRateLimiter::rejectedCount)
+                .description("Task API requests turned away by admission control")
+                .tag("reason", "rate-limit")
+                .register(registry);
+        FunctionCounter.builder(REJECTED, concurrencyLimiter, ConcurrencyLimiter::rejectedCount)
+                .description("Task API requests turned away by admission control")
+                .tag("reason", "concurrency-limit")
+                .register(registry);
+        Gauge.builder(IN_FLIGHT, concurrencyLimiter, ConcurrencyLimiter::inFlight)
+                .description("Task API requests being processed")
+                .register(registry);
+        Gauge.builder(IN_FLIGHT_MAX, concurrencyLimiter, ConcurrencyLimiter::maxInFlight)
+                .description("Task API requests processed at once before new ones are turned away")
+                .register(registry);
+        Gauge.builder(RATE_LIMITED_CLIENTS, rateLimiter, ClientRateLimiter::clientCount)
+                .description("Clients with a rate limit bucket that is not full")
+                .register(registry);
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskmanager.metrics;
+
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.stats.TaskStatistics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes {@code tasks.count} tagged by status. The gauges read the per-status counters kept by
+ * {@link TaskStatistics}, so a scrape never touches the database.
+ */
+@Component
+public class TaskMetrics implements MeterBinder {
+
+    static final String TASK_COUNT = "tasks.count";
+
+    private final TaskStatistics taskStatistics;
+
+    public TaskMetrics(TaskStatistics taskStatistics) {
+        this.taskStatistics = taskStatistics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (TaskStatus status : TaskStatus.values()) {
+            Gauge.builder(TASK_COUNT, taskStatistics, statistics -> statistics.count(status))
+                    .description("Number of tasks in each status")
+                    .tag("status", status.value())
+                    .register(registry);
+        }
+    }
+}
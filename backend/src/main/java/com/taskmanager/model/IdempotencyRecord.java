@@ -0,0 +1,48 @@
+package com.taskmanager.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The response to a {@code POST /v1/api/tasks} sent with an Idempotency-Key, kept so a retry with the same key
+ * gets the same response instead of creating the task again. Keyed by the client-scoped digest of the key, see
+ * {@code IdempotencyClaim}. Written in the same transaction as the task and
+ * purged once older than the idempotency TTL.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_created_at", columnList = "createdAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class IdempotencyRecord {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    @Id
+    @Column(length = MAX_KEY_LENGTH)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private UUID taskId;
+
+    // SHA-256 of the request body, in hex
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(length = 64)
+    private String entityTag;
+
+    // A task is at most a few KB of JSON: title and description are bounded by their validation limits
+    @Column(nullable = false, length = 16000)
+    private String responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
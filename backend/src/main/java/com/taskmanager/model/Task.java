@@ -1,20 +1,28 @@
 
 package com.taskmanager.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "createdAt, id"),
+        @Index(name = "idx_tasks_status_created_at_id", columnList = "status, createdAt, id"),
+        @Index(name = "idx_tasks_due_date", columnList = "dueDate"),
+        @Index(name = "idx_tasks_updated_at_id", columnList = "updatedAt, id"),
+        @Index(name = "idx_tasks_status_due_date", columnList = "status, dueDate")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @ToString
 @Schema(description = "Task entity representing a task in the system")
 public class Task {
@@ -35,13 +43,12 @@ public class Task {
     @Schema(description = "Detailed description of the task", example = "Write comprehensive API documentation for the task manager", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
     private String description;
 
-    @NotBlank(message = "Status is required")
-    @Pattern(regexp = "^(pending|in-progress|completed)$",
-            message = "Status must be one of: pending, in-progress, completed")
-    @Column(nullable = false, length = 20)
+    // Unknown values are rejected while the JSON is read (TaskStatus.fromValue), so only presence is checked here
+    @NotNull(message = "Status is required")
+    @Column(nullable = false)
     @Schema(description = "Current status of the task", example = "in-progress", allowableValues = {"pending", "in-progress", "completed"}, requiredMode = Schema.RequiredMode.REQUIRED)
     @Builder.Default
-    private String status = "pending";
+    private TaskStatus status = TaskStatus.PENDING;
 
     @NotNull(message = "Due date is required")
     @Future(message = "Due date must be in the future")
@@ -56,15 +63,27 @@ public class Task {
     @Schema(description = "Timestamp when the task was last updated", example = "2023-12-15T14:22:00", accessMode = Schema.AccessMode.READ_ONLY)
     private LocalDateTime updatedAt;
 
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Version of the task, incremented on every change and sent as the ETag header", example = "3", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long version;
+
     // Pre-persist and pre-update methods
+    // updatedAt starts equal to createdAt so it is the change watermark for every row, including unmodified ones
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        createdAt = currentTimestamp();
+        updatedAt = createdAt;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = currentTimestamp();
+    }
+
+    // Microsecond precision like the TIMESTAMP(6) columns, so a change watermark held in memory equals the stored one
+    public static LocalDateTime currentTimestamp() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     // Custom builder method for easier object creation
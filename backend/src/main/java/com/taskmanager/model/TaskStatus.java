@@ -0,0 +1,79 @@
+package com.taskmanager.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.taskmanager.exception.InvalidArgumentException;
+
+/**
+ * Lifecycle state of a task. {@link #value()} is the JSON and query-parameter form, kept from the
+ * time the status was a free-form string; {@link #code()} is what the {@code status} column stores
+ * (see {@link TaskStatusConverter}). Codes are persisted, so never renumber or reuse them.
+ */
+public enum TaskStatus {
+
+    PENDING("pending", (short) 0),
+    IN_PROGRESS("in-progress", (short) 1),
+    COMPLETED("completed", (short) 2);
+
+    public static final String VALUES = "pending, in-progress, completed";
+    public static final String INVALID_MESSAGE = "Status must be one of: " + VALUES;
+
+    private static final TaskStatus[] BY_CODE = new TaskStatus[values().length];
+
+    static {
+        for (TaskStatus status : values()) {
+            BY_CODE[status.code] = status;
+        }
+    }
+
+    private final String value;
+    private final short code;
+
+    TaskStatus(String value, short code) {
+        this.value = value;
+        this.code = code;
+    }
+
+    @JsonValue
+    public String value() {
+        return value;
+    }
+
+    public short code() {
+        return code;
+    }
+
+    public boolean isOpen() {
+        return this != COMPLETED;
+    }
+
+    // A string switch compares hash codes first, so this is a lookup rather than a pattern match
+    @JsonCreator
+    public static TaskStatus fromValue(String value) {
+        if (value != null) {
+            switch (value) {
+                case "pending":
+                    return PENDING;
+                case "in-progress":
+                    return IN_PROGRESS;
+                case "completed":
+                    return COMPLETED;
+                default:
+                    break;
+            }
+        }
+        throw new InvalidArgumentException(INVALID_MESSAGE);
+    }
+
+    public static TaskStatus fromCode(short code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown task status code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
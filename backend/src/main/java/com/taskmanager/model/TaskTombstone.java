@@ -0,0 +1,29 @@
+package com.taskmanager.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Records that a task was deleted, so clients syncing through {@code GET /v1/api/tasks/changes} learn about
+ * deletions. Written in the same transaction as the delete and purged once older than the tombstone retention.
+ */
+@Entity
+@Table(name = "task_tombstones", indexes = {
+        @Index(name = "idx_task_tombstones_deleted_at_task_id", columnList = "deletedAt, taskId")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TaskTombstone {
+
+    @Id
+    private UUID taskId;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,17 @@
+package com.taskmanager.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void deliver(TaskReminder reminder) {
+        log.info("Task {} '{}' is {} (due {})", reminder.taskId(), reminder.title(), reminder.kind().value(),
+                reminder.dueDate());
+    }
+}
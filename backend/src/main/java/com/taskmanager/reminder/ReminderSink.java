@@ -0,0 +1,10 @@
+package com.taskmanager.reminder;
+
+/**
+ * Receives reminders from {@link TaskReminderScheduler} as they fall due. Every sink bean gets every reminder.
+ * Sinks are called on the scheduler thread, one after another, so they should hand off anything slow.
+ */
+public interface ReminderSink {
+
+    void deliver(TaskReminder reminder);
+}
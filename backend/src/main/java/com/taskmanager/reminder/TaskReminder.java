@@ -0,0 +1,35 @@
+package com.taskmanager.reminder;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Sent when an open task is about to fall due or has just fallen due")
+public record TaskReminder(
+        @Schema(description = "due-soon ahead of the due date, overdue once it has passed", example = "due-soon")
+        Kind kind,
+        @Schema(description = "Task identifier", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID taskId,
+        @Schema(description = "Task title", example = "Complete project documentation")
+        String title,
+        @Schema(description = "Task due date", example = "2026-12-31T23:59:59")
+        LocalDateTime dueDate) {
+
+    public enum Kind {
+        DUE_SOON("due-soon"),
+        OVERDUE("overdue");
+
+        private final String value;
+
+        Kind(String value) {
+            this.value = value;
+        }
+
+        @JsonValue
+        public String value() {
+            return value;
+        }
+    }
+}
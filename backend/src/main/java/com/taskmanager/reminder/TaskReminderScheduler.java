@@ -0,0 +1,199 @@
+package com.taskmanager.reminder;
+
+import com.taskmanager.dto.TaskSummary;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Sends a {@link TaskReminder.Kind#DUE_SOON} reminder {@code dueSoonLead} before an open task's due date and an
+ * {@link TaskReminder.Kind#OVERDUE} one at the due date, to every {@link ReminderSink}.
+ * <p>
+ * Only reminders firing within the next {@code window} are held, in a queue ordered by firing time. The window is
+ * topped up every {@code refillInterval} with a range query over {@code idx_tasks_status_due_date} that starts
+ * where the previous one ended, so each task is read about once, and only when its reminders come close.
+ * Committed {@link TaskChangedEvent}s reschedule or cancel a task's reminders in between. Memory and work therefore
+ * follow the number of tasks due soon, not the size of the table.
+ * <p>
+ * Reminders whose time passed while the application was down are not sent after it starts again.
+ */
+@Component
+@ConditionalOnProperty(name = "taskmanager.reminders.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskReminderScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskReminderScheduler.class);
+
+    private static final Comparator<Entry> FIRING_ORDER = Comparator.comparing(Entry::fireAt)
+            .thenComparing(entry -> entry.reminder().taskId())
+            .thenComparing(entry -> entry.reminder().kind());
+
+    private final TaskRepository taskRepository;
+    private final List<ReminderSink> sinks;
+    private final Duration dueSoonLead;
+    private final Duration window;
+    private final Object refillLock = new Object();
+
+    // All guarded by this
+    private final NavigableSet<Entry> queue = new TreeSet<>(FIRING_ORDER);
+    private final Map<UUID, List<Entry>> byTask = new HashMap<>();
+    // Every reminder firing before loadedUntil is in the queue; null until the first refill
+    private LocalDateTime loadedUntil;
+    // While a refill runs: where it will move loadedUntil, and the tasks changed since its query started
+    private LocalDateTime loadingUntil;
+    private Set<UUID> changedDuringRefill;
+
+    public TaskReminderScheduler(TaskRepository taskRepository, List<ReminderSink> sinks,
+                                 @Value("${taskmanager.reminders.due-soon-lead:PT1H}") Duration dueSoonLead,
+                                 @Value("${taskmanager.reminders.window:PT1H}") Duration window,
+                                 @Value("${taskmanager.reminders.refill-interval:PT5M}") Duration refillInterval) {
+        if (refillInterval.compareTo(window) >= 0) {
+            throw new IllegalArgumentException("taskmanager.reminders.refill-interval must be shorter than the window");
+        }
+        this.taskRepository = taskRepository;
+        this.sinks = sinks;
+        this.dueSoonLead = dueSoonLead;
+        this.window = window;
+    }
+
+    // First run happens as soon as the scheduler starts, off the startup path
+    @Scheduled(fixedDelayString = "${taskmanager.reminders.refill-interval:PT5M}")
+    public void refill() {
+        refill(LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.reminders.tick:PT1S}")
+    public void fireDue() {
+        fireDue(LocalDateTime.now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        onTaskChanged(event, LocalDateTime.now());
+    }
+
+    public synchronized int scheduledCount() {
+        return queue.size();
+    }
+
+    void refill(LocalDateTime now) {
+        synchronized (refillLock) {
+            LocalDateTime from;
+            LocalDateTime until = now.plus(window);
+            synchronized (this) {
+                from = loadedUntil != null ? loadedUntil : now;
+                if (!until.isAfter(from)) {
+                    return;
+                }
+                loadingUntil = until;
+                changedDuringRefill = new HashSet<>();
+            }
+            // A task due up to dueSoonLead after the window still has its due-soon reminder inside it
+            List<TaskSummary> due = new ArrayList<>();
+            try {
+                for (TaskStatus status : TaskStatus.values()) {
+                    if (status.isOpen()) {
+                        due.addAll(taskRepository.findSummariesDueBetween(status, from, until.plus(dueSoonLead)));
+                    }
+                }
+            } catch (RuntimeException e) {
+                // loadedUntil stays put, so the next refill covers the same range again
+                synchronized (this) {
+                    loadingUntil = null;
+                    changedDuringRefill = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                for (TaskSummary task : due) {
+                    // Rows for tasks changed meanwhile may be stale; their events already scheduled them
+                    if (!changedDuringRefill.contains(task.id())) {
+                        schedule(task.id(), task.title(), task.dueDate(), from, until);
+                    }
+                }
+                loadedUntil = until;
+                loadingUntil = null;
+                changedDuringRefill = null;
+            }
+        }
+    }
+
+    void fireDue(LocalDateTime now) {
+        List<TaskReminder> due = new ArrayList<>();
+        synchronized (this) {
+            while (!queue.isEmpty() && !queue.first().fireAt().isAfter(now)) {
+                Entry entry = queue.pollFirst();
+                List<Entry> entries = byTask.get(entry.reminder().taskId());
+                entries.remove(entry);
+                if (entries.isEmpty()) {
+                    byTask.remove(entry.reminder().taskId());
+                }
+                due.add(entry.reminder());
+            }
+        }
+        for (TaskReminder reminder : due) {
+            for (ReminderSink sink : sinks) {
+                try {
+                    sink.deliver(reminder);
+                } catch (RuntimeException e) {
+                    log.warn("Reminder sink {} failed for task {}", sink.getClass().getSimpleName(), reminder.taskId(), e);
+                }
+            }
+        }
+    }
+
+    synchronized void onTaskChanged(TaskChangedEvent event, LocalDateTime now) {
+        List<Entry> entries = byTask.remove(event.taskId());
+        if (entries != null) {
+            entries.forEach(queue::remove);
+        }
+        if (changedDuringRefill != null) {
+            changedDuringRefill.add(event.taskId());
+        }
+        LocalDateTime until = loadingUntil != null ? loadingUntil : loadedUntil;
+        Task task = event.task();
+        if (until != null && task != null && task.getStatus().isOpen() && task.getDueDate() != null) {
+            // Reminders already due are not re-sent, e.g. when the title of a task due in ten minutes changes
+            schedule(task.getId(), task.getTitle(), task.getDueDate(), now, until);
+        }
+    }
+
+    // Queues the task's reminders firing in [from, until); caller holds the lock
+    private void schedule(UUID taskId, String title, LocalDateTime dueDate, LocalDateTime from, LocalDateTime until) {
+        schedule(new TaskReminder(TaskReminder.Kind.DUE_SOON, taskId, title, dueDate), dueDate.minus(dueSoonLead), from, until);
+        schedule(new TaskReminder(TaskReminder.Kind.OVERDUE, taskId, title, dueDate), dueDate, from, until);
+    }
+
+    private void schedule(TaskReminder reminder, LocalDateTime fireAt, LocalDateTime from, LocalDateTime until) {
+        if (fireAt.isBefore(from) || !fireAt.isBefore(until)) {
+            return;
+        }
+        Entry entry = new Entry(fireAt, reminder);
+        if (queue.add(entry)) {
+            byTask.computeIfAbsent(reminder.taskId(), id -> new ArrayList<>(2)).add(entry);
+        }
+    }
+
+    private record Entry(LocalDateTime fireAt, TaskReminder reminder) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskmanager.reminder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * POSTs each reminder as JSON to {@code taskmanager.reminders.webhook-url}, when set. Fire and forget:
+ * the request is sent asynchronously and a failure is only logged, without retries.
+ */
+@Component
+@ConditionalOnProperty(name = "taskmanager.reminders.webhook-url")
+public class WebhookReminderSink implements ReminderSink {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookReminderSink.class);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final URI url;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+
+    public WebhookReminderSink(@Value("${taskmanager.reminders.webhook-url}") URI url, ObjectMapper objectMapper) {
+        this.url = url;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void deliver(TaskReminder reminder) {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(serialize(reminder)))
+                .build();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            if (error != null) {
+                log.warn("Reminder webhook failed for task {}: {}", reminder.taskId(), error.toString());
+            } else if (response.statusCode() >= 300) {
+                log.warn("Reminder webhook answered {} for task {}", response.statusCode(), reminder.taskId());
+            }
+        });
+    }
+
+    private String serialize(TaskReminder reminder) {
+        try {
+            return objectMapper.writeValueAsString(reminder);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskSummary;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset pages over (createdAt, id) with optional status and due date filters. Implemented in
+ * {@link TaskPageQueriesImpl} rather than with {@code @Query}: a filter that is not set is left out of the
+ * statement instead of being bound as null, so H2 can pick idx_tasks_status_created_at_id when a status is given.
+ */
+public interface TaskPageQueries {
+
+    List<Task> findPage(TaskStatus status, LocalDateTime dueFrom, LocalDateTime dueTo, Pageable pageable);
+
+    List<Task> findPageAfter(LocalDateTime createdAt, UUID id, TaskStatus status,
+                             LocalDateTime dueFrom, LocalDateTime dueTo, Pageable pageable);
+
+    // Same pages as findPage/findPageAfter, selecting only the list-view columns into read-only records
+    List<TaskSummary> findSummaryPage(TaskStatus status, LocalDateTime dueFrom, LocalDateTime dueTo, Pageable pageable);
+
+    List<TaskSummary> findSummaryPageAfter(LocalDateTime createdAt, UUID id, TaskStatus status,
+                                           LocalDateTime dueFrom, LocalDateTime dueTo, Pageable pageable);
+}
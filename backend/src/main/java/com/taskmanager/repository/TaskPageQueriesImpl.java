@@ -0,0 +1,90 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskSummary;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class TaskPageQueriesImpl implements TaskPageQueries {
+
+    private static final String SELECT_TASKS = "SELECT t FROM Task t";
+    private static final String SELECT_SUMMARIES =
+            "SELECT new com.taskmanager.dto.TaskSummary(t.id, t.title, t.status, t.dueDate, t.createdAt) FROM Task t";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> findPage(TaskStatus status, LocalDateTime dueFrom, LocalDateTime dueTo, Pageable pageable) {
+        return page(SELECT_TASKS, Task.class, null, null, status, dueFrom, dueTo, pageable);
+    }
+
+    @Override
+    public List<Task> findPageAfter(LocalDateTime createdAt, UUID id, TaskStatus status,
+                                    LocalDateTime dueFrom, LocalDateTime dueTo, Pageable pageable) {
+        return page(SELECT_TASKS, Task.class, createdAt, id, status, dueFrom, dueTo, pageable);
+    }
+
+    @Override
+    public List<TaskSummary> findSummaryPage(TaskStatus status, LocalDateTime dueFrom, LocalDateTime dueTo, Pageable pageable) {
+        return page(SELECT_SUMMARIES, TaskSummary.class, null, null, status, dueFrom, dueTo, pageable);
+    }
+
+    @Override
+    public List<TaskSummary> findSummaryPageAfter(LocalDateTime createdAt, UUID id, TaskStatus status,
+                                                  LocalDateTime dueFrom, LocalDateTime dueTo, Pageable pageable) {
+        return page(SELECT_SUMMARIES, TaskSummary.class, createdAt, id, status, dueFrom, dueTo, pageable);
+    }
+
+    private <T> List<T> page(String select, Class<T> type, LocalDateTime afterCreatedAt, UUID afterId,
+                             TaskStatus status, LocalDateTime dueFrom, LocalDateTime dueTo, Pageable pageable) {
+        List<String> predicates = new ArrayList<>();
+        if (afterCreatedAt != null) {
+            // The leading createdAt >= bound is what the index seeks to; the OR alone is only a filter
+            predicates.add("t.createdAt >= :createdAt AND (t.createdAt > :createdAt OR t.id > :id)");
+        }
+        if (status != null) {
+            predicates.add("t.status = :status");
+        }
+        if (dueFrom != null) {
+            predicates.add("t.dueDate >= :dueFrom");
+        }
+        if (dueTo != null) {
+            predicates.add("t.dueDate < :dueTo");
+        }
+        StringBuilder jpql = new StringBuilder(select);
+        if (!predicates.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        // With a status filter the leading status sort key is constant, but H2 only reads
+        // idx_tasks_status_created_at_id in order (and stops after the page) when the ORDER BY names it
+        jpql.append(status != null ? " ORDER BY t.status ASC, t.createdAt ASC, t.id ASC" : " ORDER BY t.createdAt ASC, t.id ASC");
+
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), type)
+                .setMaxResults(pageable.getPageSize());
+        if (pageable.getOffset() > 0) {
+            query.setFirstResult((int) pageable.getOffset());
+        }
+        if (afterCreatedAt != null) {
+            query.setParameter("createdAt", afterCreatedAt).setParameter("id", afterId);
+        }
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (dueFrom != null) {
+            query.setParameter("dueFrom", dueFrom);
+        }
+        if (dueTo != null) {
+            query.setParameter("dueTo", dueTo);
+        }
+        return query.getResultList();
+    }
+}
@@ -1,12 +1,113 @@
 package com.taskmanager.repository;
 
+import com.taskmanager.dto.TaskSummary;
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
-}
\ No newline at end of file
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskPageQueries {
+
+    // Delta sync: keyset scan over (updatedAt, id) up to the sync horizon; backed by idx_tasks_updated_at_id.
+    // The leading updatedAt >= bound is what the index seeks to; the OR alone is only a filter.
+    @Query("SELECT t FROM Task t WHERE t.updatedAt >= :updatedAt AND (t.updatedAt > :updatedAt OR t.id > :id) " +
+            "AND t.updatedAt <= :until " +
+            "ORDER BY t.updatedAt ASC, t.id ASC")
+    List<Task> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                @Param("id") UUID id,
+                                @Param("until") LocalDateTime until,
+                                Pageable pageable);
+
+    // One grouped scan of the status index instead of a COUNT per status
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM Task t GROUP BY t.status")
+    List<StatusCount> countByStatus();
+
+    // Cursor-backed full scan for exports; must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.createdAt ASC, t.id ASC")
+    Stream<Task> streamAll();
+
+    // Status changes skip loading the entity. updatedAt and version only move when the status actually
+    // changes, matching the dirty-checked @PreUpdate/@Version behaviour of a regular save().
+    // A non-null expectedVersion turns the update into a compare-and-set for If-Match requests.
+    // The row is read as an unmanaged copy and written back only if its version is still the one read, so the
+    // replaced status (needed by the status counters) is exact without a row lock or a vendor-specific
+    // RETURNING clause. A concurrent change in between makes the UPDATE miss, and the row is read again.
+    @Transactional
+    default Optional<StatusChange> updateStatusReturning(UUID id, TaskStatus status, LocalDateTime updatedAt, Long expectedVersion) {
+        while (true) {
+            Optional<Task> read = findUnmanagedById(id);
+            if (read.isEmpty() || (expectedVersion != null && !expectedVersion.equals(read.get().getVersion()))) {
+                return Optional.empty();
+            }
+            Task previous = read.get();
+            if (previous.getStatus() == status) {
+                return Optional.of(new StatusChange(previous, status));
+            }
+            if (updateStatusIfVersion(id, status, updatedAt, previous.getVersion()) == 1) {
+                Task updated = previous.toBuilder()
+                        .status(status)
+                        .updatedAt(updatedAt)
+                        .version(previous.getVersion() + 1)
+                        .build();
+                return Optional.of(new StatusChange(updated, previous.getStatus()));
+            }
+        }
+    }
+
+    // A constructor expression, so every call reads the row and nothing joins the persistence context
+    @Query("SELECT new com.taskmanager.model.Task(t.id, t.title, t.description, t.status, t.dueDate, t.createdAt, " +
+            "t.updatedAt, t.version) FROM Task t WHERE t.id = :id")
+    Optional<Task> findUnmanagedById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+            "WHERE t.id = :id AND t.version = :version")
+    int updateStatusIfVersion(@Param("id") UUID id,
+                              @Param("status") TaskStatus status,
+                              @Param("updatedAt") LocalDateTime updatedAt,
+                              @Param("version") long version);
+
+    // Tasks in one status due in [from, to); a range scan of idx_tasks_status_due_date
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.status = :status AND t.dueDate >= :from AND t.dueDate < :to")
+    long countDueBetween(@Param("status") TaskStatus status,
+                         @Param("from") LocalDateTime from,
+                         @Param("to") LocalDateTime to);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.status = :status AND t.dueDate < :to")
+    long countDueBefore(@Param("status") TaskStatus status, @Param("to") LocalDateTime to);
+
+    // Same range scan as countDueBetween, for the reminder window; the projection skips the descriptions
+    @Query("SELECT new com.taskmanager.dto.TaskSummary(t.id, t.title, t.status, t.dueDate, t.createdAt) FROM Task t " +
+            "WHERE t.status = :status AND t.dueDate >= :from AND t.dueDate < :to")
+    List<TaskSummary> findSummariesDueBetween(@Param("status") TaskStatus status,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
+
+    record StatusChange(Task task, TaskStatus previousStatus) {
+    }
+
+    interface StatusCount {
+        TaskStatus getStatus();
+
+        long getCount();
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.model.TaskTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, UUID> {
+
+    // One INSERT ... SELECT for the whole delete, and only for ids that still exist; must run before the
+    // tasks are deleted, in the same transaction
+    @Modifying
+    @Query("INSERT INTO TaskTombstone (taskId, deletedAt) SELECT t.id, :deletedAt FROM Task t " +
+            "WHERE t.id IN :ids AND NOT EXISTS (SELECT 1 FROM TaskTombstone d WHERE d.taskId = t.id)")
+    int recordDeletions(@Param("ids") Collection<UUID> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // Keyset scan over (deletedAt, taskId) up to the sync horizon; backed by idx_task_tombstones_deleted_at_task_id.
+    // As in TaskRepository.findChangedAfter, the deletedAt >= bound is the index seek.
+    @Query("SELECT d FROM TaskTombstone d " +
+            "WHERE d.deletedAt >= :deletedAt AND (d.deletedAt > :deletedAt OR d.taskId > :taskId) " +
+            "AND d.deletedAt <= :until " +
+            "ORDER BY d.deletedAt ASC, d.taskId ASC")
+    List<TaskTombstone> findDeletedAfter(@Param("deletedAt") LocalDateTime deletedAt,
+                                         @Param("taskId") UUID taskId,
+                                         @Param("until") LocalDateTime until,
+                                         Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone d WHERE d.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
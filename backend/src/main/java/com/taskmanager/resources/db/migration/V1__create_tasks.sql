@@ -0,0 +1,19 @@
+-- Tasks table as mapped by com.taskmanager.model.Task
+CREATE TABLE tasks (
+    id          UUID          NOT NULL,
+    title       VARCHAR(100)  NOT NULL,
+    description VARCHAR(1000),
+    status      VARCHAR(20)   NOT NULL,
+    due_date    TIMESTAMP(6)  NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    version     BIGINT,
+    CONSTRAINT pk_tasks PRIMARY KEY (id)
+);
+
+-- Keyset paging over (created_at, id), optionally filtered by status
+CREATE INDEX idx_tasks_created_at_id ON tasks (created_at, id);
+CREATE INDEX idx_tasks_status_created_at_id ON tasks (status, created_at, id);
+
+-- dueFrom/dueTo range filters
+CREATE INDEX idx_tasks_due_date ON tasks (due_date);
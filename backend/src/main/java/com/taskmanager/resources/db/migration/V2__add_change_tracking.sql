@@ -0,0 +1,13 @@
+-- Delta sync (GET /v1/api/tasks/changes) reads tasks by updated_at, which is now set on insert too
+UPDATE tasks SET updated_at = created_at WHERE updated_at IS NULL;
+
+CREATE INDEX idx_tasks_updated_at_id ON tasks (updated_at, id);
+
+-- Deletions, as mapped by com.taskmanager.model.TaskTombstone
+CREATE TABLE task_tombstones (
+    task_id    UUID         NOT NULL,
+    deleted_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_task_tombstones PRIMARY KEY (task_id)
+);
+
+CREATE INDEX idx_task_tombstones_deleted_at_task_id ON task_tombstones (deleted_at, task_id);
@@ -0,0 +1,2 @@
+-- Overdue and due-soon counts for GET /v1/api/tasks/stats: one range scan per open status
+CREATE INDEX idx_tasks_status_due_date ON tasks (status, due_date);
@@ -0,0 +1,21 @@
+-- Task status is stored as its com.taskmanager.model.TaskStatus code instead of the string value:
+-- 0 = pending, 1 = in-progress, 2 = completed
+ALTER TABLE tasks ADD COLUMN status_code SMALLINT;
+
+UPDATE tasks SET status_code = CASE status
+    WHEN 'pending' THEN 0
+    WHEN 'in-progress' THEN 1
+    WHEN 'completed' THEN 2
+END;
+
+-- Fails, and rolls the migration back, if any row holds a status outside the three known values
+ALTER TABLE tasks ALTER COLUMN status_code SET NOT NULL;
+
+DROP INDEX idx_tasks_status_created_at_id;
+DROP INDEX idx_tasks_status_due_date;
+ALTER TABLE tasks DROP COLUMN status;
+ALTER TABLE tasks ALTER COLUMN status_code RENAME TO status;
+ALTER TABLE tasks ADD CONSTRAINT ck_tasks_status CHECK (status BETWEEN 0 AND 2);
+
+CREATE INDEX idx_tasks_status_created_at_id ON tasks (status, created_at, id);
+CREATE INDEX idx_tasks_status_due_date ON tasks (status, due_date);
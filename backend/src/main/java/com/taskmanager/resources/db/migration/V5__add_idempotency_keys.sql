@@ -0,0 +1,11 @@
+-- Responses to POST /v1/api/tasks sent with an Idempotency-Key, as mapped by com.taskmanager.model.IdempotencyRecord
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(255)   NOT NULL,
+    task_id         UUID           NOT NULL,
+    entity_tag      VARCHAR(64),
+    response_body   VARCHAR(16000) NOT NULL,
+    created_at      TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
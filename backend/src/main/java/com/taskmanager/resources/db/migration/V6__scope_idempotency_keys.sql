@@ -0,0 +1,6 @@
+-- Idempotency keys are now stored as a digest of the client and the key, next to a hash of the request body that
+-- first used them. Rows stored under the bare key can no longer be found, so they are dropped instead of
+-- waiting for the purge.
+DELETE FROM idempotency_keys;
+
+ALTER TABLE idempotency_keys ADD COLUMN request_hash VARCHAR(64) NOT NULL;
@@ -0,0 +1,116 @@
+package com.taskmanager.search;
+
+import java.util.Arrays;
+
+/**
+ * Documents containing one term, with the term's weight in each. An open-addressing map from
+ * document number to weight, so very common terms stay compact (two primitive arrays) and both
+ * lookup and removal are O(1). Not thread-safe; {@link TaskSearchIndex} guards it with its lock.
+ */
+final class Postings {
+
+    private static final int EMPTY = -1;
+
+    private int[] docs;
+    private float[] weights;
+    private int size;
+
+    Postings() {
+        docs = new int[4];
+        weights = new float[4];
+        Arrays.fill(docs, EMPTY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    float get(int doc) {
+        int mask = docs.length - 1;
+        for (int slot = mix(doc) & mask; ; slot = (slot + 1) & mask) {
+            int current = docs[slot];
+            if (current == doc) {
+                return weights[slot];
+            }
+            if (current == EMPTY) {
+                return 0f;
+            }
+        }
+    }
+
+    void put(int doc, float weight) {
+        if ((size + 1) * 2 > docs.length) {
+            resize(docs.length * 2);
+        }
+        int mask = docs.length - 1;
+        for (int slot = mix(doc) & mask; ; slot = (slot + 1) & mask) {
+            int current = docs[slot];
+            if (current == doc) {
+                weights[slot] = weight;
+                return;
+            }
+            if (current == EMPTY) {
+                docs[slot] = doc;
+                weights[slot] = weight;
+                size++;
+                return;
+            }
+        }
+    }
+
+    void remove(int doc) {
+        int mask = docs.length - 1;
+        int slot = mix(doc) & mask;
+        while (docs[slot] != doc) {
+            if (docs[slot] == EMPTY) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        // Backward-shift deletion keeps probe chains intact without tombstones
+        int gap = slot;
+        for (int next = (gap + 1) & mask; docs[next] != EMPTY; next = (next + 1) & mask) {
+            int home = mix(docs[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                docs[gap] = docs[next];
+                weights[gap] = weights[next];
+                gap = next;
+            }
+        }
+        docs[gap] = EMPTY;
+        size--;
+    }
+
+    void forEach(DocConsumer consumer) {
+        for (int slot = 0; slot < docs.length; slot++) {
+            if (docs[slot] != EMPTY) {
+                consumer.accept(docs[slot], weights[slot]);
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        int[] oldDocs = docs;
+        float[] oldWeights = weights;
+        docs = new int[capacity];
+        weights = new float[capacity];
+        Arrays.fill(docs, EMPTY);
+        size = 0;
+        for (int slot = 0; slot < oldDocs.length; slot++) {
+            if (oldDocs[slot] != EMPTY) {
+                put(oldDocs[slot], oldWeights[slot]);
+            }
+        }
+    }
+
+    // Document numbers are dense and sequential; spread them so runs don't cluster in the table
+    private static int mix(int doc) {
+        int h = doc * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @FunctionalInterface
+    interface DocConsumer {
+        void accept(int doc, float weight);
+    }
+}
@@ -0,0 +1,528 @@
+package com.taskmanager.search;
+
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index over task titles and descriptions.
+ * <p>
+ * Terms are lower-cased runs of letters and digits. Each term maps to {@link Postings} holding a
+ * TF-IDF style weight per task, with title occurrences counting {@link #TITLE_WEIGHT} times and
+ * long texts damped by their length. A query matches tasks containing every query term; a term of
+ * {@link #MIN_PREFIX_LENGTH} or more characters also matches longer terms it is a prefix of, at a
+ * reduced weight. The index is kept current from {@link TaskChangedEvent}s once each write commits.
+ * <p>
+ * The initial build streams every task, so it runs in the background once the application is ready
+ * rather than holding up startup; {@link #isReady()} is false until it completes. Changes committed
+ * while a build is running are applied to the live index and replayed onto the new one before it is
+ * swapped in.
+ */
+@Component
+public class TaskSearchIndex {
+
+    static final float TITLE_WEIGHT = 3f;
+    static final float PREFIX_WEIGHT = 0.5f;
+    static final int MIN_PREFIX_LENGTH = 2;
+    static final int MAX_PREFIX_EXPANSIONS = 128;
+    static final int MAX_TERM_LENGTH = 64;
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor executor;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private Segment segment = new Segment();
+    // Non-null while a rebuild is running; guarded by lock
+    private List<Change> pending;
+    private volatile boolean ready;
+    private volatile boolean closed;
+
+    public TaskSearchIndex(TaskRepository taskRepository, EntityManager entityManager,
+                           PlatformTransactionManager transactionManager,
+                           @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        executor.execute(() -> {
+            long started = System.nanoTime();
+            try {
+                rebuild();
+                if (closed) {
+                    return;
+                }
+                log.info("Search index built with {} tasks in {} ms", size(), (System.nanoTime() - started) / 1_000_000);
+            } catch (RuntimeException e) {
+                // A build cut short by shutdown, e.g. the cds profile's training run exiting straight after startup
+                if (!closed) {
+                    log.error("Search index build failed; search stays unavailable until the next rebuild", e);
+                }
+            }
+        });
+    }
+
+    // Stops a running build at shutdown instead of letting it read from a closing database
+    @PreDestroy
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Whether the index reflects every task; false until the first build has finished.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Re-reads every task into a fresh index and swaps it in; searches keep using the old one meanwhile.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                pending = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Segment fresh = new Segment();
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<Task> tasks = taskRepository.streamAll()) {
+                        Iterator<Task> iterator = tasks.iterator();
+                        while (iterator.hasNext() && !closed) {
+                            Task task = iterator.next();
+                            fresh.add(task.getId(), weigh(task));
+                            entityManager.detach(task);
+                        }
+                    }
+                });
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pending = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                if (closed) {
+                    pending = null;
+                    return;
+                }
+                // Changes are idempotent and replayed in commit order, so ones the scan already saw are harmless
+                for (Change change : pending) {
+                    change.applyTo(fresh);
+                }
+                pending = null;
+                segment = fresh;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> index(event.task());
+            case DELETED -> remove(event.taskId());
+            case STATUS_CHANGED -> {
+                // Title and description are unchanged
+            }
+        }
+    }
+
+    public void index(Task task) {
+        apply(new Change(task.getId(), weigh(task)));
+    }
+
+    public void remove(UUID id) {
+        apply(new Change(id, null));
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            change.applyTo(segment);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.docNumbers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks the tasks matching every term of {@code query}, best first.
+     *
+     * @return the total number of matches and the ids of the requested page
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(query));
+        if (tokens.isEmpty()) {
+            return new SearchResult(0, List.of());
+        }
+        lock.readLock().lock();
+        try {
+            return segment.search(tokens, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (current.length() < MAX_TERM_LENGTH) {
+                    current.appendCodePoint(Character.toLowerCase(codePoint));
+                }
+            } else if (!current.isEmpty()) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    // Sub-linear term frequency, title boosted, normalised by the number of terms in the task
+    static Map<String, Float> weigh(Task task) {
+        Map<String, Float> frequencies = new HashMap<>();
+        List<String> titleTokens = tokenize(task.getTitle());
+        List<String> descriptionTokens = tokenize(task.getDescription());
+        for (String token : titleTokens) {
+            frequencies.merge(token, TITLE_WEIGHT, Float::sum);
+        }
+        for (String token : descriptionTokens) {
+            frequencies.merge(token, 1f, Float::sum);
+        }
+        float norm = (float) (1 / Math.sqrt(Math.max(1, titleTokens.size() + descriptionTokens.size())));
+        frequencies.replaceAll((term, frequency) -> (float) (1 + Math.log(frequency)) * norm);
+        return frequencies;
+    }
+
+    public record SearchResult(int total, List<UUID> ids) {
+    }
+
+    // A task's new term weights, or null weights for a deletion
+    private record Change(UUID id, Map<String, Float> weights) {
+
+        void applyTo(Segment target) {
+            if (weights == null) {
+                target.remove(id);
+            } else {
+                target.add(id, weights);
+            }
+        }
+    }
+
+    /**
+     * The index data; only touched under {@link #lock} once published.
+     */
+    private static final class Segment {
+
+        private final TreeMap<String, Postings> terms = new TreeMap<>();
+        private final Map<UUID, Integer> docNumbers = new HashMap<>();
+        private final List<UUID> docIds = new ArrayList<>();
+        private final List<String[]> docTerms = new ArrayList<>();
+        private final Deque<Integer> freeDocNumbers = new ArrayDeque<>();
+
+        void add(UUID id, Map<String, Float> weights) {
+            Integer doc = docNumbers.get(id);
+            if (doc != null) {
+                removeTerms(doc);
+            } else {
+                doc = freeDocNumbers.isEmpty() ? docIds.size() : freeDocNumbers.pop();
+                docNumbers.put(id, doc);
+                if (doc == docIds.size()) {
+                    docIds.add(id);
+                    docTerms.add(null);
+                } else {
+                    docIds.set(doc, id);
+                }
+            }
+            String[] termsOfDoc = new String[weights.size()];
+            int i = 0;
+            for (Map.Entry<String, Float> entry : weights.entrySet()) {
+                Map.Entry<String, Postings> existing = terms.ceilingEntry(entry.getKey());
+                String term = entry.getKey();
+                Postings postings;
+                if (existing != null && existing.getKey().equals(term)) {
+                    // Reuse the key instance so each distinct term is stored once
+                    term = existing.getKey();
+                    postings = existing.getValue();
+                } else {
+                    postings = new Postings();
+                    terms.put(term, postings);
+                }
+                postings.put(doc, entry.getValue());
+                termsOfDoc[i++] = term;
+            }
+            docTerms.set(doc, termsOfDoc);
+        }
+
+        void remove(UUID id) {
+            Integer doc = docNumbers.remove(id);
+            if (doc == null) {
+                return;
+            }
+            removeTerms(doc);
+            docIds.set(doc, null);
+            docTerms.set(doc, null);
+            freeDocNumbers.push(doc);
+        }
+
+        private void removeTerms(int doc) {
+            for (String term : docTerms.get(doc)) {
+                Postings postings = terms.get(term);
+                postings.remove(doc);
+                if (postings.size() == 0) {
+                    terms.remove(term);
+                }
+            }
+        }
+
+        SearchResult search(Set<String> tokens, int offset, int limit) {
+            List<Clause> clauses = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Clause clause = clause(token);
+                if (clause.postings.isEmpty()) {
+                    return new SearchResult(0, List.of());
+                }
+                clauses.add(clause);
+            }
+            // Drive from the rarest term and probe the others, so the work is bounded by its matches
+            clauses.sort((a, b) -> Long.compare(a.matches, b.matches));
+            Clause driver = clauses.get(0);
+
+            TopDocs top = new TopDocs(offset + limit);
+            int[] total = new int[1];
+            for (int p = 0; p < driver.postings.size(); p++) {
+                int list = p;
+                driver.postings.get(p).forEach((doc, weight) -> {
+                    // A document under several prefix expansions is scored once, from its first list
+                    for (int earlier = 0; earlier < list; earlier++) {
+                        if (driver.postings.get(earlier).get(doc) != 0f) {
+                            return;
+                        }
+                    }
+                    float score = driver.score(doc);
+                    for (int c = 1; c < clauses.size(); c++) {
+                        float clauseScore = clauses.get(c).score(doc);
+                        if (clauseScore == 0f) {
+                            return;
+                        }
+                        score += clauseScore;
+                    }
+                    total[0]++;
+                    top.offer(doc, score);
+                });
+            }
+
+            int[] ranked = top.sortedDocs();
+            List<UUID> ids = new ArrayList<>(Math.max(0, ranked.length - offset));
+            for (int i = offset; i < ranked.length; i++) {
+                ids.add(docIds.get(ranked[i]));
+            }
+            return new SearchResult(total[0], ids);
+        }
+
+        private Clause clause(String token) {
+            Clause clause = new Clause();
+            double documents = Math.max(1, docNumbers.size());
+            Postings exact = terms.get(token);
+            if (exact != null) {
+                clause.add(exact, (float) idf(documents, exact.size()));
+            }
+            if (token.length() >= MIN_PREFIX_LENGTH) {
+                NavigableMap<String, Postings> longer = terms.tailMap(token, false);
+                int expansions = 0;
+                for (Map.Entry<String, Postings> entry : longer.entrySet()) {
+                    if (!entry.getKey().startsWith(token) || expansions++ == MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                    Postings postings = entry.getValue();
+                    clause.add(postings, PREFIX_WEIGHT * (float) idf(documents, postings.size()));
+                }
+            }
+            return clause;
+        }
+
+        private static double idf(double documents, int matches) {
+            return Math.log(1 + documents / matches);
+        }
+    }
+
+    private static final class Clause {
+
+        private final List<Postings> postings = new ArrayList<>();
+        private float[] factors = new float[4];
+        private long matches;
+
+        void add(Postings list, float factor) {
+            if (postings.size() == factors.length) {
+                factors = Arrays.copyOf(factors, factors.length * 2);
+            }
+            factors[postings.size()] = factor;
+            postings.add(list);
+            matches += list.size();
+        }
+
+        float score(int doc) {
+            float score = 0f;
+            for (int i = 0; i < postings.size(); i++) {
+                score += postings.get(i).get(doc) * factors[i];
+            }
+            return score;
+        }
+    }
+
+    /**
+     * Bounded min-heap keeping the {@code capacity} best-scoring documents; ties go to the lower document number.
+     */
+    private static final class TopDocs {
+
+        private final int[] docs;
+        private final float[] scores;
+        private int size;
+
+        TopDocs(int capacity) {
+            docs = new int[capacity];
+            scores = new float[capacity];
+        }
+
+        void offer(int doc, float score) {
+            if (docs.length == 0) {
+                return;
+            }
+            if (size < docs.length) {
+                docs[size] = doc;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (worse(docs[0], scores[0], doc, score)) {
+                docs[0] = doc;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        int[] sortedDocs() {
+            int[] sorted = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                sorted[i] = docs[0];
+                size--;
+                docs[0] = docs[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return sorted;
+        }
+
+        // True when (docA, scoreA) ranks below (docB, scoreB)
+        private static boolean worse(int docA, float scoreA, int docB, float scoreB) {
+            return scoreA < scoreB || (scoreA == scoreB && docA > docB);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!worse(docs[i], scores[i], docs[parent], scores[parent])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int worst = left;
+                int right = left + 1;
+                if (right < size && worse(docs[right], scores[right], docs[left], scores[left])) {
+                    worst = right;
+                }
+                if (!worse(docs[worst], scores[worst], docs[i], scores[i])) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int doc = docs[a];
+            docs[a] = docs[b];
+            docs[b] = doc;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.taskmanager.service;
+
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.ServiceUnavailableException;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Group commit for {@code PATCH /{id}/status}: status changes from concurrent requests are queued and written
+ * by one thread, many per transaction, so a burst of card moves costs one commit per batch instead of one each.
+ * <p>
+ * A batch is flushed once {@code maxBatchSize} changes are queued or {@code maxDelay} after its first change,
+ * whichever comes first. Within a batch, an unconditional change to a task replaces the earlier unconditional
+ * changes to it: only the latest is written, and every request it replaced is answered with its result, as if
+ * they had been applied and immediately overwritten. Changes with an expected version (If-Match) are always
+ * written in their own right, in arrival order.
+ * <p>
+ * {@link #updateStatus} returns only once the batch has committed and its {@link TaskChangedEvent}s have been
+ * handled, so the caller reads its own write afterwards, including through the task cache. When the queue is full
+ * callers get 503 rather than waiting, and a caller whose batch has not committed within {@code waitTimeout}
+ * gets 503 as well.
+ * <p>
+ * If a batch's transaction fails, each of its writes is retried in a transaction of its own, so one bad change
+ * only fails the requests it answers. Whatever goes wrong in a batch is reported to that batch's callers; the
+ * flusher goes on with the next one.
+ */
+@Service
+@ConditionalOnProperty(name = "taskmanager.status-writes.group-commit.enabled", havingValue = "true")
+public class StatusGroupCommit {
+
+    static final long RETRY_AFTER_SECONDS = 1;
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(StatusGroupCommit.class);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long waitTimeoutNanos;
+    private final BlockingQueue<Change> queue;
+    private final Thread flusher = new Thread(this::run, "status-group-commit");
+    private volatile boolean closed;
+
+    public StatusGroupCommit(TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${taskmanager.status-writes.group-commit.max-batch-size:256}") int maxBatchSize,
+                             @Value("${taskmanager.status-writes.group-commit.max-delay:2ms}") Duration maxDelay,
+                             @Value("${taskmanager.status-writes.group-commit.queue-capacity:4096}") int queueCapacity,
+                             @Value("${taskmanager.status-writes.group-commit.wait-timeout:10s}") Duration waitTimeout) {
+        this.taskRepository = taskRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.start();
+    }
+
+    // Writes what is still queued before the database goes away. No interrupt: H2 closes its database file
+    // when a thread is interrupted during I/O.
+    @PreDestroy
+    public void close() throws InterruptedException {
+        closed = true;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Sets the status of a task, optionally only if it still has {@code expectedVersion}, and waits for the commit.
+     * Empty when the task does not exist or has another version, as {@link TaskRepository#updateStatusReturning}.
+     */
+    public Optional<TaskRepository.StatusChange> updateStatus(UUID id, TaskStatus status, Long expectedVersion) {
+        Change change = new Change(id, status, expectedVersion);
+        if (closed || !queue.offer(change)) {
+            throw new ServiceUnavailableException("Too many status updates queued, please retry later", RETRY_AFTER_SECONDS);
+        }
+        // Closed between the check and the offer: the flusher may already have drained the queue for the last time
+        if (closed && queue.remove(change)) {
+            throw new ServiceUnavailableException("Shutting down, please retry later", RETRY_AFTER_SECONDS);
+        }
+        try {
+            return change.result.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Still queued: withdrawn, so it is never written. Otherwise its batch is being written and may yet commit.
+            throw new ServiceUnavailableException(queue.remove(change)
+                    ? "Status updates are backed up, please retry later"
+                    : "Status update is taking too long and may still be applied, please check and retry later",
+                    RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a status update to commit", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause
+                    : new IllegalStateException("Status group commit failed", e.getCause());
+        }
+    }
+
+    private void run() {
+        List<Change> batch = new ArrayList<>(maxBatchSize);
+        while (!closed) {
+            try {
+                Change first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    // Whatever is queued already goes in without waiting
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    Change next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Not expected, see close(); the flag is not restored so the final flushes can still write
+                closed = true;
+            }
+            flush(batch);
+            batch.clear();
+        }
+        while (queue.drainTo(batch, maxBatchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    // Answers every change in the batch, whatever happens; nothing is thrown back at the flusher loop
+    void flush(List<Change> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<Change> writes = coalesce(batch);
+            try {
+                write(writes);
+                log.debug("Group commit of {} status changes, {} written", batch.size(), writes.size());
+            } catch (Throwable e) {
+                if (writes.size() == 1) {
+                    throw e;
+                }
+                log.warn("Status group commit of {} changes failed, writing them one at a time", batch.size(), e);
+                for (Change write : writes) {
+                    try {
+                        write(List.of(write));
+                    } catch (Throwable writeFailure) {
+                        write.failure = writeFailure;
+                    }
+                }
+            }
+            for (Change change : batch) {
+                Change write = change;
+                while (write.replacedBy != null) {
+                    write = write.replacedBy;
+                }
+                if (write.failure != null) {
+                    change.result.completeExceptionally(write.failure);
+                } else {
+                    change.result.complete(write.outcome);
+                }
+            }
+        } catch (Throwable e) {
+            log.warn("Status group commit of {} changes failed", batch.size(), e);
+            for (Change change : batch) {
+                change.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void write(List<Change> writes) {
+        LocalDateTime updatedAt = Task.currentTimestamp();
+        // Events are published inside the transaction, so their listeners run on commit, before anyone is answered
+        transaction.executeWithoutResult(status -> {
+            for (Change write : writes) {
+                write.outcome = taskRepository.updateStatusReturning(write.id, write.status, updatedAt, write.expectedVersion);
+                write.outcome.ifPresent(change ->
+                        eventPublisher.publishEvent(TaskChangedEvent.statusChanged(change.task(), change.previousStatus())));
+            }
+        });
+    }
+
+    // The changes that have to be written, in order; the others are marked with the change that replaces them
+    private static List<Change> coalesce(List<Change> batch) {
+        Map<UUID, Change> latestUnconditional = new HashMap<>();
+        for (Change change : batch) {
+            if (change.expectedVersion == null) {
+                Change previous = latestUnconditional.put(change.id, change);
+                if (previous != null) {
+                    previous.replacedBy = change;
+                }
+            } else {
+                // Its If-Match may refer to the version an earlier change produces, so that one must be written
+                latestUnconditional.remove(change.id);
+            }
+        }
+        List<Change> writes = new ArrayList<>(batch.size());
+        for (Change change : batch) {
+            if (change.replacedBy == null) {
+                writes.add(change);
+            }
+        }
+        return writes;
+    }
+
+    static final class Change {
+
+        final UUID id;
+        final TaskStatus status;
+        final Long expectedVersion;
+        final CompletableFuture<Optional<TaskRepository.StatusChange>> result = new CompletableFuture<>();
+        // Only touched by the flusher thread
+        Change replacedBy;
+        Optional<TaskRepository.StatusChange> outcome;
+        Throwable failure;
+
+        Change(UUID id, TaskStatus status, Long expectedVersion) {
+            this.id = id;
+            this.status = status;
+            this.expectedVersion = expectedVersion;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.BatchItemResult;
+import com.taskmanager.dto.BatchResponse;
+import com.taskmanager.dto.TaskPatch;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.ErrorResponse;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskTombstoneRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies create, update and delete requests for many tasks in a single transaction.
+ * Each item is validated on its own and reported individually; the valid items are written
+ * together so Hibernate can group them into JDBC batches.
+ */
+@Service
+public class TaskBatchService {
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskBatchService(TaskRepository taskRepository, TaskTombstoneRepository tombstoneRepository,
+                            Validator validator, ApplicationEventPublisher eventPublisher) {
+        this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public BatchResponse createAll(List<Task> tasks) {
+        List<BatchItemResult> results = new ArrayList<>(tasks.size());
+        List<Task> valid = new ArrayList<>(tasks.size());
+        List<Integer> validIndexes = new ArrayList<>(tasks.size());
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (task == null) {
+                results.add(BatchItemResult.failure(i, 400, null, "Task is required"));
+                continue;
+            }
+            // Ids are always generated, so every item is a plain INSERT and can be batched
+            task.setId(null);
+            List<ErrorResponse.FieldError> errors = toFieldErrors(validator.validate(task));
+            if (!errors.isEmpty()) {
+                results.add(BatchItemResult.invalid(i, null, errors));
+                continue;
+            }
+            valid.add(task);
+            validIndexes.add(i);
+        }
+
+        List<Task> saved = taskRepository.saveAll(valid);
+        for (int i = 0; i < saved.size(); i++) {
+            results.add(BatchItemResult.success(validIndexes.get(i), 201, saved.get(i)));
+            eventPublisher.publishEvent(TaskChangedEvent.created(saved.get(i)));
+        }
+        return BatchResponse.of(results);
+    }
+
+    @Transactional
+    public BatchResponse updateAll(List<TaskPatch> patches) {
+        List<BatchItemResult> results = new ArrayList<>(patches.size());
+        Map<Integer, TaskPatch> accepted = new HashMap<>();
+        Set<UUID> ids = new HashSet<>();
+
+        for (int i = 0; i < patches.size(); i++) {
+            TaskPatch patch = patches.get(i);
+            UUID id = patch == null ? null : patch.getId();
+            String error = checkId(id, ids);
+            if (error != null) {
+                results.add(BatchItemResult.failure(i, 400, id, error));
+                continue;
+            }
+            accepted.put(i, patch);
+        }
+
+        Map<UUID, Task> existing = findAllById(ids);
+        for (Map.Entry<Integer, TaskPatch> entry : accepted.entrySet()) {
+            int index = entry.getKey();
+            TaskPatch patch = entry.getValue();
+            Task task = existing.get(patch.getId());
+            if (task == null) {
+                results.add(BatchItemResult.failure(index, 404, patch.getId(), notFoundMessage(patch.getId())));
+                continue;
+            }
+            List<ErrorResponse.FieldError> errors = validatePatch(patch);
+            if (!errors.isEmpty()) {
+                results.add(BatchItemResult.invalid(index, patch.getId(), errors));
+                continue;
+            }
+            // Managed entities are flushed as batched UPDATEs when the transaction commits
+            TaskStatus previousStatus = task.getStatus();
+            applyPatch(patch, task);
+            results.add(BatchItemResult.success(index, 200, task));
+            eventPublisher.publishEvent(TaskChangedEvent.updated(task, previousStatus));
+        }
+        return BatchResponse.of(results);
+    }
+
+    @Transactional
+    public BatchResponse deleteAll(List<UUID> taskIds) {
+        List<BatchItemResult> results = new ArrayList<>(taskIds.size());
+        Map<Integer, UUID> accepted = new HashMap<>();
+        Set<UUID> ids = new HashSet<>();
+
+        for (int i = 0; i < taskIds.size(); i++) {
+            UUID id = taskIds.get(i);
+            String error = checkId(id, ids);
+            if (error != null) {
+                results.add(BatchItemResult.failure(i, 400, id, error));
+                continue;
+            }
+            accepted.put(i, id);
+        }
+
+        Map<UUID, Task> existing = findAllById(ids);
+        if (!existing.isEmpty()) {
+            // Tombstones for delta sync (GET /v1/api/tasks/changes) commit or roll back with the delete
+            tombstoneRepository.recordDeletions(existing.keySet(), Task.currentTimestamp());
+        }
+        taskRepository.deleteAllByIdInBatch(existing.keySet());
+        for (Map.Entry<Integer, UUID> entry : accepted.entrySet()) {
+            UUID id = entry.getValue();
+            Task task = existing.get(id);
+            if (task != null) {
+                results.add(BatchItemResult.deleted(entry.getKey(), id));
+                eventPublisher.publishEvent(TaskChangedEvent.deleted(id, task.getStatus()));
+            } else {
+                results.add(BatchItemResult.failure(entry.getKey(), 404, id, notFoundMessage(id)));
+            }
+        }
+        return BatchResponse.of(results);
+    }
+
+    private Map<UUID, Task> findAllById(Set<UUID> ids) {
+        Map<UUID, Task> tasks = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Task task : taskRepository.findAllById(ids)) {
+                tasks.put(task.getId(), task);
+            }
+        }
+        return tasks;
+    }
+
+    private static String checkId(UUID id, Set<UUID> seen) {
+        if (id == null) {
+            return "Task id is required";
+        }
+        if (!seen.add(id)) {
+            return "Duplicate task id in batch";
+        }
+        return null;
+    }
+
+    private static String notFoundMessage(UUID id) {
+        return new ResourceNotFoundException("Task", "id", id).getMessage();
+    }
+
+    // Only the fields present in the patch are validated, so e.g. a status change on an overdue task is allowed.
+    // A status needs no check: unknown values never make it past JSON parsing.
+    private List<ErrorResponse.FieldError> validatePatch(TaskPatch patch) {
+        Set<ConstraintViolation<Task>> violations = new HashSet<>();
+        if (patch.getTitle() != null) {
+            violations.addAll(validator.validateValue(Task.class, "title", patch.getTitle()));
+        }
+        if (patch.getDescription() != null) {
+            violations.addAll(validator.validateValue(Task.class, "description", patch.getDescription()));
+        }
+        if (patch.getDueDate() != null) {
+            violations.addAll(validator.validateValue(Task.class, "dueDate", patch.getDueDate()));
+        }
+        return toFieldErrors(violations);
+    }
+
+    private static void applyPatch(TaskPatch patch, Task task) {
+        if (patch.getTitle() != null) {
+            task.setTitle(patch.getTitle());
+        }
+        if (patch.getDescription() != null) {
+            task.setDescription(patch.getDescription());
+        }
+        if (patch.getStatus() != null) {
+            task.setStatus(patch.getStatus());
+        }
+        if (patch.getDueDate() != null) {
+            task.setDueDate(patch.getDueDate());
+        }
+    }
+
+    private static List<ErrorResponse.FieldError> toFieldErrors(Set<ConstraintViolation<Task>> violations) {
+        List<ErrorResponse.FieldError> errors = new ArrayList<>(violations.size());
+        for (ConstraintViolation<Task> violation : violations) {
+            errors.add(new ErrorResponse.FieldError(
+                    violation.getPropertyPath().toString(),
+                    violation.getMessage(),
+                    violation.getInvalidValue()));
+        }
+        return errors;
+    }
+}
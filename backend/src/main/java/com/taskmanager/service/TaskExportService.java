@@ -0,0 +1,62 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every task as newline-delimited JSON. Rows are read through a JDBC cursor and
+ * detached once written, so memory use does not grow with the size of the table.
+ */
+@Service
+public class TaskExportService {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter taskWriter;
+    private final ObjectMapper objectMapper;
+
+    public TaskExportService(TaskRepository taskRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.taskWriter = objectMapper.writerFor(Task.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportTo(OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<Task> tasks = taskRepository.streamAll();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                taskWriter.writeValue(generator, task);
+                generator.writeRaw('\n');
+                entityManager.detach(task);
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+}
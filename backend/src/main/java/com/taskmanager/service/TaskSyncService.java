@@ -0,0 +1,141 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.ChangeToken;
+import com.taskmanager.dto.TaskChanges;
+import com.taskmanager.exception.ResourceGoneException;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskTombstone;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delta sync for offline clients: the tasks whose {@code updatedAt} moved past a token and the tombstones of
+ * tasks deleted since. Both are keyset scans over an index, so a sync costs in proportion to the number of
+ * changes rather than the size of the table.
+ * <p>
+ * Reads stop at a horizon {@code settleTime} in the past. A write takes its timestamp shortly before it commits,
+ * so without the margin a token could move past a change that is about to become visible and never return it.
+ * Tombstones are kept for {@code tombstoneRetention}; an older token can no longer see every deletion and is
+ * rejected with 410 Gone, telling the client to reload everything.
+ */
+@Service
+public class TaskSyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSyncService.class);
+
+    // Before any task could have been written
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final Duration settleTime;
+    private final Duration tombstoneRetention;
+
+    public TaskSyncService(TaskRepository taskRepository,
+                           TaskTombstoneRepository tombstoneRepository,
+                           @Value("${taskmanager.sync.settle-time:5s}") Duration settleTime,
+                           @Value("${taskmanager.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.settleTime = settleTime;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * Deletes a task and leaves a tombstone for syncing clients, in one transaction.
+     */
+    @Transactional
+    public void delete(Task task) {
+        tombstoneRepository.recordDeletions(List.of(task.getId()), Task.currentTimestamp());
+        taskRepository.delete(task);
+    }
+
+    /**
+     * Returns up to {@code limit} changed tasks and up to {@code limit} deletions after {@code since}.
+     * Without a token this is a full initial sync: every task, and only the deletions that happen from now on.
+     */
+    @Transactional(readOnly = true)
+    public TaskChanges changesSince(ChangeToken since, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        // Timestamps are stored with microsecond precision
+        LocalDateTime until = now.minus(settleTime).truncatedTo(ChronoUnit.MICROS);
+        ChangeToken from = since;
+        if (from == null) {
+            from = new ChangeToken(BEGINNING, ChangeToken.NIL, after(until), ChangeToken.NIL);
+        } else if (from.deletedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new ResourceGoneException("Sync token has expired; reload all tasks and sync again without a token");
+        }
+
+        // Fetch one extra row per feed to learn whether more changes are waiting
+        Pageable pageable = PageRequest.ofSize(limit + 1);
+        List<Task> tasks = taskRepository.findChangedAfter(from.updatedAt(), from.taskId(), until, pageable);
+        List<TaskTombstone> tombstones = tombstoneRepository.findDeletedAfter(from.deletedAt(), from.tombstoneId(), until, pageable);
+
+        boolean moreTasks = tasks.size() > limit;
+        boolean moreDeletions = tombstones.size() > limit;
+        if (moreTasks) {
+            tasks = tasks.subList(0, limit);
+        }
+        if (moreDeletions) {
+            tombstones = tombstones.subList(0, limit);
+        }
+
+        // A feed that was read to the end resumes from the horizon, so quiet feeds keep the token fresh
+        LocalDateTime updatedAt = from.updatedAt();
+        UUID taskId = from.taskId();
+        if (moreTasks) {
+            Task last = tasks.get(limit - 1);
+            updatedAt = last.getUpdatedAt();
+            taskId = last.getId();
+        } else if (after(until).isAfter(updatedAt)) {
+            updatedAt = after(until);
+            taskId = ChangeToken.NIL;
+        }
+        LocalDateTime deletedAt = from.deletedAt();
+        UUID tombstoneId = from.tombstoneId();
+        if (moreDeletions) {
+            TaskTombstone last = tombstones.get(limit - 1);
+            deletedAt = last.getDeletedAt();
+            tombstoneId = last.getTaskId();
+        } else if (after(until).isAfter(deletedAt)) {
+            deletedAt = after(until);
+            tombstoneId = ChangeToken.NIL;
+        }
+
+        List<UUID> deleted = new ArrayList<>(tombstones.size());
+        for (TaskTombstone tombstone : tombstones) {
+            deleted.add(tombstone.getTaskId());
+        }
+        String nextToken = new ChangeToken(updatedAt, taskId, deletedAt, tombstoneId).encode();
+        return new TaskChanges(tasks, deleted, nextToken, moreTasks || moreDeletions);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${taskmanager.sync.purge-interval:PT1H}")
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        if (purged > 0) {
+            log.debug("Purged {} task tombstones older than {}", purged, tombstoneRetention);
+        }
+    }
+
+    // Paired with ChangeToken.NIL: the position just past every row stamped at or before the horizon
+    private static LocalDateTime after(LocalDateTime horizon) {
+        return horizon.plus(1, ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,192 @@
+package com.taskmanager.stats;
+
+import com.taskmanager.dto.TaskStats;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Backs {@code GET /v1/api/tasks/stats} without reading every task.
+ * <p>
+ * Per-status counts are counters moved by every committed {@link TaskChangedEvent}, which carries the status
+ * the change replaced. {@link #reconcile()} re-counts with one grouped query on a schedule and corrects any
+ * drift, e.g. from a batch delete racing a status change. It also does the initial load; until it has run once
+ * the statistics are not ready.
+ * <p>
+ * The counters move after commit, so a write the query already counted can still be on its way to the counters
+ * when the query returns; correcting for it then would count it twice once it lands. Each write moves a status
+ * by at most one, so after the initial load a run leaves as much of the drift as there were writes in flight
+ * during it, and corrects the rest. A run with no writes in flight corrects the drift exactly.
+ * <p>
+ * Overdue and due-soon figures move with the clock as well as with writes, so they are range counts over
+ * {@code idx_tasks_status_due_date} for each open status, cached for {@code dueCountsTtl}.
+ */
+@Component
+public class TaskStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatistics.class);
+
+    static final Duration DUE_SOON = Duration.ofDays(7);
+
+    private final TaskRepository taskRepository;
+    private final long dueCountsTtlNanos;
+    // One counter per status, created up front and never replaced, so reads need no locking
+    private final Map<TaskStatus, LongAdder> statusCounts = new EnumMap<>(TaskStatus.class);
+    // Events published and not yet applied or rolled back, and all events ever published
+    private final AtomicLong inFlight = new AtomicLong();
+    private final LongAdder published = new LongAdder();
+    private volatile boolean ready;
+    private volatile DueCounts dueCounts;
+
+    public TaskStatistics(TaskRepository taskRepository,
+                          @Value("${taskmanager.stats.due-counts-ttl:15s}") Duration dueCountsTtl) {
+        this.taskRepository = taskRepository;
+        this.dueCountsTtlNanos = dueCountsTtl.toNanos();
+        for (TaskStatus status : TaskStatus.values()) {
+            statusCounts.put(status, new LongAdder());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Applied on commit like a transactional listener, but counted as in flight from the moment it is published
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        inFlight.incrementAndGet();
+        published.increment();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(event);
+            inFlight.decrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(event);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private void apply(TaskChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> adjust(event.task().getStatus(), 1);
+            case UPDATED, STATUS_CHANGED -> {
+                TaskStatus status = event.task().getStatus();
+                if (status != event.previousStatus()) {
+                    adjust(event.previousStatus(), -1);
+                    adjust(status, 1);
+                }
+            }
+            case DELETED -> adjust(event.previousStatus(), -1);
+        }
+    }
+
+    // First run happens as soon as the scheduler starts, off the startup path. Synchronized: two overlapping
+    // runs would each apply the same correction.
+    @Scheduled(fixedDelayString = "${taskmanager.stats.reconcile-interval:PT10M}")
+    public synchronized void reconcile() {
+        // Adds the difference to the counters as they were just before the query instead of overwriting them,
+        // so events applied while the query runs are kept. Read in the opposite order to onTaskChanged, so an
+        // event missing from the counters is either in flight here or published later
+        long publishedBefore = published.sum();
+        long inFlightBefore = inFlight.get();
+        Map<TaskStatus, Long> counted = new EnumMap<>(TaskStatus.class);
+        for (Map.Entry<TaskStatus, LongAdder> entry : statusCounts.entrySet()) {
+            counted.put(entry.getKey(), entry.getValue().sum());
+        }
+        Map<TaskStatus, Long> actual = new EnumMap<>(TaskStatus.class);
+        for (TaskRepository.StatusCount row : taskRepository.countByStatus()) {
+            actual.put(row.getStatus(), row.getCount());
+        }
+        long unapplied = inFlightBefore + published.sum() - publishedBefore;
+
+        for (TaskStatus status : TaskStatus.values()) {
+            long drift = actual.getOrDefault(status, 0L) - counted.get(status);
+            if (!ready) {
+                adjust(status, drift);
+            } else if (Math.abs(drift) > unapplied) {
+                long correction = drift - Long.signum(drift) * unapplied;
+                adjust(status, correction);
+                log.info("Corrected task count for status '{}' by {}", status, correction);
+            }
+        }
+        ready = true;
+    }
+
+    public long count(TaskStatus status) {
+        return statusCounts.get(status).sum();
+    }
+
+    public TaskStats snapshot() {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        long total = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            long count = count(status);
+            byStatus.put(status.value(), count);
+            total += count;
+        }
+        DueCounts due = dueCounts();
+        return new TaskStats(total, byStatus, due.overdue(), due.dueSoon());
+    }
+
+    private void adjust(TaskStatus status, long delta) {
+        if (status != null) {
+            statusCounts.get(status).add(delta);
+        }
+    }
+
+    private DueCounts dueCounts() {
+        DueCounts counts = dueCounts;
+        if (counts == null || System.nanoTime() - counts.computedAt() >= dueCountsTtlNanos) {
+            counts = refreshDueCounts();
+        }
+        return counts;
+    }
+
+    private synchronized DueCounts refreshDueCounts() {
+        long computedAt = System.nanoTime();
+        DueCounts counts = dueCounts;
+        if (counts != null && computedAt - counts.computedAt() < dueCountsTtlNanos) {
+            return counts;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        long overdue = 0;
+        long dueSoon = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            if (!status.isOpen()) {
+                continue;
+            }
+            overdue += taskRepository.countDueBefore(status, now);
+            dueSoon += taskRepository.countDueBetween(status, now, now.plus(DUE_SOON));
+        }
+        counts = new DueCounts(overdue, dueSoon, computedAt);
+        dueCounts = counts;
+        return counts;
+    }
+
+    private record DueCounts(long overdue, long dueSoon, long computedAt) {
+    }
+}
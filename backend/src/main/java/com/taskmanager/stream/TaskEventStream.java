@@ -0,0 +1,255 @@
+package com.taskmanager.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.reminder.ReminderSink;
+import com.taskmanager.reminder.TaskReminder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes {@link TaskChangedEvent}s to clients connected to {@code GET /v1/api/tasks/stream} as
+ * Server-Sent Events. Each event is serialized and framed once and shared by every subscriber.
+ * {@link TaskReminder}s are sent on the same stream as {@value #REMINDER_EVENT} events.
+ * <p>
+ * The last {@code bufferSize} events are kept in a ring buffer so a client reconnecting with
+ * {@code Last-Event-ID} receives what it missed. Event ids are {@code <epoch>-<sequence>}, where the
+ * epoch changes on every restart; when the missed events are no longer buffered, or the id comes from
+ * an earlier run, the client gets a {@value #RESET_EVENT} event and should reload the task list.
+ * <p>
+ * Publishing never blocks on a client. Every subscriber has its own queue, drained by at most one task at a
+ * time, and a subscriber more than {@code bufferSize} events behind is disconnected; its browser reconnects
+ * and resumes from the buffer, or reloads.
+ * <p>
+ * Drains run on a pool of their own ({@code taskmanager.stream.send-threads}), not the application task
+ * executor: a send to a slow client blocks until its socket write times out, and that must not hold up
+ * exports or the search index build. Platform threads rather than virtual ones, because the emitter sends
+ * inside a synchronized block, which would pin the carrier thread for as long as the write blocks.
+ */
+@Component
+public class TaskEventStream implements ReminderSink {
+
+    static final String CHANGE_EVENT = "task";
+    static final String RESET_EVENT = "reset";
+    static final String REMINDER_EVENT = "reminder";
+
+    static final long RECONNECT_MILLIS = 3000;
+
+    // Sent first on every stream: commits the response headers straight away and sets the client's retry delay
+    private static final Set<DataWithMediaType> OPENED = SseEmitter.event().comment("opened").reconnectTime(RECONNECT_MILLIS).build();
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final ObjectWriter eventWriter;
+    private final ObjectWriter reminderWriter;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMillis;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Ring buffer of the latest events; guarded by this
+    private final List<Set<DataWithMediaType>> buffer;
+    private long lastSequence;
+
+    public TaskEventStream(ObjectMapper objectMapper,
+                           @Value("${taskmanager.stream.send-threads:4}") int sendThreads,
+                           @Value("${taskmanager.stream.buffer-size:1024}") int bufferSize,
+                           @Value("${taskmanager.stream.timeout:30m}") Duration timeout) {
+        this.eventWriter = objectMapper.writerFor(TaskChangedEvent.class);
+        this.reminderWriter = objectMapper.writerFor(TaskReminder.class);
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sendThreads);
+        executor.setMaxPoolSize(sendThreads);
+        executor.setThreadNamePrefix("task-stream-");
+        executor.initialize();
+        this.timeoutMillis = timeout.toMillis();
+        this.buffer = new ArrayList<>(Collections.nCopies(bufferSize, null));
+    }
+
+    /**
+     * Opens a stream for one client. With a {@code lastEventId} the events after it are sent first.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        subscriber.offer(OPENED);
+        // Registering under the lock means no event can fall between the replay and the live feed
+        synchronized (this) {
+            if (lastEventId != null) {
+                for (Set<DataWithMediaType> frame : framesAfter(lastEventId)) {
+                    subscriber.offer(frame);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        publish(CHANGE_EVENT, serialize(eventWriter, event));
+    }
+
+    @Override
+    public void deliver(TaskReminder reminder) {
+        publish(REMINDER_EVENT, serialize(reminderWriter, reminder));
+    }
+
+    private void publish(String name, String data) {
+        List<Subscriber> ready = new ArrayList<>();
+        synchronized (this) {
+            long sequence = ++lastSequence;
+            Set<DataWithMediaType> frame = SseEmitter.event()
+                    .id(epoch + "-" + sequence)
+                    .name(name)
+                    .data(data)
+                    .build();
+            buffer.set((int) (sequence % buffer.size()), frame);
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.offer(frame)) {
+                    ready.add(subscriber);
+                }
+            }
+        }
+        for (Subscriber subscriber : ready) {
+            subscriber.schedule();
+        }
+    }
+
+    // Keeps idle connections open through proxies and detects clients that went away
+    @Scheduled(fixedDelayString = "${taskmanager.stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(HEARTBEAT)) {
+                subscriber.schedule();
+            }
+        }
+    }
+
+    // Caller holds the lock
+    private List<Set<DataWithMediaType>> framesAfter(String lastEventId) {
+        long after = parseSequence(lastEventId);
+        long oldest = Math.max(1, lastSequence - buffer.size() + 1);
+        if (after < 0 || after > lastSequence || after + 1 < oldest) {
+            return List.of(SseEmitter.event().name(RESET_EVENT).data("").build());
+        }
+        List<Set<DataWithMediaType>> frames = new ArrayList<>();
+        for (long sequence = after + 1; sequence <= lastSequence; sequence++) {
+            frames.add(buffer.get((int) (sequence % buffer.size())));
+        }
+        return frames;
+    }
+
+    // -1 when the id was not issued by this run
+    private long parseSequence(String eventId) {
+        int dash = eventId.lastIndexOf('-');
+        if (dash < 0 || !eventId.substring(0, dash).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String serialize(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // False if nothing needs scheduling: the subscriber is closed, or was just dropped for lagging
+        boolean offer(Set<DataWithMediaType> frame) {
+            if (closed) {
+                return false;
+            }
+            // A full buffer's worth behind: it could not resume from the buffer after reconnecting either
+            if (queued.incrementAndGet() > buffer.size()) {
+                close();
+                // complete() waits for a send in progress, so never call it on the publishing thread
+                executor.execute(emitter::complete);
+                return false;
+            }
+            queue.add(frame);
+            return true;
+        }
+
+        void schedule() {
+            if (!closed && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    emitter.send(frame);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client disconnected or the emitter already completed
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // An event may have arrived after the last poll but before draining was cleared
+            schedule();
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+        }
+    }
+}
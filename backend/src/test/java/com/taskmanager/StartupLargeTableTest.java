@@ -0,0 +1,75 @@
+package com.taskmanager;
+
+import com.taskmanager.search.TaskSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starts the application with the prod profile against a file database that already holds a large
+ * table, and checks startup stays under a budget. The first start runs the migrations and seeds the
+ * rows; the second start is the one measured. Disabled by default; run with e.g.
+ * {@code mvn test -Dtest=StartupLargeTableTest -Dtaskmanager.startup.rows=2000000 -Dtaskmanager.startup.maxMillis=15000}
+ */
+@EnabledIfSystemProperty(named = "taskmanager.startup.rows", matches = "\\d+")
+class StartupLargeTableTest {
+
+    private static final Path DATA_DIR = Path.of("target", "startup-large-test");
+    private static final int INSERT_CHUNK = 50_000;
+
+    private final String[] args = {
+            "--spring.profiles.active=prod",
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:file:./" + DATA_DIR.resolve("taskmanager") + ";CACHE_SIZE=65536;DB_CLOSE_ON_EXIT=FALSE",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.org.hibernate.SQL=WARN"
+    };
+
+    @AfterEach
+    void tearDown() throws Exception {
+        FileSystemUtils.deleteRecursively(DATA_DIR);
+    }
+
+    @Test
+    void testStartupWithLargeTableStaysWithinBudget() throws InterruptedException {
+        long rows = Long.getLong("taskmanager.startup.rows");
+        long maxMillis = Long.getLong("taskmanager.startup.maxMillis", 15_000);
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(TaskManagerApplication.class, args)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            for (long start = 1; start <= rows; start += INSERT_CHUNK) {
+                long end = Math.min(rows, start + INSERT_CHUNK - 1);
+                jdbcTemplate.update("INSERT INTO tasks (id, title, description, status, due_date, created_at, updated_at, version) " +
+                        "SELECT RANDOM_UUID(), 'Task ' || X, 'Seeded for the startup test', " +
+                        "MOD(X, 3), " +
+                        "DATEADD('DAY', MOD(X, 90), LOCALTIMESTAMP), DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), " +
+                        "NULL, 0 FROM SYSTEM_RANGE(?, ?)", start, end);
+            }
+        }
+
+        long started = System.nanoTime();
+        try (ConfigurableApplicationContext context = SpringApplication.run(TaskManagerApplication.class, args)) {
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            Long count = context.getBean(JdbcTemplate.class).queryForObject("SELECT COUNT(*) FROM tasks", Long.class);
+
+            assertEquals(rows, count);
+            System.out.printf("Started with %d tasks in %d ms (budget %d ms)%n", rows, elapsedMillis, maxMillis);
+            assertTrue(elapsedMillis <= maxMillis, "Startup took " + elapsedMillis + " ms");
+
+            // The search index builds in the background after startup; wait so the database isn't closed under it
+            TaskSearchIndex taskSearchIndex = context.getBean(TaskSearchIndex.class);
+            while (!taskSearchIndex.isReady()) {
+                Thread.sleep(100);
+            }
+            System.out.printf("Search index ready %d ms after launch%n", (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.taskmanager.admission;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against a real server so requests overlap the way they do in production: MockMvc runs each request
+ * on the calling thread.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "taskmanager.admission.enabled=true",
+        "taskmanager.admission.requests-per-second=2",
+        "taskmanager.admission.burst=20",
+        "taskmanager.admission.max-in-flight=64"
+})
+class AdmissionIntegrationTest {
+
+    private static final int CLIENTS = 3;
+    private static final int THREADS_PER_CLIENT = 8;
+    private static final int REQUESTS_PER_THREAD = 10;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ConcurrencyLimiter concurrencyLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        for (int i = 0; i < 5; i++) {
+            taskRepository.save(Task.create("Admitted task " + i, "", LocalDateTime.now().plusDays(1)));
+        }
+    }
+
+    @Test
+    void testEachClientIsHeldToItsOwnRateUnderConcurrentLoad() throws Exception {
+        double rejectedBefore = rejected("rate-limit");
+        List<String> keys = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            keys.add("client-" + UUID.randomUUID());
+        }
+        Map<String, AtomicInteger> admitted = new ConcurrentHashMap<>();
+        AtomicInteger limited = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS * THREADS_PER_CLIENT);
+        CountDownLatch start = new CountDownLatch(1);
+        long started = System.nanoTime();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (String key : keys) {
+                admitted.put(key, new AtomicInteger());
+                for (int t = 0; t < THREADS_PER_CLIENT; t++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                            HttpResponse<String> response = get("/v1/api/tasks?limit=5", key);
+                            if (response.statusCode() == 200) {
+                                admitted.get(key).incrementAndGet();
+                            } else {
+                                assertEquals(429, response.statusCode(), response.body());
+                                long retryAfter = Long.parseLong(response.headers().firstValue("Retry-After").orElseThrow());
+                                assertTrue(retryAfter >= 1, "Retry-After " + retryAfter);
+                                limited.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsedSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started) + 1;
+
+        // Every client gets its whole burst, plus whatever refilled while the test ran, and no more
+        for (String key : keys) {
+            int count = admitted.get(key).get();
+            assertTrue(count >= 20 && count <= 20 + 2 * elapsedSeconds, key + " admitted " + count);
+        }
+        assertEquals(CLIENTS * THREADS_PER_CLIENT * REQUESTS_PER_THREAD,
+                admitted.values().stream().mapToInt(AtomicInteger::get).sum() + limited.get());
+        assertEquals(limited.get(), rejected("rate-limit") - rejectedBefore);
+        awaitNoneInFlight();
+    }
+
+    @Test
+    void testShedsLoadOnceInFlightLimitIsReached() throws Exception {
+        double rejectedBefore = rejected("concurrency-limit");
+        int held = 0;
+        while (concurrencyLimiter.tryAcquire()) {
+            held++;
+        }
+        try {
+            HttpResponse<String> response = get("/v1/api/tasks?limit=5", "busy-" + UUID.randomUUID());
+
+            assertEquals(503, response.statusCode());
+            assertEquals("1", response.headers().firstValue("Retry-After").orElse(null));
+            assertTrue(response.body().contains("Server is busy"), response.body());
+        } finally {
+            for (int i = 0; i < held; i++) {
+                concurrencyLimiter.release();
+            }
+        }
+        // tryAcquire counted one rejection when the loop above found the limiter full
+        assertEquals(2, rejected("concurrency-limit") - rejectedBefore);
+        assertEquals(200, get("/v1/api/tasks?limit=5", "busy-" + UUID.randomUUID()).statusCode());
+    }
+
+    @Test
+    void testAsyncResponsesGiveBackTheirPermit() throws Exception {
+        HttpResponse<String> response = get("/v1/api/tasks/export", "export-" + UUID.randomUUID());
+
+        assertEquals(200, response.statusCode());
+        awaitNoneInFlight();
+        assertEquals(64.0, meterRegistry.get("tasks.requests.inflight.max").gauge().value());
+    }
+
+    private HttpResponse<String> get(String path, String apiKey) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(AdmissionInterceptor.API_KEY_HEADER, apiKey).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("tasks.requests.rejected").tag("reason", reason).functionCounter().count();
+    }
+
+    // The permit is released in afterCompletion, which may run just after the client has the response
+    private void awaitNoneInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (concurrencyLimiter.inFlight() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, concurrencyLimiter.inFlight());
+        assertEquals(0.0, meterRegistry.get("tasks.requests.inflight").gauge().value());
+    }
+}
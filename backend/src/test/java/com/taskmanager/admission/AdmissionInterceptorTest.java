@@ -0,0 +1,73 @@
+package com.taskmanager.admission;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionInterceptorTest {
+
+    private ConcurrencyLimiter concurrencyLimiter;
+    private AdmissionInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        concurrencyLimiter = new ConcurrencyLimiter(2);
+        interceptor = new AdmissionInterceptor(new ClientRateLimiter(100, 100), concurrencyLimiter);
+    }
+
+    @Test
+    void testExportHoldsItsPermitUntilTheAsyncRequestCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/tasks/export");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.setAsyncSupported(true);
+        HandlerMethod handler = handler("export");
+
+        assertTrue(interceptor.preHandle(request, response, handler));
+        MockAsyncContext asyncContext = (MockAsyncContext) request.startAsync();
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+        assertEquals(1, concurrencyLimiter.inFlight());
+
+        asyncContext.complete();
+        assertEquals(0, concurrencyLimiter.inFlight());
+        // The async dispatch's afterCompletion must not release it a second time
+        interceptor.afterCompletion(request, response, handler, null);
+        assertEquals(0, concurrencyLimiter.inFlight());
+    }
+
+    @Test
+    void testEventStreamGivesBackItsPermitWhenTheRequestThreadHandsOver() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/tasks/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.setAsyncSupported(true);
+        HandlerMethod handler = handler("stream");
+
+        assertTrue(interceptor.preHandle(request, response, handler));
+        request.startAsync();
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        assertEquals(0, concurrencyLimiter.inFlight());
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new AsyncHandlers(), AsyncHandlers.class.getMethod(name));
+    }
+
+    public static class AsyncHandlers {
+
+        public StreamingResponseBody export() {
+            return out -> {
+            };
+        }
+
+        public SseEmitter stream() {
+            return new SseEmitter();
+        }
+    }
+}
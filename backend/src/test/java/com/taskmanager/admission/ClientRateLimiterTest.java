@@ -0,0 +1,44 @@
+package com.taskmanager.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientRateLimiterTest {
+
+    @Test
+    void testClientsHaveSeparateBuckets() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 2);
+
+        assertEquals(0, limiter.tryAcquire("ip:10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("ip:10.0.0.1"));
+        assertTrue(limiter.tryAcquire("ip:10.0.0.1") > 0);
+        assertEquals(0, limiter.tryAcquire("key:reporting"));
+
+        assertEquals(2, limiter.clientCount());
+        assertEquals(1, limiter.rejectedCount());
+    }
+
+    @Test
+    void testEvictsOnlyBucketsThatHaveRefilled() throws InterruptedException {
+        // One request per microsecond: the bucket is full again almost at once
+        ClientRateLimiter limiter = new ClientRateLimiter(1_000_000, 1);
+        ClientRateLimiter slow = new ClientRateLimiter(0.001, 1);
+        limiter.tryAcquire("ip:10.0.0.1");
+        slow.tryAcquire("ip:10.0.0.1");
+        Thread.sleep(5);
+
+        limiter.evictIdle();
+        slow.evictIdle();
+
+        assertEquals(0, limiter.clientCount());
+        assertEquals(1, slow.clientCount());
+    }
+
+    @Test
+    void testRejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ClientRateLimiter(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new ClientRateLimiter(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(0));
+    }
+}
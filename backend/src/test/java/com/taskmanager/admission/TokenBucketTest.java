@@ -0,0 +1,79 @@
+package com.taskmanager.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+    // nanoTime values can be negative; the bucket only ever compares differences
+    private static final long START = Long.MAX_VALUE - TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testAllowsBurstThenOneRequestPerInterval() {
+        TokenBucket bucket = new TokenBucket(INTERVAL, 3, START);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(START));
+        }
+        assertEquals(INTERVAL, bucket.tryAcquire(START));
+        assertEquals(INTERVAL / 2, bucket.tryAcquire(START + INTERVAL / 2));
+        assertEquals(0, bucket.tryAcquire(START + INTERVAL));
+        assertTrue(bucket.tryAcquire(START + INTERVAL) > 0);
+    }
+
+    @Test
+    void testIdleTimeRefillsUpToBurstOnly() {
+        TokenBucket bucket = new TokenBucket(INTERVAL, 2, START);
+        bucket.tryAcquire(START);
+        bucket.tryAcquire(START);
+        assertFalse(bucket.isFull(START));
+
+        long later = START + 50 * INTERVAL;
+        assertTrue(bucket.isFull(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertTrue(bucket.tryAcquire(later) > 0);
+    }
+
+    @Test
+    void testConcurrentRequestsNeverTakeMoreThanBurst() throws Exception {
+        int burst = 500;
+        TokenBucket bucket = new TokenBucket(INTERVAL, burst, START);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int taken = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        if (bucket.tryAcquire(START) == 0) {
+                            taken++;
+                        }
+                    }
+                    return taken;
+                }));
+            }
+            start.countDown();
+            int taken = 0;
+            for (Future<Integer> result : results) {
+                taken += result.get();
+            }
+            assertEquals(burst, taken);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskmanager.cache;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = ((CaffeineCache) cacheManager.getCache(TaskCache.CACHE_NAME)).getNativeCache();
+        cache.invalidateAll();
+    }
+
+    @Test
+    void testRepeatedReadsAreServedFromCache() throws Exception {
+        String id = createTask("Cached task");
+        long hitsBefore = cache.stats().hitCount();
+
+        mockMvc.perform(get("/v1/api/tasks/" + id)).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/api/tasks/" + id)).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/api/tasks/" + id)).andExpect(status().isOk());
+
+        assertEquals(2, cache.stats().hitCount() - hitsBefore);
+    }
+
+    @Test
+    void testMissesAreNotCached() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/v1/api/tasks/" + UUID.randomUUID())).andExpect(status().isNotFound());
+        }
+
+        cache.cleanUp();
+        assertEquals(0, cache.estimatedSize());
+        // A task created after a miss on its id is found right away
+        String id = createTask("Created after the lookups");
+        mockMvc.perform(get("/v1/api/tasks/" + id)).andExpect(status().isOk());
+        cache.cleanUp();
+        assertEquals(1, cache.estimatedSize());
+    }
+
+    @Test
+    void testNoStaleReadsAfterPut() throws Exception {
+        String id = createTask("Original title");
+        mockMvc.perform(get("/v1/api/tasks/" + id)).andExpect(jsonPath("$.title").value("Original title"));
+
+        mockMvc.perform(put("/v1/api/tasks/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(taskJson("Updated title")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/api/tasks/" + id)).andExpect(jsonPath("$.title").value("Updated title"));
+    }
+
+    @Test
+    void testNoStaleReadsAfterStatusPatch() throws Exception {
+        String id = createTask("Status task");
+        mockMvc.perform(get("/v1/api/tasks/" + id)).andExpect(jsonPath("$.status").value("pending"));
+
+        mockMvc.perform(patch("/v1/api/tasks/" + id + "/status").param("status", "in-progress"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/api/tasks/" + id)).andExpect(jsonPath("$.status").value("in-progress"));
+
+        mockMvc.perform(patch("/v1/api/tasks/" + id + "/status").param("status", "completed")
+                        .header("Prefer", "return=minimal"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/v1/api/tasks/" + id)).andExpect(jsonPath("$.status").value("completed"));
+    }
+
+    @Test
+    void testNoStaleReadsAfterDelete() throws Exception {
+        String id = createTask("Doomed task");
+        mockMvc.perform(get("/v1/api/tasks/" + id)).andExpect(status().isOk());
+
+        mockMvc.perform(delete("/v1/api/tasks/" + id)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/api/tasks/" + id)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testNoStaleReadsAfterBulkWrites() throws Exception {
+        String first = createTask("Bulk task one");
+        String second = createTask("Bulk task two");
+        mockMvc.perform(get("/v1/api/tasks/" + first)).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/api/tasks/" + second)).andExpect(status().isOk());
+
+        mockMvc.perform(patch("/v1/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"id\":\"" + first + "\",\"title\":\"Bulk renamed\"}]"))
+                .andExpect(jsonPath("$.succeeded").value(1));
+        mockMvc.perform(delete("/v1/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + second + "\"]"))
+                .andExpect(jsonPath("$.succeeded").value(1));
+
+        mockMvc.perform(get("/v1/api/tasks/" + first)).andExpect(jsonPath("$.title").value("Bulk renamed"));
+        mockMvc.perform(get("/v1/api/tasks/" + second)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testCacheCountersAreExposedThroughActuator() throws Exception {
+        String id = createTask("Metered task");
+        mockMvc.perform(get("/v1/api/tasks/" + id));
+        mockMvc.perform(get("/v1/api/tasks/" + id));
+
+        mockMvc.perform(get("/actuator/metrics/cache.gets").param("tag", "cache:tasks", "result:hit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").isNumber());
+        mockMvc.perform(get("/actuator/metrics/cache.evictions").param("tag", "cache:tasks"))
+                .andExpect(status().isOk());
+    }
+
+    private String createTask(String title) throws Exception {
+        String response = mockMvc.perform(post("/v1/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(taskJson(title)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private static String taskJson(String title) {
+        return "{\"title\":\"" + title + "\",\"status\":\"pending\",\"dueDate\":\"" +
+                LocalDateTime.now().plusDays(1).withNano(0) + "\"}";
+    }
+}
@@ -0,0 +1,45 @@
+package com.taskmanager.config;
+
+import com.taskmanager.dto.TaskSummary;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.ErrorResponse;
+import com.taskmanager.model.Task;
+import com.taskmanager.reminder.TaskReminder;
+import io.swagger.v3.oas.models.info.Info;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.util.ClassUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuntimeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    RuntimeHintsConfigTest() {
+        new RuntimeHintsConfig.TaskManagerRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testJsonTypesOutsideControllersAreRegistered() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(TaskChangedEvent.class.getMethod("type")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(TaskReminder.class.getMethod("dueDate")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(ErrorResponse.class.getMethod("getFieldErrors")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(Info.class.getMethod("getTitle")).test(hints));
+    }
+
+    @Test
+    void testValidationAndQueryTypesAreRegistered() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Task.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onConstructor(TaskSummary.class.getConstructors()[0]).test(hints));
+        for (String validator : RuntimeHintsConfig.TASK_VALIDATORS) {
+            // A renamed validator would silently drop out of the native image
+            assertTrue(ClassUtils.isPresent(validator, getClass().getClassLoader()), validator);
+            assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(validator)).test(hints), validator);
+        }
+    }
+}
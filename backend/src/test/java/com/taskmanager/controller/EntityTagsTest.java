@@ -0,0 +1,35 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.exception.PreconditionFailedException;
+import com.taskmanager.model.Task;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityTagsTest {
+
+    @Test
+    void testIfMatchVersionsParsesListsAndSkipsWeakTags() {
+        assertNull(EntityTags.ifMatchVersions(null));
+        assertNull(EntityTags.ifMatchVersions(" * "));
+        assertNull(EntityTags.ifMatchVersions("\"2\", *"));
+        assertEquals(Set.of(3L), EntityTags.ifMatchVersions("\"3\""));
+        assertEquals(Set.of(2L, 3L), EntityTags.ifMatchVersions("\"2\", \"3\""));
+        assertEquals(Set.of(3L), EntityTags.ifMatchVersions("W/\"2\", \"3\", \"abc\", 4"));
+        assertEquals(Set.of(), EntityTags.ifMatchVersions("W/\"2\""));
+    }
+
+    @Test
+    void testCheckIfMatchUsesTheSameParser() {
+        Task task = Task.builder().title("Tagged").version(3L).build();
+
+        EntityTags.checkIfMatch(null, task);
+        EntityTags.checkIfMatch("*", task);
+        EntityTags.checkIfMatch("\"2\", \"3\"", task);
+        EntityTags.checkIfMatch("\"2\",\"3\"", task);
+        assertThrows(PreconditionFailedException.class, () -> EntityTags.checkIfMatch("W/\"3\"", task));
+        assertThrows(PreconditionFailedException.class, () -> EntityTags.checkIfMatch("\"2\", \"4\"", task));
+    }
+}
@@ -1,25 +1,57 @@
 package com.taskmanager.controller;
 
+import com.taskmanager.cache.TaskCache;
+import com.taskmanager.dto.BatchResponse;
+import com.taskmanager.dto.ChangeToken;
+import com.taskmanager.dto.TaskChanges;
+import com.taskmanager.dto.TaskStats;
+import com.taskmanager.dto.TaskSummary;
+import com.taskmanager.dto.TaskCursor;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.PreconditionFailedException;
 import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.exception.ServiceUnavailableException;
+import com.taskmanager.idempotency.IdempotencyClaim;
+import com.taskmanager.idempotency.IdempotencyStore;
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
 import com.taskmanager.repository.TaskRepository;
 import com.taskmanager.repository.TaskRepositoryTest;
+import com.taskmanager.search.TaskSearchIndex;
+import com.taskmanager.service.TaskBatchService;
+import com.taskmanager.service.TaskExportService;
+import com.taskmanager.service.TaskSyncService;
+import com.taskmanager.stats.TaskStatistics;
+import com.taskmanager.stream.TaskEventStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +60,33 @@ class TaskControllerTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskExportService taskExportService;
+
+    @Mock
+    private TaskBatchService taskBatchService;
+
+    @Mock
+    private TaskCache taskCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskEventStream taskEventStream;
+
+    @Mock
+    private TaskSyncService taskSyncService;
+
+    @Mock
+    private TaskStatistics taskStatistics;
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
     @InjectMocks
     private TaskController taskController;
 
@@ -46,14 +105,176 @@ class TaskControllerTest {
                 .dueDate(LocalDateTime.now().plusDays(2))
                 .build();
         
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(task1, task2));
+        when(taskRepository.findPage(isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(task1, task2));
 
         // When
-        List<Task> tasks = taskController.getAllTasks();
+        ResponseEntity<List<Task>> response = taskController.getAllTasks(10, null, null, null, null);
 
         // Then
-        assertEquals(2, tasks.size());
-        verify(taskRepository, times(1)).findAll();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().size());
+        assertNull(response.getHeaders().getFirst(TaskController.NEXT_CURSOR_HEADER));
+        verify(taskRepository, times(1)).findPage(isNull(), isNull(), isNull(), eq(PageRequest.ofSize(11)));
+    }
+
+    @Test
+    void testGetAllTasksReturnsNextCursorWhenMorePagesExist() {
+        // Given
+        Task task1 = Task.builder()
+                .id(UUID.randomUUID())
+                .title("Task 1")
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .createdAt(LocalDateTime.now().minusHours(2))
+                .build();
+
+        Task task2 = Task.builder()
+                .id(UUID.randomUUID())
+                .title("Task 2")
+                .dueDate(LocalDateTime.now().plusDays(2))
+                .createdAt(LocalDateTime.now().minusHours(1))
+                .build();
+
+        when(taskRepository.findPage(eq(TaskStatus.PENDING), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(task1, task2));
+
+        // When
+        ResponseEntity<List<Task>> response = taskController.getAllTasks(1, null, "pending", null, null);
+
+        // Then
+        assertEquals(1, response.getBody().size());
+        assertEquals("Task 1", response.getBody().get(0).getTitle());
+        String cursor = response.getHeaders().getFirst(TaskController.NEXT_CURSOR_HEADER);
+        assertEquals(TaskCursor.of(task1), TaskCursor.decode(cursor));
+    }
+
+    @Test
+    void testGetAllTasksAfterCursor() {
+        // Given
+        TaskCursor cursor = new TaskCursor(LocalDateTime.now().minusDays(1), UUID.randomUUID());
+        when(taskRepository.findPageAfter(eq(cursor.createdAt()), eq(cursor.id()), isNull(), isNull(), isNull(),
+                any(Pageable.class))).thenReturn(List.of());
+
+        // When
+        ResponseEntity<List<Task>> response = taskController.getAllTasks(10, cursor.encode(), null, null, null);
+
+        // Then
+        assertTrue(response.getBody().isEmpty());
+        verify(taskRepository, never()).findPage(any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetTaskSummariesReturnsNextCursorWhenMorePagesExist() {
+        // Given
+        TaskSummary first = new TaskSummary(UUID.randomUUID(), "Task 1", TaskStatus.PENDING,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().minusHours(2));
+        TaskSummary second = new TaskSummary(UUID.randomUUID(), "Task 2", TaskStatus.PENDING,
+                LocalDateTime.now().plusDays(2), LocalDateTime.now().minusHours(1));
+        when(taskRepository.findSummaryPage(eq(TaskStatus.PENDING), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(first, second));
+
+        // When
+        ResponseEntity<List<TaskSummary>> response = taskController.getTaskSummaries(1, null, "pending", null, null);
+
+        // Then
+        assertEquals(List.of(first), response.getBody());
+        String cursor = response.getHeaders().getFirst(TaskController.NEXT_CURSOR_HEADER);
+        assertEquals(new TaskCursor(first.createdAt(), first.id()), TaskCursor.decode(cursor));
+        verify(taskRepository, never()).findPage(any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetTaskSummariesAfterCursorRejectsInvalidParameters() {
+        TaskCursor cursor = new TaskCursor(LocalDateTime.now().minusDays(1), UUID.randomUUID());
+        when(taskRepository.findSummaryPageAfter(eq(cursor.createdAt()), eq(cursor.id()), isNull(), isNull(), isNull(),
+                any(Pageable.class))).thenReturn(List.of());
+
+        assertTrue(taskController.getTaskSummaries(10, cursor.encode(), null, null, null).getBody().isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> taskController.getTaskSummaries(0, null, null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskController.getTaskSummaries(10, null, "done", null, null));
+    }
+
+    @Test
+    void testGetAllTasksRejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class,
+                () -> taskController.getAllTasks(0, null, null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskController.getAllTasks(TaskController.MAX_PAGE_SIZE + 1, null, null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskController.getAllTasks(10, null, "done", null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskController.getAllTasks(10, "not-a-cursor", null, null, null));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testExportTasksStreamsThroughExportService() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = taskController.exportTasks();
+        response.getBody().writeTo(out);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+        verify(taskExportService, times(1)).exportTo(out);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testStreamTaskChangesSubscribesWithLastEventId() {
+        // Given
+        SseEmitter emitter = new SseEmitter();
+        when(taskEventStream.subscribe("abc-42")).thenReturn(emitter);
+
+        // When
+        SseEmitter result = taskController.streamTaskChanges("abc-42");
+
+        // Then
+        assertSame(emitter, result);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testSearchTasksKeepsRankOrder() {
+        // Given
+        Task best = Task.builder().id(UUID.randomUUID()).title("Best match").build();
+        Task second = Task.builder().id(UUID.randomUUID()).title("Second match").build();
+        when(taskSearchIndex.isReady()).thenReturn(true);
+        when(taskSearchIndex.search("match", 0, 2))
+                .thenReturn(new TaskSearchIndex.SearchResult(5, List.of(best.getId(), second.getId())));
+        // The IN query returns rows in no particular order
+        when(taskRepository.findAllById(List.of(best.getId(), second.getId()))).thenReturn(List.of(second, best));
+
+        // When
+        ResponseEntity<List<Task>> response = taskController.searchTasks("match", 2, 0);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(best, second), response.getBody());
+        assertEquals("5", response.getHeaders().getFirst(TaskController.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    void testSearchTasksUnavailableWhileIndexIsBuilding() {
+        when(taskSearchIndex.isReady()).thenReturn(false);
+
+        assertThrows(ServiceUnavailableException.class, () -> taskController.searchTasks("task", 10, 0));
+        verify(taskSearchIndex, never()).search(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testSearchTasksRejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> taskController.searchTasks(" ", 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> taskController.searchTasks("task", 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskController.searchTasks("task", TaskController.MAX_SEARCH_LIMIT + 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> taskController.searchTasks("task", 10, -1));
+        verifyNoInteractions(taskSearchIndex, taskRepository);
     }
 
     @Test
@@ -66,29 +287,29 @@ class TaskControllerTest {
                 .dueDate(LocalDateTime.now().plusDays(1))
                 .build();
         
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskCache.findById(taskId)).thenReturn(Optional.of(task));
 
         // When
-        ResponseEntity<Task> response = taskController.getTaskById(taskId);
+        ResponseEntity<Task> response = taskController.getTaskById(taskId, null);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals("Test Task", response.getBody().getTitle());
-        verify(taskRepository, times(1)).findById(taskId);
+        verify(taskCache, times(1)).findById(taskId);
     }
 
     @Test
     void testGetTaskByIdNotFound() {
         // Given
         UUID taskId = UUID.randomUUID();
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskCache.findById(taskId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> {
-            taskController.getTaskById(taskId);
+            taskController.getTaskById(taskId, null);
         });
-        verify(taskRepository, times(1)).findById(taskId);
+        verify(taskCache, times(1)).findById(taskId);
     }
 
     @Test
@@ -110,7 +331,7 @@ class TaskControllerTest {
         when(taskRepository.save(any(Task.class))).thenReturn(savedTask);
 
         // When
-        ResponseEntity<Task> response = taskController.createTask(newTask);
+        ResponseEntity<Task> response = taskController.createTask(null, newTask);
 
         // Then
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
@@ -118,6 +339,30 @@ class TaskControllerTest {
         assertNotNull(response.getBody().getId());
         assertEquals("New Task", response.getBody().getTitle());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.created(savedTask));
+        verifyNoInteractions(idempotencyStore);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreateTaskWithIdempotencyKeyRecordsTheResponse() {
+        // Given
+        Task newTask = Task.create("New Task", "New Description", LocalDateTime.now().plusDays(1));
+        Task savedTask = Task.builder().id(UUID.randomUUID()).title("New Task").dueDate(newTask.getDueDate()).version(0L).build();
+        when(taskRepository.save(newTask)).thenReturn(savedTask);
+        IdempotencyClaim claim = new IdempotencyClaim("client-key-digest", "request-body-digest");
+        when(idempotencyStore.create(eq(claim), any(Supplier.class), any(Function.class)))
+                .thenAnswer(invocation -> invocation.<Supplier<Task>>getArgument(1).get());
+
+        // When
+        ResponseEntity<Task> response = taskController.createTask(claim, newTask);
+
+        // Then
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertSame(savedTask, response.getBody());
+        assertEquals("\"0\"", response.getHeaders().getETag());
+        verify(taskRepository, times(1)).save(newTask);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.created(savedTask));
     }
 
     @Test
@@ -128,14 +373,14 @@ class TaskControllerTest {
                 .id(taskId)
                 .title("Old Title")
                 .description("Old Description")
-                .status("pending")
+                .status(TaskStatus.PENDING)
                 .dueDate(LocalDateTime.now().plusDays(1))
                 .build();
         
         Task updatedTaskDetails = Task.builder()
                 .title("New Title")
                 .description("New Description")
-                .status("completed")
+                .status(TaskStatus.COMPLETED)
                 .dueDate(LocalDateTime.now().plusDays(2))
                 .build();
         
@@ -143,37 +388,79 @@ class TaskControllerTest {
         when(taskRepository.save(any(Task.class))).thenReturn(existingTask);
 
         // When
-        ResponseEntity<Task> response = taskController.updateTask(taskId, updatedTaskDetails);
+        ResponseEntity<Task> response = taskController.updateTask(taskId, null, updatedTaskDetails);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         verify(taskRepository, times(1)).findById(taskId);
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.updated(existingTask, TaskStatus.PENDING));
     }
 
     @Test
     void testUpdateTaskStatus() {
         // Given
         UUID taskId = UUID.randomUUID();
-        Task existingTask = Task.builder()
+        Task updatedTask = Task.builder()
                 .id(taskId)
                 .title("Test Task")
-                .status("pending")
+                .status(TaskStatus.COMPLETED)
                 .dueDate(LocalDateTime.now().plusDays(1))
                 .build();
-        
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(existingTask);
+
+        when(taskRepository.updateStatusReturning(eq(taskId), eq(TaskStatus.COMPLETED), any(LocalDateTime.class), isNull()))
+                .thenReturn(Optional.of(new TaskRepository.StatusChange(updatedTask, TaskStatus.PENDING)));
 
         // When
-        ResponseEntity<Task> response = taskController.updateTaskStatus(taskId, "completed");
+        ResponseEntity<Task> response = taskController.updateTaskStatus(taskId, "completed", null, null);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals("completed", existingTask.getStatus());
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        assertEquals(TaskStatus.COMPLETED, response.getBody().getStatus());
+        verify(taskRepository, times(1)).updateStatusReturning(eq(taskId), eq(TaskStatus.COMPLETED), any(LocalDateTime.class), isNull());
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.statusChanged(updatedTask, TaskStatus.PENDING));
+    }
+
+    @Test
+    void testUpdateTaskStatusReturnMinimal() {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        Task updatedTask = Task.builder().id(taskId).title("Test Task").status(TaskStatus.IN_PROGRESS).build();
+        when(taskRepository.updateStatusReturning(eq(taskId), eq(TaskStatus.IN_PROGRESS), any(LocalDateTime.class), isNull()))
+                .thenReturn(Optional.of(new TaskRepository.StatusChange(updatedTask, TaskStatus.PENDING)));
+
+        // When
+        ResponseEntity<Task> response = taskController.updateTaskStatus(taskId, "in-progress", null, "return=minimal");
+
+        // Then
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertNull(response.getBody());
+        // Event consumers still get the task and the status it replaced
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.statusChanged(updatedTask, TaskStatus.PENDING));
+    }
+
+    @Test
+    void testUpdateTaskStatusNotFound() {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        when(taskRepository.updateStatusReturning(eq(taskId), eq(TaskStatus.COMPLETED), any(LocalDateTime.class), isNull()))
+                .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskController.updateTaskStatus(taskId, "completed", null, null));
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskController.updateTaskStatus(taskId, "completed", null, "return=minimal"));
+    }
+
+    @Test
+    void testUpdateTaskStatusRejectsInvalidStatus() {
+        assertThrows(IllegalArgumentException.class,
+                () -> taskController.updateTaskStatus(UUID.randomUUID(), "done", null, null));
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
@@ -187,14 +474,220 @@ class TaskControllerTest {
                 .build();
         
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        doNothing().when(taskRepository).delete(any(Task.class));
 
         // When
-        ResponseEntity<?> response = taskController.deleteTask(taskId);
+        ResponseEntity<?> response = taskController.deleteTask(taskId, null);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
         verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).delete(any(Task.class));
+        verify(taskSyncService, times(1)).delete(existingTask);
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.deleted(taskId, TaskStatus.PENDING));
+    }
+
+    @Test
+    void testGetChangesDecodesTokenAndDelegatesToSyncService() {
+        // Given
+        ChangeToken token = new ChangeToken(LocalDateTime.now().minusHours(1), UUID.randomUUID(),
+                LocalDateTime.now().minusHours(1), ChangeToken.NIL);
+        TaskChanges changes = new TaskChanges(List.of(), List.of(UUID.randomUUID()), "next", false);
+        when(taskSyncService.changesSince(token, 50)).thenReturn(changes);
+
+        // When
+        ResponseEntity<TaskChanges> response = taskController.getChanges(token.encode(), 50);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(changes, response.getBody());
+    }
+
+    @Test
+    void testGetChangesRejectsInvalidLimitAndToken() {
+        assertThrows(IllegalArgumentException.class, () -> taskController.getChanges(null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskController.getChanges(null, TaskController.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> taskController.getChanges("%%%", 10));
+        verifyNoInteractions(taskSyncService);
+    }
+
+    @Test
+    void testGetStatsReturnsSnapshot() {
+        // Given
+        TaskStats stats = new TaskStats(3, Map.of("pending", 2L, "in-progress", 0L, "completed", 1L), 1, 2);
+        when(taskStatistics.isReady()).thenReturn(true);
+        when(taskStatistics.snapshot()).thenReturn(stats);
+
+        // When
+        ResponseEntity<TaskStats> response = taskController.getStats();
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(stats, response.getBody());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testGetStatsIsUnavailableUntilLoaded() {
+        when(taskStatistics.isReady()).thenReturn(false);
+
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> taskController.getStats());
+        assertEquals(TaskController.STATS_RETRY_AFTER_SECONDS, exception.getRetryAfterSeconds());
+        verify(taskStatistics, never()).snapshot();
+    }
+
+    @Test
+    void testCreateTasksDelegatesToBatchService() {
+        // Given
+        List<Task> tasks = List.of(Task.create("Batch task", null, LocalDateTime.now().plusDays(1)));
+        BatchResponse batchResponse = new BatchResponse(1, 0, List.of());
+        when(taskBatchService.createAll(tasks)).thenReturn(batchResponse);
+
+        // When
+        ResponseEntity<BatchResponse> response = taskController.createTasks(tasks);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(batchResponse, response.getBody());
+        verify(taskBatchService, times(1)).createAll(tasks);
+    }
+
+    @Test
+    void testBatchEndpointsRejectInvalidBatchSizes() {
+        List<UUID> oversized = Collections.nCopies(TaskController.MAX_BATCH_SIZE + 1, UUID.randomUUID());
+
+        assertThrows(IllegalArgumentException.class, () -> taskController.createTasks(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> taskController.updateTasks(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> taskController.deleteTasks(oversized));
+        verifyNoInteractions(taskBatchService);
+    }
+
+    @Test
+    void testGetTaskByIdReturnsETagAndNotModified() {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        Task task = Task.builder()
+                .id(taskId)
+                .title("Versioned Task")
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .version(3L)
+                .build();
+        when(taskCache.findById(taskId)).thenReturn(Optional.of(task));
+
+        // When
+        ResponseEntity<Task> fresh = taskController.getTaskById(taskId, null);
+        ResponseEntity<Task> unchanged = taskController.getTaskById(taskId, "W/\"3\"");
+        ResponseEntity<Task> stale = taskController.getTaskById(taskId, "\"2\"");
+
+        // Then
+        assertEquals("\"3\"", fresh.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, unchanged.getStatusCode());
+        assertNull(unchanged.getBody());
+        assertEquals("\"3\"", unchanged.getHeaders().getETag());
+        assertEquals(HttpStatus.OK, stale.getStatusCode());
+        assertNotNull(stale.getBody());
+    }
+
+    @Test
+    void testUpdateTaskWithStaleIfMatch() {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        Task existingTask = Task.builder()
+                .id(taskId)
+                .title("Old Title")
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .version(5L)
+                .build();
+        Task updatedTaskDetails = Task.builder()
+                .title("New Title")
+                .dueDate(LocalDateTime.now().plusDays(2))
+                .build();
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class,
+                () -> taskController.updateTask(taskId, "\"4\"", updatedTaskDetails));
+        assertEquals("Old Title", existingTask.getTitle());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void testUpdateTaskWithCurrentIfMatch() {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        Task existingTask = Task.builder()
+                .id(taskId)
+                .title("Old Title")
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .version(5L)
+                .build();
+        Task updatedTaskDetails = Task.builder()
+                .title("New Title")
+                .dueDate(LocalDateTime.now().plusDays(2))
+                .build();
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+        when(taskRepository.save(existingTask)).thenReturn(existingTask);
+
+        // When
+        ResponseEntity<Task> response = taskController.updateTask(taskId, "\"5\"", updatedTaskDetails);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("New Title", response.getBody().getTitle());
+    }
+
+    @Test
+    void testUpdateTaskStatusWithStaleIfMatch() {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        when(taskRepository.updateStatusReturning(eq(taskId), eq(TaskStatus.COMPLETED), any(LocalDateTime.class), eq(2L)))
+                .thenReturn(Optional.empty());
+        when(taskRepository.existsById(taskId)).thenReturn(true);
+        when(taskRepository.findUnmanagedById(taskId))
+                .thenReturn(Optional.of(Task.builder().id(taskId).title("Stale").version(2L).build()));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class,
+                () -> taskController.updateTaskStatus(taskId, "completed", "\"2\"", null));
+        // Weak tags never pass the strong comparison, even naming the current version
+        assertThrows(PreconditionFailedException.class,
+                () -> taskController.updateTaskStatus(taskId, "completed", "W/\"2\"", null));
+        assertThrows(PreconditionFailedException.class,
+                () -> taskController.updateTaskStatus(taskId, "completed", "\"0\", \"1\"", null));
+    }
+
+    @Test
+    void testUpdateTaskStatusWithIfMatchList() {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        Task current = Task.builder().id(taskId).title("Listed").status(TaskStatus.PENDING).version(3L).build();
+        Task completed = current.toBuilder().status(TaskStatus.COMPLETED).version(4L).build();
+        when(taskRepository.findUnmanagedById(taskId)).thenReturn(Optional.of(current));
+        when(taskRepository.updateStatusReturning(eq(taskId), eq(TaskStatus.COMPLETED), any(LocalDateTime.class), eq(3L)))
+                .thenReturn(Optional.of(new TaskRepository.StatusChange(completed, TaskStatus.PENDING)));
+
+        // When
+        ResponseEntity<Task> response = taskController.updateTaskStatus(taskId, "completed", "\"2\", \"3\"", null);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void testDeleteTaskWithStaleIfMatch() {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        Task existingTask = Task.builder()
+                .id(taskId)
+                .title("To be deleted")
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .version(1L)
+                .build();
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class, () -> taskController.deleteTask(taskId, "\"0\""));
+        verify(taskRepository, never()).delete(any(Task.class));
     }
-}
\ No newline at end of file
+}
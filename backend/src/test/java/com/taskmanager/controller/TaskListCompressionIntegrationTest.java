@@ -0,0 +1,163 @@
+package com.taskmanager.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against a real server: compression and HTTP/2 are handled by Tomcat, which MockMvc bypasses.
+ * Prints the compressed and uncompressed size and the median fetch time of list pages of realistic size.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TaskListCompressionIntegrationTest {
+
+    private static final int TASKS = 1000;
+    private static final int TIMED_FETCHES = 7;
+    private static final List<String> VOCABULARY = List.of(
+            "release", "notes", "review", "customer", "invoice", "deploy", "backend", "frontend", "meeting",
+            "budget", "report", "design", "migration", "database", "security", "audit", "onboarding", "roadmap",
+            "incident", "follow", "up", "with", "the", "team", "before", "after", "draft", "update", "quarterly");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http1 = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        Random random = new Random(42);
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.create(words(random, 3) + " " + i, words(random, 20 + random.nextInt(100)),
+                    LocalDateTime.now().plusDays(1 + random.nextInt(90))));
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @Test
+    void testListIsGzipCompressedWhenAccepted() throws Exception {
+        for (int limit : new int[]{100, TASKS}) {
+            HttpResponse<byte[]> plain = fetch(limit, false);
+            HttpResponse<byte[]> gzip = fetch(limit, true);
+
+            assertTrue(plain.headers().firstValue("Content-Encoding").isEmpty());
+            assertEquals("gzip", gzip.headers().firstValue("Content-Encoding").orElse(null));
+            JsonNode expected = objectMapper.readTree(plain.body());
+            assertEquals(expected, objectMapper.readTree(gunzip(gzip.body())));
+            assertEquals(limit, expected.size());
+            assertTrue(gzip.body().length * 3 < plain.body().length,
+                    gzip.body().length + " compressed vs " + plain.body().length + " bytes");
+
+            System.out.printf("GET /v1/api/tasks?limit=%d: %d bytes -> %d bytes gzip (%.0f%% saved), " +
+                            "median %.2f ms plain, %.2f ms gzip (localhost)%n",
+                    limit, plain.body().length, gzip.body().length,
+                    100.0 * (plain.body().length - gzip.body().length) / plain.body().length,
+                    medianMillis(limit, false), medianMillis(limit, true));
+        }
+    }
+
+    @Test
+    void testEventStreamIsNotCompressed() throws Exception {
+        // Raw socket so the stream can be dropped as soon as the headers are in
+        try (Socket socket = new Socket("localhost", port)) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET /v1/api/tasks/stream HTTP/1.0\r\nHost: localhost\r\nAccept: text/event-stream\r\n" +
+                    "Accept-Encoding: gzip\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            List<String> headers = new ArrayList<>();
+            for (String line = reader.readLine(); line != null && !line.isEmpty(); line = reader.readLine()) {
+                headers.add(line.toLowerCase());
+            }
+            assertTrue(headers.get(0).contains(" 200"), headers.toString());
+            assertTrue(headers.stream().anyMatch(h -> h.startsWith("content-type: text/event-stream")), headers.toString());
+            assertTrue(headers.stream().noneMatch(h -> h.startsWith("content-encoding")), headers.toString());
+        }
+    }
+
+    @Test
+    void testHttp2Cleartext() throws Exception {
+        HttpClient http2 = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+
+        // The first request upgrades the connection to h2c
+        HttpResponse<byte[]> response = http2.send(HttpRequest.newBuilder(uri("/v1/api/tasks?limit=10"))
+                .header("Accept-Encoding", "gzip").build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertEquals(HttpClient.Version.HTTP_2, response.version());
+    }
+
+    private HttpResponse<byte[]> fetch(int limit, boolean gzip) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/v1/api/tasks?limit=" + limit));
+        if (gzip) {
+            request.header("Accept-Encoding", "gzip");
+        }
+        HttpResponse<byte[]> response = http1.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode());
+        return response;
+    }
+
+    private double medianMillis(int limit, boolean gzip) throws Exception {
+        long[] nanos = new long[TIMED_FETCHES];
+        for (int i = 0; i < nanos.length; i++) {
+            long started = System.nanoTime();
+            HttpResponse<byte[]> response = fetch(limit, gzip);
+            if (gzip) {
+                gunzip(response.body());
+            }
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return nanos[nanos.length / 2] / 1_000_000.0;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static byte[] gunzip(byte[] body) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(i == 0 ? "" : " ").append(VOCABULARY.get(random.nextInt(VOCABULARY.size())));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.taskmanager.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskListViewIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tasks.add(Task.create("Listed task " + i, "d".repeat(1000), LocalDateTime.now().plusDays(i + 1)));
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @Test
+    void testSummaryViewOnlyCarriesListFields() throws Exception {
+        String full = mockMvc.perform(get("/v1/api/tasks").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(TaskController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$[0].description").exists())
+                .andReturn().getResponse().getContentAsString();
+        String summary = mockMvc.perform(get("/v1/api/tasks").param("view", "summary").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(TaskController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].status").value("pending"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> fields = new ArrayList<>();
+        Iterator<String> names = objectMapper.readTree(summary).get(0).fieldNames();
+        names.forEachRemaining(fields::add);
+        assertEquals(List.of("id", "title", "status", "dueDate"), fields);
+        assertTrue(summary.length() * 5 < full.length(), summary.length() + " vs " + full.length());
+    }
+
+    @Test
+    void testSummaryViewFollowsCursor() throws Exception {
+        MockHttpServletResponse first = mockMvc.perform(get("/v1/api/tasks").param("view", "summary").param("limit", "2"))
+                .andReturn().getResponse();
+        String cursor = first.getHeader(TaskController.NEXT_CURSOR_HEADER);
+
+        String rest = mockMvc.perform(get("/v1/api/tasks").param("view", "summary").param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(TaskController.NEXT_CURSOR_HEADER))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode page = objectMapper.readTree(rest);
+        assertEquals(1, page.size());
+        String lastTitle = page.get(0).get("title").asText();
+        for (JsonNode task : objectMapper.readTree(first.getContentAsString())) {
+            assertNotEquals(lastTitle, task.get("title").asText());
+        }
+    }
+}
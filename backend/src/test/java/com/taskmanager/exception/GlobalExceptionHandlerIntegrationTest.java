@@ -0,0 +1,45 @@
+package com.taskmanager.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Requests Spring MVC rejects before the controller runs; typical scanner traffic
+@SpringBootTest
+@AutoConfigureMockMvc
+class GlobalExceptionHandlerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testMalformedIdIsBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/api/tasks/not-a-uuid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Argument"))
+                .andExpect(jsonPath("$.message").value("Invalid value 'not-a-uuid' for parameter 'id'"))
+                .andExpect(jsonPath("$.path").value("/v1/api/tasks/not-a-uuid"));
+    }
+
+    @Test
+    void testMissingQueryParameterIsBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/api/tasks/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Argument"))
+                .andExpect(jsonPath("$.message").value("Missing required parameter 'q'"));
+    }
+
+    @Test
+    void testUnsupportedMethodIsMethodNotAllowed() throws Exception {
+        mockMvc.perform(delete("/v1/api/tasks"))
+                .andExpect(status().isMethodNotAllowed())
+                .andExpect(header().exists("Allow"))
+                .andExpect(jsonPath("$.error").value("Method Not Allowed"))
+                .andExpect(jsonPath("$.message").value("Request method 'DELETE' is not supported"));
+    }
+}
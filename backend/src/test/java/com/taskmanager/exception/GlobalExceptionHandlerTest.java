@@ -1,5 +1,10 @@
 package com.taskmanager.exception;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,15 +12,30 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -91,6 +111,44 @@ class GlobalExceptionHandlerTest {
         assertEquals("Task not found", response.getBody().getMessage());
     }
 
+    @Test
+    void testPathIsTakenFromServletRequest() {
+        // Given
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/v1/api/tasks/123");
+        servletRequest.setQueryString("fields=title");
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleResourceNotFoundException(
+                new ResourceNotFoundException("Task not found"), new ServletWebRequest(servletRequest));
+
+        // Then
+        assertEquals("/v1/api/tasks/123", response.getBody().getPath());
+        assertNotNull(response.getBody().getTimestamp());
+    }
+
+    @Test
+    void testHandleMethodArgumentNotValidExceptionWithObjectError() {
+        // Given
+        MethodArgumentNotValidException ex = mock(MethodArgumentNotValidException.class);
+        BindingResult bindingResult = mock(BindingResult.class);
+        when(ex.getBindingResult()).thenReturn(bindingResult);
+        when(bindingResult.getAllErrors()).thenReturn(List.of(
+                new FieldError("task", "title", "", false, null, null, "Title is required"),
+                new ObjectError("task", "Due date must be after start")));
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleValidationExceptions(
+                ex, new ServletWebRequest(new MockHttpServletRequest("POST", "/v1/api/tasks")));
+
+        // Then
+        List<ErrorResponse.FieldError> fieldErrors = response.getBody().getFieldErrors();
+        assertEquals(2, fieldErrors.size());
+        assertEquals("title", fieldErrors.get(0).getField());
+        assertEquals("", fieldErrors.get(0).getRejectedValue());
+        assertEquals("task", fieldErrors.get(1).getField());
+        assertEquals("Due date must be after start", fieldErrors.get(1).getMessage());
+    }
+
     @Test
     void testHandleIllegalArgumentException() {
         // Given
@@ -149,4 +207,212 @@ class GlobalExceptionHandlerTest {
         assertEquals("Validation Failed", response.getBody().getError());
         assertTrue(response.getBody().getFieldErrors().isEmpty());
     }
+
+    @Test
+    void testHandlePreconditionFailedException() {
+        // Given
+        PreconditionFailedException ex = new PreconditionFailedException("Task has been modified");
+        WebRequest request = mock(WebRequest.class);
+
+        when(request.getDescription(anyBoolean())).thenReturn("uri=/api/tasks/123");
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handlePreconditionFailedException(ex, request);
+
+        // Then
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Precondition Failed", response.getBody().getError());
+        assertEquals("/api/tasks/123", response.getBody().getPath());
+    }
+
+    @Test
+    void testHandlePayloadTooLargeException() {
+        // Given
+        PayloadTooLargeException ex = new PayloadTooLargeException("Request body exceeds 16384 bytes");
+        WebRequest request = mock(WebRequest.class);
+
+        when(request.getDescription(anyBoolean())).thenReturn("uri=/api/tasks");
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handlePayloadTooLargeException(ex, request);
+
+        // Then
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Payload Too Large", response.getBody().getError());
+        assertEquals("Request body exceeds 16384 bytes", response.getBody().getMessage());
+    }
+
+    @Test
+    void testHandleUnprocessableEntityException() {
+        // Given
+        UnprocessableEntityException ex = new UnprocessableEntityException("Idempotency-Key was used with a different request body");
+        WebRequest request = mock(WebRequest.class);
+
+        when(request.getDescription(anyBoolean())).thenReturn("uri=/api/tasks");
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleUnprocessableEntityException(ex, request);
+
+        // Then
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Unprocessable Entity", response.getBody().getError());
+        assertEquals("/api/tasks", response.getBody().getPath());
+    }
+
+    @Test
+    void testHandleResourceGoneException() {
+        // Given
+        ResourceGoneException ex = new ResourceGoneException("Sync token has expired");
+        WebRequest request = mock(WebRequest.class);
+
+        when(request.getDescription(anyBoolean())).thenReturn("uri=/api/tasks/changes");
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleResourceGoneException(ex, request);
+
+        // Then
+        assertEquals(HttpStatus.GONE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Gone", response.getBody().getError());
+        assertEquals("Sync token has expired", response.getBody().getMessage());
+    }
+
+    @Test
+    void testHandleOptimisticLockingFailureException() {
+        // Given
+        ObjectOptimisticLockingFailureException ex = new ObjectOptimisticLockingFailureException("Task", "123");
+        WebRequest request = mock(WebRequest.class);
+
+        when(request.getDescription(anyBoolean())).thenReturn("uri=/api/tasks/123");
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleOptimisticLockingFailureException(ex, request);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Conflict", response.getBody().getError());
+    }
+
+    @Test
+    void testHandleServiceUnavailableException() {
+        // Given
+        ServiceUnavailableException ex = new ServiceUnavailableException("Search index is still being built", 5);
+        WebRequest request = mock(WebRequest.class);
+
+        when(request.getDescription(anyBoolean())).thenReturn("uri=/api/tasks/search");
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleServiceUnavailableException(ex, request);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("5", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("Service Unavailable", response.getBody().getError());
+    }
+
+    @Test
+    void testHandleTooManyRequestsException() {
+        // Given
+        TooManyRequestsException ex = new TooManyRequestsException("Rate limit exceeded, please retry later", 2);
+        WebRequest request = mock(WebRequest.class);
+
+        when(request.getDescription(anyBoolean())).thenReturn("uri=/api/tasks");
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleTooManyRequestsException(ex, request);
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("Too Many Requests", response.getBody().getError());
+    }
+
+    @Test
+    void testHandleResponseWriteFailure() {
+        // Given
+        IOException ex = new IOException("Broken pipe");
+        WebRequest request = mock(WebRequest.class);
+        when(request.getDescription(false)).thenReturn("uri=/v1/api/tasks/stream");
+        MockHttpServletResponse committed = new MockHttpServletResponse();
+        committed.setCommitted(true);
+
+        // When
+        ResponseEntity<ErrorResponse> afterCommit = globalExceptionHandler.handleResponseWriteFailure(ex, request, committed);
+        ResponseEntity<ErrorResponse> beforeCommit = globalExceptionHandler.handleResponseWriteFailure(ex, request, new MockHttpServletResponse());
+
+        // Then
+        assertNull(afterCommit);
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, beforeCommit.getStatusCode());
+        assertEquals("Broken pipe", beforeCommit.getBody().getMessage());
+    }
+
+    @Test
+    void testHandleMessageNotReadableExceptionForUnknownStatus() {
+        // Given
+        JsonMappingException cause = assertThrows(JsonMappingException.class, () -> new ObjectMapper()
+                .readValue("[{\"title\": \"Valid Task\", \"status\": \"done\"}]", new TypeReference<List<Task>>() {}));
+        HttpMessageNotReadableException ex = new HttpMessageNotReadableException(
+                "JSON parse error", cause, new MockHttpInputMessage(new byte[0]));
+        WebRequest request = mock(WebRequest.class);
+        when(request.getDescription(false)).thenReturn("uri=/v1/api/tasks/batch");
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleMessageNotReadableException(ex, request);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Malformed Request", response.getBody().getError());
+        ErrorResponse.FieldError fieldError = response.getBody().getFieldErrors().get(0);
+        assertEquals("[0].status", fieldError.getField());
+        assertEquals(TaskStatus.INVALID_MESSAGE, fieldError.getMessage());
+    }
+
+    @Test
+    void testHandleMethodArgumentTypeMismatchException() {
+        // Given
+        MethodArgumentTypeMismatchException ex = new MethodArgumentTypeMismatchException(
+                "not-a-uuid", UUID.class, "id", mock(MethodParameter.class), new IllegalArgumentException("Invalid UUID string"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleMethodArgumentTypeMismatchException(
+                ex, new ServletWebRequest(new MockHttpServletRequest("GET", "/v1/api/tasks/not-a-uuid")));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Invalid Argument", response.getBody().getError());
+        assertEquals("Invalid value 'not-a-uuid' for parameter 'id'", response.getBody().getMessage());
+    }
+
+    @Test
+    void testHandleMissingServletRequestParameterException() {
+        // Given
+        MissingServletRequestParameterException ex = new MissingServletRequestParameterException("q", "String");
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleMissingServletRequestParameterException(
+                ex, new ServletWebRequest(new MockHttpServletRequest("GET", "/v1/api/tasks/search")));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Missing required parameter 'q'", response.getBody().getMessage());
+    }
+
+    @Test
+    void testHandleMethodNotSupportedException() {
+        // Given
+        HttpRequestMethodNotSupportedException ex = new HttpRequestMethodNotSupportedException("DELETE", List.of("GET", "POST"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleMethodNotSupportedException(
+                ex, new ServletWebRequest(new MockHttpServletRequest("DELETE", "/v1/api/tasks")));
+
+        // Then
+        assertEquals(HttpStatus.METHOD_NOT_ALLOWED, response.getStatusCode());
+        assertEquals(Set.of(HttpMethod.GET, HttpMethod.POST), response.getHeaders().getAllow());
+        assertEquals("Method Not Allowed", response.getBody().getError());
+    }
 }
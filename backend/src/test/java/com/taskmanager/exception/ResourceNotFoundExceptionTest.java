@@ -40,4 +40,13 @@ class ResourceNotFoundExceptionTest {
         // Then
         assertTrue(exception instanceof RuntimeException, "Should be a RuntimeException");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testExpectedExceptionsSkipStackTrace() {
+        // Thrown for every unknown id, so building them must not walk the stack
+        assertEquals(0, new ResourceNotFoundException("Task", "id", "123").getStackTrace().length);
+        assertEquals(0, new PreconditionFailedException("Stale ETag").getStackTrace().length);
+        assertEquals(0, new InvalidArgumentException("Invalid limit").getStackTrace().length);
+        assertInstanceOf(IllegalArgumentException.class, new InvalidArgumentException("Invalid limit"));
+    }
+}
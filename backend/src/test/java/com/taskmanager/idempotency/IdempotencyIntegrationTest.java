@@ -0,0 +1,262 @@
+package com.taskmanager.idempotency;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanager.admission.AdmissionInterceptor;
+import com.taskmanager.model.IdempotencyRecord;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.IdempotencyRecordRepository;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against a real server so that requests with the same key genuinely overlap.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class IdempotencyIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository recordRepository;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        recordRepository.deleteAll();
+        idempotencyStore.clearMemory();
+    }
+
+    @Test
+    void testRetryReplaysTheOriginalResponse() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = taskJson("Pay the invoice");
+        HttpResponse<String> first = post(key, body);
+        HttpResponse<String> retry = post(key, body);
+
+        assertEquals(201, first.statusCode());
+        assertTrue(first.headers().firstValue(IdempotencyInterceptor.REPLAYED_HEADER).isEmpty());
+        assertEquals(201, retry.statusCode());
+        assertEquals("true", retry.headers().firstValue(IdempotencyInterceptor.REPLAYED_HEADER).orElse(null));
+        assertEquals(first.body(), retry.body());
+        assertEquals(first.headers().firstValue("ETag"), retry.headers().firstValue("ETag"));
+        assertEquals(1, taskRepository.count());
+
+        // Without a key, or with another one, the task is created again
+        assertEquals(201, post(null, body).statusCode());
+        assertEquals(201, post(UUID.randomUUID().toString(), body).statusCode());
+        assertEquals(3, taskRepository.count());
+    }
+
+    @Test
+    void testKeyReusedWithAnotherBodyIsRejected() throws Exception {
+        String key = UUID.randomUUID().toString();
+        assertEquals(201, post(key, taskJson("Pay the invoice")).statusCode());
+
+        // Even an invalid body is compared, not validated
+        HttpResponse<String> reused = post(key, "{\"title\":\"\"}");
+
+        assertEquals(422, reused.statusCode());
+        assertEquals("Unprocessable Entity", JsonPath.read(reused.body(), "$.error"));
+        assertEquals(1, taskRepository.count());
+    }
+
+    @Test
+    void testKeysAreScopedToTheClient() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = taskJson("Same key, two integrations");
+
+        HttpResponse<String> first = post(key, "integration-a", body);
+        HttpResponse<String> other = post(key, "integration-b", body);
+        HttpResponse<String> retry = post(key, "integration-a", body);
+
+        assertEquals(201, other.statusCode());
+        assertTrue(other.headers().firstValue(IdempotencyInterceptor.REPLAYED_HEADER).isEmpty());
+        assertNotEquals(JsonPath.<String>read(first.body(), "$.id"), JsonPath.<String>read(other.body(), "$.id"));
+        assertEquals(first.body(), retry.body());
+        assertEquals(2, taskRepository.count());
+        // Only digests are stored, never the client's API key or its Idempotency-Key
+        for (IdempotencyRecord record : recordRepository.findAll()) {
+            assertFalse(record.getIdempotencyKey().contains(key));
+            assertFalse(record.getIdempotencyKey().contains("integration"));
+        }
+    }
+
+    @Test
+    void testConcurrentRequestsWithTheSameKeyCreateOneTask() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = taskJson("Retried in a hurry");
+        int requests = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HttpResponse<String>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return post(key, body);
+                }));
+            }
+            start.countDown();
+            Set<String> ids = new HashSet<>();
+            int replayed = 0;
+            for (Future<HttpResponse<String>> result : results) {
+                HttpResponse<String> response = result.get();
+                assertEquals(201, response.statusCode(), response.body());
+                ids.add(JsonPath.read(response.body(), "$.id"));
+                replayed += response.headers().firstValue(IdempotencyInterceptor.REPLAYED_HEADER).isPresent() ? 1 : 0;
+            }
+            assertEquals(1, ids.size());
+            assertEquals(requests - 1, replayed);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, taskRepository.count());
+        assertEquals(1, recordRepository.count());
+    }
+
+    @Test
+    void testFailedAttemptDoesNotUseUpTheKey() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        assertEquals(400, post(key, "{\"title\":\"\"}").statusCode());
+        HttpResponse<String> retry = post(key, taskJson("Fixed the title"));
+
+        assertEquals(201, retry.statusCode());
+        assertTrue(retry.headers().firstValue(IdempotencyInterceptor.REPLAYED_HEADER).isEmpty());
+        assertEquals(1, taskRepository.count());
+    }
+
+    @Test
+    void testResponseOutlivesTheMemoryCacheUntilItExpires() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = taskJson("Persisted response");
+        HttpResponse<String> first = post(key, body);
+        idempotencyStore.clearMemory();
+
+        HttpResponse<String> retry = post(key, body);
+
+        assertEquals(first.body(), retry.body());
+        assertEquals("true", retry.headers().firstValue(IdempotencyInterceptor.REPLAYED_HEADER).orElse(null));
+        assertEquals(1, taskRepository.count());
+
+        IdempotencyRecord record = recordRepository.findAll().get(0);
+        record.setCreatedAt(LocalDateTime.now().minusDays(2));
+        recordRepository.save(record);
+        idempotencyStore.purgeExpired();
+        assertEquals(0, recordRepository.count());
+    }
+
+    @Test
+    void testRejectsOverlongKey() throws Exception {
+        HttpResponse<String> response = post("k".repeat(IdempotencyRecord.MAX_KEY_LENGTH + 1), taskJson("Too long a key"));
+
+        assertEquals(400, response.statusCode());
+        assertEquals(0, taskRepository.count());
+    }
+
+    @Test
+    void testRejectsOversizedBody() throws Exception {
+        String body = taskJson("x".repeat(20_000));
+
+        HttpResponse<String> response = post(UUID.randomUUID().toString(), body);
+
+        assertEquals(413, response.statusCode());
+        assertEquals(0, taskRepository.count());
+    }
+
+    @Test
+    void testRejectsOversizedChunkedBody() throws Exception {
+        // No Content-Length: the body is only found too large while it is read
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/api/tasks"))
+                .header("Content-Type", "application/json")
+                .header(IdempotencyInterceptor.IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString())
+                .POST(HttpRequest.BodyPublishers.fromPublisher(
+                        HttpRequest.BodyPublishers.ofString(taskJson("x".repeat(20_000)))))
+                .build();
+
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(413, response.statusCode());
+        assertEquals(0, taskRepository.count());
+    }
+
+    @Test
+    void testLateReleaseKeepsTheNextOwnersClaim() throws Exception {
+        String key = UUID.randomUUID().toString();
+        IdempotencyClaim first = new IdempotencyClaim(key, "body");
+        IdempotencyClaim second = new IdempotencyClaim(key, "body");
+        assertNull(idempotencyStore.claim(first));
+        idempotencyStore.release(first);
+        assertNull(idempotencyStore.claim(second));
+
+        // A repeated release of the first claim must not hand the key to a third request
+        idempotencyStore.release(first);
+        CompletableFuture<IdempotentResponse> third = CompletableFuture.supplyAsync(
+                () -> idempotencyStore.claim(new IdempotencyClaim(key, "body")));
+        Thread.sleep(200);
+        assertFalse(third.isDone());
+
+        Task task = idempotencyStore.create(second,
+                () -> taskRepository.save(Task.builder().title("Second owner")
+                        .dueDate(LocalDateTime.now().plusDays(3)).build()), saved -> "\"0\"");
+
+        IdempotentResponse replayed = third.get(5, TimeUnit.SECONDS);
+        assertNotNull(replayed);
+        assertTrue(replayed.body().contains(task.getId().toString()));
+        assertEquals(1, taskRepository.count());
+    }
+
+    private HttpResponse<String> post(String key, String body) throws Exception {
+        return post(key, null, body);
+    }
+
+    private HttpResponse<String> post(String key, String apiKey, String body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/api/tasks"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (key != null) {
+            request.header(IdempotencyInterceptor.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        if (apiKey != null) {
+            request.header(AdmissionInterceptor.API_KEY_HEADER, apiKey);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String taskJson(String title) {
+        return "{\"title\":\"" + title + "\",\"status\":\"pending\",\"dueDate\":\"" +
+                LocalDateTime.now().plusDays(3).withNano(0) + "\"}";
+    }
+}
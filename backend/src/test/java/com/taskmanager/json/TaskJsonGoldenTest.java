@@ -0,0 +1,141 @@
+package com.taskmanager.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskmanager.dto.TaskSummary;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The golden files under resources/json were written by Jackson's reflective bean serializer before
+ * {@link TaskJsonComponent} replaced it; the wire format must not change.
+ */
+@JsonTest
+class TaskJsonGoldenTest {
+
+    private static final Task FULL = Task.builder()
+            .id(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))
+            .title("Write the \"quarterly\" report")
+            .description("Line one\nLine two\ttabbed, backslash \\ and unicode: café ✓ 🚀 \u0001")
+            .status(TaskStatus.IN_PROGRESS)
+            .dueDate(LocalDateTime.of(2026, 12, 31, 23, 59, 0))
+            .createdAt(LocalDateTime.of(2026, 3, 1, 9, 5, 7, 123456000))
+            .updatedAt(LocalDateTime.of(2026, 3, 2, 10, 0, 0, 500000000))
+            .version(3L)
+            .build();
+    private static final Task SPARSE = Task.builder().title("New task").status(null).build();
+    // Years beyond 9999 take DateTimeFormatter's path; fractions of every length
+    private static final Task DATES = Task.builder()
+            .id(UUID.fromString("00000000-0000-0000-0000-000000000001"))
+            .title("Far future")
+            .status(TaskStatus.COMPLETED)
+            .dueDate(LocalDateTime.of(12026, 1, 1, 0, 0, 0, 1))
+            .createdAt(LocalDateTime.of(999, 1, 1, 0, 0, 0, 100))
+            .updatedAt(LocalDateTime.of(2026, 1, 1, 0, 0, 1, 120000))
+            .version(0L)
+            .build();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Spring Boot's date settings without the application's serializers
+    private final ObjectMapper reflective = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void testApplicationMapperUsesHandWrittenSerializers() throws Exception {
+        assertInstanceOf(TaskJsonComponent.TaskSerializer.class,
+                objectMapper.getSerializerProviderInstance().findValueSerializer(Task.class));
+        assertInstanceOf(TaskJsonComponent.TaskSummarySerializer.class,
+                objectMapper.getSerializerProviderInstance().findValueSerializer(TaskSummary.class));
+    }
+
+    @Test
+    void testTaskMatchesGoldenFiles() throws Exception {
+        assertEquals(golden("task.json"), objectMapper.writeValueAsString(FULL));
+        assertEquals(golden("task-sparse.json"), objectMapper.writeValueAsString(SPARSE));
+        assertEquals(golden("task-dates.json"), objectMapper.writeValueAsString(DATES));
+        assertEquals(golden("task-list.json"), objectMapper.writeValueAsString(List.of(FULL, SPARSE, DATES)));
+    }
+
+    @Test
+    void testSummaryMatchesGoldenFile() throws Exception {
+        List<TaskSummary> summaries = List.of(
+                new TaskSummary(FULL.getId(), FULL.getTitle(), FULL.getStatus(), FULL.getDueDate(), FULL.getCreatedAt()),
+                new TaskSummary(null, "No id", TaskStatus.PENDING, null, null));
+
+        assertEquals(golden("task-summaries.json"), objectMapper.writeValueAsString(summaries));
+    }
+
+    @Test
+    void testMatchesReflectiveSerializerForRandomTasks() throws Exception {
+        Random random = new Random(7);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            tasks.add(Task.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .title("Task " + i)
+                    .description(random.nextBoolean() ? null : "Description " + random.nextInt())
+                    .status(TaskStatus.values()[random.nextInt(TaskStatus.values().length)])
+                    .dueDate(randomDateTime(random))
+                    .createdAt(randomDateTime(random))
+                    .updatedAt(randomDateTime(random))
+                    .version(random.nextInt(3) == 0 ? null : (long) random.nextInt(Integer.MAX_VALUE))
+                    .build());
+        }
+
+        assertEquals(reflective.writeValueAsString(tasks), objectMapper.writeValueAsString(tasks));
+        // Tasks nested in other objects, as on the change stream
+        TaskChangedEvent event = TaskChangedEvent.statusChanged(FULL, TaskStatus.PENDING);
+        assertEquals(reflective.writeValueAsString(event), objectMapper.writeValueAsString(event));
+    }
+
+    @Test
+    void testReadsWhatItWrites() throws Exception {
+        Task read = objectMapper.readValue(objectMapper.writeValueAsString(FULL), Task.class);
+
+        assertEquals(FULL.getId(), read.getId());
+        assertEquals(FULL.getDescription(), read.getDescription());
+        assertEquals(FULL.getStatus(), read.getStatus());
+        assertEquals(FULL.getCreatedAt(), read.getCreatedAt());
+        // Read-only on input
+        assertNull(read.getVersion());
+    }
+
+    private static LocalDateTime randomDateTime(Random random) {
+        // Mostly microsecond precision like the database columns, sometimes a full nanosecond fraction
+        int nano = switch (random.nextInt(4)) {
+            case 0 -> 0;
+            case 1 -> random.nextInt(1_000_000_000);
+            default -> random.nextInt(1_000_000) * 1000;
+        };
+        return LocalDateTime.of(1970 + random.nextInt(100), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), nano);
+    }
+
+    private static String golden(String name) throws IOException {
+        try (InputStream in = TaskJsonGoldenTest.class.getResourceAsStream("/json/" + name)) {
+            assertNotNull(in, name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
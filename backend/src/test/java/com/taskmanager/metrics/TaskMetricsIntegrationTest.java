@@ -0,0 +1,74 @@
+package com.taskmanager.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class TaskMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testPrometheusEndpointExposesEndpointAndRepositoryHistograms() throws Exception {
+        mockMvc.perform(post("/v1/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(taskJson("Scraped task")))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/v1/api/tasks")).andExpect(status().isOk());
+
+        String scrape = scrape();
+
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket{application=\"task-manager\""));
+        assertTrue(scrape.contains("uri=\"/v1/api/tasks\""));
+        assertTrue(scrape.contains("spring_data_repository_invocations_seconds_bucket{"));
+        assertTrue(scrape.contains("method=\"save\""));
+        assertTrue(scrape.contains("method=\"findPage\""));
+    }
+
+    @Test
+    void testPrometheusEndpointExposesPoolAndHibernateMetrics() throws Exception {
+        mockMvc.perform(get("/v1/api/tasks")).andExpect(status().isOk());
+
+        String scrape = scrape();
+
+        assertTrue(scrape.contains("hikaricp_connections_active{"));
+        assertTrue(scrape.contains("hikaricp_connections_pending{"));
+        assertTrue(scrape.contains("hibernate_query_executions_total{"));
+        assertTrue(scrape.contains("hibernate_entities_loads_total{"));
+        assertTrue(scrape.contains("hibernate_flushes_total{"));
+    }
+
+    @Test
+    void testTaskCountGaugeIsTaggedByStatus() throws Exception {
+        String scrape = scrape();
+
+        assertTrue(scrape.contains("tasks_count{application=\"task-manager\",status=\"pending\",}"));
+        assertTrue(scrape.contains("tasks_count{application=\"task-manager\",status=\"in-progress\",}"));
+        assertTrue(scrape.contains("tasks_count{application=\"task-manager\",status=\"completed\",}"));
+    }
+
+    private String scrape() throws Exception {
+        return mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private static String taskJson(String title) {
+        return "{\"title\":\"" + title + "\",\"status\":\"pending\",\"dueDate\":\"" +
+                LocalDateTime.now().plusDays(1).withNano(0) + "\"}";
+    }
+}
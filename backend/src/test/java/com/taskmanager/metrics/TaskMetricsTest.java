@@ -0,0 +1,36 @@
+package com.taskmanager.metrics;
+
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.stats.TaskStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskMetricsTest {
+
+    @Mock
+    private TaskStatistics taskStatistics;
+
+    @InjectMocks
+    private TaskMetrics taskMetrics;
+
+    @Test
+    void testGaugesReadTheStatusCounters() {
+        when(taskStatistics.count(TaskStatus.PENDING)).thenReturn(4L);
+        when(taskStatistics.count(TaskStatus.IN_PROGRESS)).thenReturn(0L);
+        when(taskStatistics.count(TaskStatus.COMPLETED)).thenReturn(1L);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        taskMetrics.bindTo(registry);
+
+        assertEquals(4, registry.get(TaskMetrics.TASK_COUNT).tag("status", "pending").gauge().value());
+        assertEquals(0, registry.get(TaskMetrics.TASK_COUNT).tag("status", "in-progress").gauge().value());
+        assertEquals(1, registry.get(TaskMetrics.TASK_COUNT).tag("status", "completed").gauge().value());
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanager.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskStatusTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testFromValueAcceptsWireValues() {
+        assertEquals(TaskStatus.PENDING, TaskStatus.fromValue("pending"));
+        assertEquals(TaskStatus.IN_PROGRESS, TaskStatus.fromValue("in-progress"));
+        assertEquals(TaskStatus.COMPLETED, TaskStatus.fromValue("completed"));
+    }
+
+    @Test
+    void testFromValueRejectsUnknownValues() {
+        for (String value : new String[]{"done", "PENDING", "IN_PROGRESS", " pending", ""}) {
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> TaskStatus.fromValue(value));
+            assertEquals(TaskStatus.INVALID_MESSAGE, ex.getMessage());
+        }
+        assertThrows(IllegalArgumentException.class, () -> TaskStatus.fromValue(null));
+    }
+
+    @Test
+    void testCodesAreStableAndRoundTrip() {
+        // Stored in the status column; changing them needs a data migration
+        assertEquals(0, TaskStatus.PENDING.code());
+        assertEquals(1, TaskStatus.IN_PROGRESS.code());
+        assertEquals(2, TaskStatus.COMPLETED.code());
+
+        TaskStatusConverter converter = new TaskStatusConverter();
+        Set<Short> codes = new HashSet<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            Short code = converter.convertToDatabaseColumn(status);
+            assertTrue(codes.add(code));
+            assertEquals(status, converter.convertToEntityAttribute(code));
+        }
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertThrows(IllegalArgumentException.class, () -> TaskStatus.fromCode((short) 3));
+    }
+
+    @Test
+    void testJsonUsesWireValues() throws Exception {
+        assertEquals("\"in-progress\"", objectMapper.writeValueAsString(TaskStatus.IN_PROGRESS));
+        assertEquals(TaskStatus.COMPLETED, objectMapper.readValue("\"completed\"", TaskStatus.class));
+    }
+}
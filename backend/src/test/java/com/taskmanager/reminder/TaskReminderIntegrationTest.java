@@ -0,0 +1,154 @@
+package com.taskmanager.reminder;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "taskmanager.reminders.due-soon-lead=PT2S",
+        "taskmanager.reminders.window=PT1M",
+        "taskmanager.reminders.refill-interval=PT30S",
+        "taskmanager.reminders.tick=PT0.1S"})
+@AutoConfigureMockMvc
+class TaskReminderIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskReminderScheduler scheduler;
+
+    @Autowired
+    private CapturingSink sink;
+
+    @Autowired
+    private StuckJob stuckJob;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        scheduler.refill();
+        sink.reminders.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Other test contexts share the database and would pick these tasks up on their next refill
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void testCreatedTaskGetsDueSoonThenOverdue() throws Exception {
+        String id = createTask("Reminded task", LocalDateTime.now().plusSeconds(5));
+
+        TaskReminder dueSoon = sink.next();
+        assertEquals(TaskReminder.Kind.DUE_SOON, dueSoon.kind());
+        assertEquals(UUID.fromString(id), dueSoon.taskId());
+        assertEquals("Reminded task", dueSoon.title());
+        assertEquals(TaskReminder.Kind.OVERDUE, sink.next().kind());
+    }
+
+    @Test
+    void testCompletedTaskIsNotReminded() throws Exception {
+        String id = createTask("Finished early", LocalDateTime.now().plusSeconds(5));
+        mockMvc.perform(patch("/v1/api/tasks/" + id + "/status").param("status", "completed"))
+                .andExpect(status().isOk());
+        String other = createTask("Still open", LocalDateTime.now().plusSeconds(6));
+
+        // Due-soon for the other task arrives after the completed task's would have
+        TaskReminder reminder = sink.next();
+        assertEquals(UUID.fromString(other), reminder.taskId());
+        assertEquals(0, sink.reminders.stream().filter(r -> r.taskId().equals(UUID.fromString(id))).count());
+    }
+
+    @Test
+    void testRemindersFireWhileAnotherScheduledJobIsStuck() throws Exception {
+        assertTrue(stuckJob.started.await(10, TimeUnit.SECONDS));
+        try {
+            String id = createTask("Reminded anyway", LocalDateTime.now().plusSeconds(5));
+
+            assertEquals(TaskReminder.Kind.DUE_SOON, sink.next().kind());
+            TaskReminder overdue = sink.next();
+            assertEquals(TaskReminder.Kind.OVERDUE, overdue.kind());
+            assertEquals(UUID.fromString(id), overdue.taskId());
+        } finally {
+            stuckJob.release.countDown();
+        }
+    }
+
+    private String createTask(String title, LocalDateTime dueDate) throws Exception {
+        String response = mockMvc.perform(post("/v1/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"status\":\"pending\",\"dueDate\":\"" + dueDate.withNano(0) + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    @TestConfiguration
+    static class SinkConfig {
+
+        @Bean
+        CapturingSink capturingSink() {
+            return new CapturingSink();
+        }
+
+        @Bean
+        StuckJob stuckJob() {
+            return new StuckJob();
+        }
+    }
+
+    // A scheduled job that hangs (a slow purge, say) until the test lets it go
+    static class StuckJob {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Scheduled(fixedDelay = 60_000)
+        void run() throws InterruptedException {
+            started.countDown();
+            release.await(30, TimeUnit.SECONDS);
+        }
+    }
+
+    static class CapturingSink implements ReminderSink {
+
+        private final BlockingQueue<TaskReminder> reminders = new LinkedBlockingQueue<>();
+
+        @Override
+        public void deliver(TaskReminder reminder) {
+            reminders.add(reminder);
+        }
+
+        TaskReminder next() throws InterruptedException {
+            TaskReminder reminder = reminders.poll(10, TimeUnit.SECONDS);
+            assertNotNull(reminder, "No reminder delivered");
+            return reminder;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.taskmanager.reminder;
+
+import com.taskmanager.dto.TaskSummary;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskReminderSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private final List<TaskReminder> delivered = new ArrayList<>();
+
+    private TaskReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        // 30 minute lead, reminders for the next hour held in memory
+        scheduler = new TaskReminderScheduler(taskRepository, List.of(delivered::add),
+                Duration.ofMinutes(30), Duration.ofHours(1), Duration.ofMinutes(5));
+    }
+
+    @Test
+    void testRefillQueriesOnlyTheUpcomingWindow() {
+        TaskSummary soon = summary("Due in 20 minutes", NOW.plusMinutes(20));
+        TaskSummary later = summary("Due in 80 minutes", NOW.plusMinutes(80));
+        when(taskRepository.findSummariesDueBetween(eq(TaskStatus.PENDING), any(), any())).thenReturn(List.of(soon, later));
+        when(taskRepository.findSummariesDueBetween(eq(TaskStatus.IN_PROGRESS), any(), any())).thenReturn(List.of());
+
+        scheduler.refill(NOW);
+
+        // Window plus lead, so tasks whose due-soon reminder falls in the window are included
+        verify(taskRepository).findSummariesDueBetween(TaskStatus.PENDING, NOW, NOW.plusMinutes(90));
+        verify(taskRepository).findSummariesDueBetween(TaskStatus.IN_PROGRESS, NOW, NOW.plusMinutes(90));
+        verifyNoMoreInteractions(taskRepository);
+        // soon: overdue only (its due-soon time has passed); later: due-soon only (overdue is past the window)
+        assertEquals(2, scheduler.scheduledCount());
+
+        // The next refill continues where this one stopped
+        scheduler.refill(NOW.plusMinutes(5));
+        verify(taskRepository).findSummariesDueBetween(TaskStatus.PENDING, NOW.plusHours(1), NOW.plusMinutes(95));
+    }
+
+    @Test
+    void testRemindersFireInDueOrder() {
+        TaskSummary first = summary("First", NOW.plusMinutes(40));
+        TaskSummary second = summary("Second", NOW.plusMinutes(45));
+        when(taskRepository.findSummariesDueBetween(any(), any(), any())).thenReturn(List.of(second, first), List.of());
+        scheduler.refill(NOW);
+
+        scheduler.fireDue(NOW.plusMinutes(9));
+        assertTrue(delivered.isEmpty());
+
+        scheduler.fireDue(NOW.plusMinutes(41));
+
+        assertEquals(List.of(
+                new TaskReminder(TaskReminder.Kind.DUE_SOON, first.id(), "First", first.dueDate()),
+                new TaskReminder(TaskReminder.Kind.DUE_SOON, second.id(), "Second", second.dueDate()),
+                new TaskReminder(TaskReminder.Kind.OVERDUE, first.id(), "First", first.dueDate())), delivered);
+        assertEquals(1, scheduler.scheduledCount());
+    }
+
+    @Test
+    void testChangesRescheduleAndCancelReminders() {
+        when(taskRepository.findSummariesDueBetween(any(), any(), any())).thenReturn(List.of());
+        scheduler.refill(NOW);
+
+        Task task = task("Write report", NOW.plusMinutes(40));
+        scheduler.onTaskChanged(TaskChangedEvent.created(task), NOW);
+        assertEquals(2, scheduler.scheduledCount());
+
+        // Moved out of the window
+        task.setDueDate(NOW.plusDays(1));
+        scheduler.onTaskChanged(TaskChangedEvent.updated(task, TaskStatus.PENDING), NOW);
+        assertEquals(0, scheduler.scheduledCount());
+
+        task.setDueDate(NOW.plusMinutes(50));
+        scheduler.onTaskChanged(TaskChangedEvent.updated(task, TaskStatus.PENDING), NOW);
+        assertEquals(2, scheduler.scheduledCount());
+
+        task.setStatus(TaskStatus.COMPLETED);
+        scheduler.onTaskChanged(TaskChangedEvent.statusChanged(task, TaskStatus.PENDING), NOW);
+        assertEquals(0, scheduler.scheduledCount());
+
+        Task other = task("Call customer", NOW.plusMinutes(45));
+        scheduler.onTaskChanged(TaskChangedEvent.created(other), NOW);
+        scheduler.onTaskChanged(TaskChangedEvent.deleted(other.getId(), TaskStatus.PENDING), NOW);
+
+        scheduler.fireDue(NOW.plusHours(2));
+        assertTrue(delivered.isEmpty());
+    }
+
+    @Test
+    void testChangeDuringRefillWinsOverTheQueriedRow() {
+        Task task = task("Stale row", NOW.plusMinutes(40));
+        TaskSummary stale = new TaskSummary(task.getId(), task.getTitle(), TaskStatus.PENDING, task.getDueDate(), NOW);
+        when(taskRepository.findSummariesDueBetween(eq(TaskStatus.PENDING), any(), any())).thenAnswer(invocation -> {
+            // Completed after the query read the row, before the refill applied it
+            task.setStatus(TaskStatus.COMPLETED);
+            scheduler.onTaskChanged(TaskChangedEvent.statusChanged(task, TaskStatus.PENDING), NOW);
+            return List.of(stale);
+        });
+
+        scheduler.refill(NOW);
+
+        assertEquals(0, scheduler.scheduledCount());
+    }
+
+    @Test
+    void testIgnoresChangesBeforeFirstRefill() {
+        scheduler.onTaskChanged(TaskChangedEvent.created(task("Early", NOW.plusMinutes(40))), NOW);
+
+        assertEquals(0, scheduler.scheduledCount());
+    }
+
+    @Test
+    void testFailingSinkDoesNotStopOthers() {
+        scheduler = new TaskReminderScheduler(taskRepository, List.of(reminder -> {
+            throw new IllegalStateException("webhook down");
+        }, delivered::add), Duration.ofMinutes(30), Duration.ofHours(1), Duration.ofMinutes(5));
+        when(taskRepository.findSummariesDueBetween(any(), any(), any())).thenReturn(List.of());
+        scheduler.refill(NOW);
+        scheduler.onTaskChanged(TaskChangedEvent.created(task("Due", NOW.plusMinutes(10))), NOW);
+
+        scheduler.fireDue(NOW.plusMinutes(10));
+
+        assertEquals(1, delivered.size());
+        assertEquals(TaskReminder.Kind.OVERDUE, delivered.get(0).kind());
+    }
+
+    @Test
+    void testRefillIntervalMustBeShorterThanWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new TaskReminderScheduler(taskRepository, List.of(),
+                Duration.ofMinutes(30), Duration.ofMinutes(5), Duration.ofMinutes(5)));
+    }
+
+    private static TaskSummary summary(String title, LocalDateTime dueDate) {
+        return new TaskSummary(UUID.randomUUID(), title, TaskStatus.PENDING, dueDate, NOW.minusDays(1));
+    }
+
+    private static Task task(String title, LocalDateTime dueDate) {
+        return Task.builder().id(UUID.randomUUID()).title(title).status(TaskStatus.PENDING).dueDate(dueDate).build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.model.TaskStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the SQL Hibernate generates for the keyset queries through H2's EXPLAIN ANALYZE, so a predicate
+ * the planner cannot turn into an index bound shows up as a scan count proportional to the page's position.
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.taskmanager.repository.TaskRepositoryQueryPlanTest$LastStatement",
+        "spring.jpa.show-sql=false"
+})
+class TaskRepositoryQueryPlanTest {
+
+    private static final int ROWS = 2000;
+    private static final int PAGE_SIZE = 10;
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    // Row X is created (and last updated) X seconds into 2024, with status X % 3
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO tasks (id, title, status, due_date, created_at, updated_at, version) " +
+                "SELECT RANDOM_UUID(), 'Task ' || X, MOD(X, 3), DATEADD('DAY', 30, LOCALTIMESTAMP), " +
+                "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), 0 " +
+                "FROM SYSTEM_RANGE(1, ?)", ROWS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void testDeepPageSeeksToTheCursor() {
+        Position cursor = positionAt(ROWS - 200);
+
+        assertEquals(PAGE_SIZE, taskRepository.findPageAfter(cursor.createdAt(), cursor.id(), null, null, null,
+                PageRequest.ofSize(PAGE_SIZE)).size());
+        String plan = explain(LastStatement.sql, cursor.createdAt(), cursor.createdAt(), cursor.id(), PAGE_SIZE);
+
+        assertTrue(plan.contains("IDX_TASKS_CREATED_AT_ID"), plan);
+        assertTrue(scanCount(plan) <= PAGE_SIZE + 1, plan);
+    }
+
+    @Test
+    void testStatusFilterUsesTheStatusIndex() {
+        Position cursor = positionAt(ROWS - 200);
+
+        assertEquals(PAGE_SIZE, taskRepository.findPageAfter(cursor.createdAt(), cursor.id(), TaskStatus.IN_PROGRESS, null, null,
+                PageRequest.ofSize(PAGE_SIZE)).size());
+        String plan = explain(LastStatement.sql, cursor.createdAt(), cursor.createdAt(), cursor.id(), TaskStatus.IN_PROGRESS.code(), PAGE_SIZE);
+
+        assertTrue(plan.contains("IDX_TASKS_STATUS_CREATED_AT_ID"), plan);
+        assertTrue(scanCount(plan) <= PAGE_SIZE + 1, plan);
+    }
+
+    @Test
+    void testDeepSummaryPageSeeksToTheCursor() {
+        Position cursor = positionAt(ROWS - 200);
+
+        assertEquals(PAGE_SIZE, taskRepository.findSummaryPageAfter(cursor.createdAt(), cursor.id(), null, null, null,
+                PageRequest.ofSize(PAGE_SIZE)).size());
+        String plan = explain(LastStatement.sql, cursor.createdAt(), cursor.createdAt(), cursor.id(), PAGE_SIZE);
+
+        assertTrue(plan.contains("IDX_TASKS_CREATED_AT_ID"), plan);
+        assertTrue(scanCount(plan) <= PAGE_SIZE + 1, plan);
+    }
+
+    @Test
+    void testFirstPageWithStatusUsesTheStatusIndex() {
+        assertEquals(PAGE_SIZE, taskRepository.findPage(TaskStatus.COMPLETED, null, null,
+                PageRequest.ofSize(PAGE_SIZE)).size());
+        String plan = explain(LastStatement.sql, TaskStatus.COMPLETED.code(), PAGE_SIZE);
+
+        assertTrue(plan.contains("IDX_TASKS_STATUS_CREATED_AT_ID"), plan);
+        assertTrue(scanCount(plan) <= PAGE_SIZE + 1, plan);
+    }
+
+    @Test
+    void testChangesSinceTokenSeekToTheToken() {
+        Position token = positionAt(ROWS - 200);
+        LocalDateTime until = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        assertEquals(PAGE_SIZE, taskRepository.findChangedAfter(token.createdAt(), token.id(), until,
+                PageRequest.ofSize(PAGE_SIZE)).size());
+        String plan = explain(LastStatement.sql, token.createdAt(), token.createdAt(), token.id(), until, 0, PAGE_SIZE);
+
+        assertTrue(plan.contains("IDX_TASKS_UPDATED_AT_ID"), plan);
+        assertTrue(scanCount(plan) <= PAGE_SIZE + 1, plan);
+    }
+
+    @Test
+    void testDeletionsSinceTokenSeekToTheToken() {
+        jdbcTemplate.update("INSERT INTO task_tombstones (task_id, deleted_at) " +
+                "SELECT id, updated_at FROM tasks");
+        Position token = positionAt(ROWS - 200);
+        LocalDateTime until = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        assertEquals(PAGE_SIZE, taskTombstoneRepository.findDeletedAfter(token.createdAt(), token.id(), until,
+                PageRequest.ofSize(PAGE_SIZE)).size());
+        String plan = explain(LastStatement.sql, token.createdAt(), token.createdAt(), token.id(), until, 0, PAGE_SIZE);
+
+        assertTrue(plan.contains("IDX_TASK_TOMBSTONES_DELETED_AT_TASK_ID"), plan);
+        assertTrue(scanCount(plan) <= PAGE_SIZE + 1, plan);
+    }
+
+    // Seeded rows have updated_at = created_at, so this is also a position in the (updatedAt, id) order
+    private Position positionAt(int offset) {
+        return jdbcTemplate.queryForObject("SELECT created_at, id FROM tasks ORDER BY created_at, id OFFSET ? ROWS FETCH FIRST 1 ROW ONLY",
+                (rs, rowNum) -> new Position(rs.getObject("created_at", LocalDateTime.class), rs.getObject("id", UUID.class)),
+                offset);
+    }
+
+    // The arguments are the statement's parameters in the order Hibernate binds them
+    private String explain(String sql, Object... parameters) {
+        assertNotNull(sql);
+        assertEquals(parameters.length, sql.chars().filter(c -> c == '?').count(), sql);
+        return jdbcTemplate.queryForObject("EXPLAIN ANALYZE " + sql, String.class, parameters);
+    }
+
+    private static long scanCount(String plan) {
+        Matcher matcher = SCAN_COUNT.matcher(plan);
+        long total = 0;
+        while (matcher.find()) {
+            total += Long.parseLong(matcher.group(1));
+        }
+        return total;
+    }
+
+    private record Position(LocalDateTime createdAt, UUID id) {
+    }
+
+    public static class LastStatement implements StatementInspector {
+
+        static volatile String sql;
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.startsWith("select")) {
+                LastStatement.sql = sql;
+            }
+            return sql;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.taskmanager.repository;
 
+import com.taskmanager.dto.TaskSummary;
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
 import com.taskmanager.model.TaskTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,6 +16,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @DataJpaTest
 public class TaskRepositoryTest {
@@ -28,7 +32,7 @@ public class TaskRepositoryTest {
         Task task = Task.builder()
                 .title("Test Task")
                 .description("Test Description")
-                .status("pending")
+                .status(TaskStatus.PENDING)
                 .dueDate(LocalDateTime.now().plusDays(1))
                 .build();
 
@@ -97,4 +101,264 @@ public class TaskRepositoryTest {
         assertFalse(task.isPresent());
     }
 
-}
\ No newline at end of file
+    @Test
+    void testKeysetPagination() {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(Task.builder()
+                    .title("Task " + i)
+                    .dueDate(LocalDateTime.now().plusDays(1))
+                    .build());
+        }
+        entityManager.flush();
+        // Give two rows the same createdAt so the id tie-breaker is exercised
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Task t SET t.createdAt = :createdAt")
+                .setParameter("createdAt", createdAt)
+                .executeUpdate();
+        entityManager.clear();
+
+        List<Task> firstPage = taskRepository.findPage(null, null, null, PageRequest.ofSize(2));
+        assertEquals(2, firstPage.size());
+
+        Task last = firstPage.get(1);
+        List<Task> rest = taskRepository.findPageAfter(last.getCreatedAt(), last.getId(), null, null, null,
+                PageRequest.ofSize(10));
+        assertEquals(3, rest.size());
+        assertTrue(rest.stream().noneMatch(t -> firstPage.stream().anyMatch(f -> f.getId().equals(t.getId()))));
+    }
+
+    @Test
+    void testPageFilters() {
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(Task.builder().title("Soon").status(TaskStatus.PENDING).dueDate(now.plusDays(1)).build());
+        entityManager.persist(Task.builder().title("Later").status(TaskStatus.PENDING).dueDate(now.plusDays(10)).build());
+        entityManager.persist(Task.builder().title("Done").status(TaskStatus.COMPLETED).dueDate(now.plusDays(1)).build());
+        entityManager.flush();
+
+        List<Task> pending = taskRepository.findPage(TaskStatus.PENDING, null, null, PageRequest.ofSize(10));
+        assertEquals(2, pending.size());
+
+        List<Task> dueSoon = taskRepository.findPage(null, now, now.plusDays(2), PageRequest.ofSize(10));
+        assertEquals(2, dueSoon.size());
+        assertTrue(dueSoon.stream().noneMatch(t -> t.getTitle().equals("Later")));
+
+        List<Task> pendingDueSoon = taskRepository.findPage(TaskStatus.PENDING, now, now.plusDays(2), PageRequest.ofSize(10));
+        assertEquals(1, pendingDueSoon.size());
+        assertEquals("Soon", pendingDueSoon.get(0).getTitle());
+    }
+
+    @Test
+    void testSummaryPagesMatchEntityPages() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(Task.builder()
+                    .title("Summary " + i)
+                    .description("a".repeat(1000))
+                    .status(i % 2 == 0 ? TaskStatus.PENDING : TaskStatus.COMPLETED)
+                    .dueDate(now.plusDays(i + 1))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Task> tasks = taskRepository.findPage(TaskStatus.PENDING, null, null, PageRequest.ofSize(10));
+        List<TaskSummary> firstPage = taskRepository.findSummaryPage(TaskStatus.PENDING, null, null, PageRequest.ofSize(2));
+        TaskSummary last = firstPage.get(1);
+        List<TaskSummary> rest = taskRepository.findSummaryPageAfter(
+                last.createdAt(), last.id(), TaskStatus.PENDING, null, null, PageRequest.ofSize(10));
+
+        assertEquals(3, tasks.size());
+        assertEquals(2, firstPage.size());
+        assertEquals(1, rest.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            TaskSummary summary = i < 2 ? firstPage.get(i) : rest.get(0);
+            assertEquals(new TaskSummary(task.getId(), task.getTitle(), task.getStatus(), task.getDueDate(), task.getCreatedAt()),
+                    summary);
+        }
+    }
+
+    @Test
+    void testStatusIsStoredAsCode() {
+        Task task = entityManager.persistAndFlush(Task.builder()
+                .title("Stored status").status(TaskStatus.IN_PROGRESS).dueDate(LocalDateTime.now().plusDays(1)).build());
+        entityManager.clear();
+
+        Object stored = entityManager.getEntityManager()
+                .createNativeQuery("SELECT status FROM tasks WHERE id = :id")
+                .setParameter("id", task.getId())
+                .getSingleResult();
+        assertEquals((short) 1, ((Number) stored).shortValue());
+        assertEquals(TaskStatus.IN_PROGRESS, taskRepository.findById(task.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testNewTaskStartsWithUpdatedAtEqualToCreatedAt() {
+        Task task = entityManager.persistAndFlush(Task.create("New task", null, LocalDateTime.now().plusDays(1)));
+
+        assertNotNull(task.getUpdatedAt());
+        assertEquals(task.getCreatedAt(), task.getUpdatedAt());
+    }
+
+    @Test
+    void testFindChangedAfterOrdersByUpdatedAtAndStopsAtHorizon() {
+        LocalDateTime base = LocalDateTime.now().minusHours(1).withNano(0);
+        Task first = entityManager.persist(Task.create("First change", null, LocalDateTime.now().plusDays(1)));
+        Task second = entityManager.persist(Task.create("Second change", null, LocalDateTime.now().plusDays(1)));
+        Task recent = entityManager.persist(Task.create("Recent change", null, LocalDateTime.now().plusDays(1)));
+        entityManager.flush();
+        setUpdatedAt(second, base);
+        setUpdatedAt(first, base.plusMinutes(1));
+        setUpdatedAt(recent, base.plusMinutes(30));
+        entityManager.clear();
+        LocalDateTime horizon = base.plusMinutes(10);
+
+        List<Task> changes = taskRepository.findChangedAfter(base.minusDays(1), UUID.randomUUID(), horizon, PageRequest.ofSize(10));
+        assertEquals(List.of(second.getId(), first.getId()), changes.stream().map(Task::getId).toList());
+
+        List<Task> afterSecond = taskRepository.findChangedAfter(base, second.getId(), horizon, PageRequest.ofSize(10));
+        assertEquals(List.of(first.getId()), afterSecond.stream().map(Task::getId).toList());
+    }
+
+    private void setUpdatedAt(Task task, LocalDateTime updatedAt) {
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Task t SET t.updatedAt = :updatedAt WHERE t.id = :id")
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", task.getId())
+                .executeUpdate();
+    }
+
+    @Test
+    void testCountByStatus() {
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(Task.builder().title("Pending one").status(TaskStatus.PENDING).dueDate(now.plusDays(1)).build());
+        entityManager.persist(Task.builder().title("Pending two").status(TaskStatus.PENDING).dueDate(now.plusDays(1)).build());
+        entityManager.persist(Task.builder().title("Completed").status(TaskStatus.COMPLETED).dueDate(now.plusDays(1)).build());
+        entityManager.flush();
+
+        List<TaskRepository.StatusCount> counts = taskRepository.countByStatus();
+
+        assertEquals(2, counts.size());
+        assertTrue(counts.stream().anyMatch(c -> c.getStatus().equals(TaskStatus.PENDING) && c.getCount() == 2));
+        assertTrue(counts.stream().anyMatch(c -> c.getStatus().equals(TaskStatus.COMPLETED) && c.getCount() == 1));
+    }
+
+    @Test
+    void testUpdateStatusReturning() {
+        Task task = entityManager.persistAndFlush(Task.builder()
+                .title("Status Task")
+                .status(TaskStatus.PENDING)
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .build());
+        entityManager.clear();
+        LocalDateTime updatedAt = LocalDateTime.now().withNano(0);
+
+        Optional<TaskRepository.StatusChange> change = taskRepository.updateStatusReturning(task.getId(), TaskStatus.COMPLETED, updatedAt, null);
+
+        assertTrue(change.isPresent());
+        assertEquals(TaskStatus.PENDING, change.get().previousStatus());
+        Task updated = change.get().task();
+        assertEquals(TaskStatus.COMPLETED, updated.getStatus());
+        assertEquals("Status Task", updated.getTitle());
+        assertEquals(updatedAt, updated.getUpdatedAt());
+        assertEquals(1L, updated.getVersion());
+        entityManager.clear();
+        // The row as stored matches the state derived from the previous row
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(TaskStatus.COMPLETED, stored.getStatus());
+        assertEquals(updatedAt, stored.getUpdatedAt());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    void testUpdateStatusKeepsUpdatedAtWhenStatusIsUnchanged() {
+        Task task = entityManager.persistAndFlush(Task.builder()
+                .title("Status Task")
+                .status(TaskStatus.PENDING)
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .build());
+        entityManager.clear();
+
+        Optional<TaskRepository.StatusChange> change = taskRepository.updateStatusReturning(task.getId(), TaskStatus.PENDING, LocalDateTime.now().plusMinutes(1), null);
+
+        assertTrue(change.isPresent());
+        assertEquals(TaskStatus.PENDING, change.get().previousStatus());
+        assertEquals(change.get().task().getCreatedAt(), change.get().task().getUpdatedAt());
+        assertEquals(0L, change.get().task().getVersion());
+    }
+
+    @Test
+    void testUpdateStatusMissesUnknownTask() {
+        Task task = entityManager.persistAndFlush(Task.builder()
+                .title("Status Task")
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .build());
+        entityManager.clear();
+
+        assertTrue(taskRepository.updateStatusReturning(task.getId(), TaskStatus.IN_PROGRESS, LocalDateTime.now(), null).isPresent());
+        assertTrue(taskRepository.updateStatusReturning(UUID.randomUUID(), TaskStatus.COMPLETED, LocalDateTime.now(), null).isEmpty());
+        entityManager.clear();
+        assertEquals(TaskStatus.IN_PROGRESS, taskRepository.findById(task.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testStatusUpdateRereadsRowChangedSinceItWasRead() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.now();
+        TaskRepository repository = mock(TaskRepository.class, CALLS_REAL_METHODS);
+        Task first = Task.builder().id(id).title("Raced Task").status(TaskStatus.PENDING).version(0L).build();
+        Task second = first.toBuilder().status(TaskStatus.IN_PROGRESS).version(1L).build();
+        doReturn(Optional.of(first), Optional.of(second)).when(repository).findUnmanagedById(id);
+        // Another writer moves the task between the first read and its UPDATE
+        doReturn(0).when(repository).updateStatusIfVersion(id, TaskStatus.COMPLETED, updatedAt, 0L);
+        doReturn(1).when(repository).updateStatusIfVersion(id, TaskStatus.COMPLETED, updatedAt, 1L);
+
+        TaskRepository.StatusChange change = repository.updateStatusReturning(id, TaskStatus.COMPLETED, updatedAt, null).orElseThrow();
+
+        assertEquals(TaskStatus.IN_PROGRESS, change.previousStatus());
+        assertEquals(2L, change.task().getVersion());
+        // With If-Match the re-read finds another version, so the request misses
+        doReturn(Optional.of(first), Optional.of(second)).when(repository).findUnmanagedById(id);
+        assertTrue(repository.updateStatusReturning(id, TaskStatus.COMPLETED, updatedAt, 0L).isEmpty());
+    }
+
+    @Test
+    void testConditionalStatusUpdateChecksVersion() {
+        Task task = entityManager.persistAndFlush(Task.builder()
+                .title("Versioned Task")
+                .status(TaskStatus.PENDING)
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .build());
+        assertEquals(0L, task.getVersion());
+        entityManager.clear();
+
+        assertTrue(taskRepository.updateStatusReturning(task.getId(), TaskStatus.COMPLETED, LocalDateTime.now(), 7L).isEmpty());
+
+        Optional<TaskRepository.StatusChange> updated = taskRepository.updateStatusReturning(task.getId(), TaskStatus.COMPLETED, LocalDateTime.now(), 0L);
+        assertTrue(updated.isPresent());
+        assertEquals(1L, updated.get().task().getVersion());
+
+        assertTrue(taskRepository.updateStatusReturning(task.getId(), TaskStatus.PENDING, LocalDateTime.now(), 0L).isEmpty());
+        assertTrue(taskRepository.updateStatusReturning(task.getId(), TaskStatus.PENDING, LocalDateTime.now(), 1L).isPresent());
+        entityManager.clear();
+        assertEquals(2L, taskRepository.findById(task.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void testDueDateRangeCountsPerStatus() {
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(Task.builder().title("Overdue").status(TaskStatus.PENDING).dueDate(now.plusDays(1)).build());
+        entityManager.persist(Task.builder().title("Due soon").status(TaskStatus.PENDING).dueDate(now.plusDays(3)).build());
+        entityManager.persist(Task.builder().title("Due later").status(TaskStatus.PENDING).dueDate(now.plusDays(30)).build());
+        entityManager.persist(Task.builder().title("Done soon").status(TaskStatus.COMPLETED).dueDate(now.plusDays(3)).build());
+        entityManager.flush();
+        LocalDateTime later = now.plusDays(2);
+
+        assertEquals(1, taskRepository.countDueBefore(TaskStatus.PENDING, later));
+        assertEquals(1, taskRepository.countDueBetween(TaskStatus.PENDING, later, later.plusDays(7)));
+        assertEquals(1, taskRepository.countDueBetween(TaskStatus.COMPLETED, later, later.plusDays(7)));
+        assertEquals(0, taskRepository.countDueBefore(TaskStatus.IN_PROGRESS, later));
+    }
+
+}
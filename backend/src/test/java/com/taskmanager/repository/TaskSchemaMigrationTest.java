@@ -0,0 +1,55 @@
+package com.taskmanager.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Builds the schema from the Flyway migrations, as the prod profile does, and lets Hibernate validate
+ * the entity mapping against it. Fails when an entity change is made without a matching migration.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class TaskSchemaMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testMigrationsMatchEntityMapping() {
+        Integer applied = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"success\" = TRUE", Integer.class);
+
+        assertTrue(applied >= 1);
+    }
+
+    @Test
+    void testMigrationsCreateQueryIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'TASKS'", String.class);
+
+        assertTrue(indexes.containsAll(List.of(
+                "IDX_TASKS_CREATED_AT_ID", "IDX_TASKS_STATUS_CREATED_AT_ID", "IDX_TASKS_DUE_DATE",
+                "IDX_TASKS_UPDATED_AT_ID", "IDX_TASKS_STATUS_DUE_DATE")), indexes.toString());
+
+        List<String> tombstoneIndexes = jdbcTemplate.queryForList(
+                "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'TASK_TOMBSTONES'", String.class);
+        assertTrue(tombstoneIndexes.contains("IDX_TASK_TOMBSTONES_DELETED_AT_TASK_ID"), tombstoneIndexes.toString());
+    }
+
+    @Test
+    void testStatusColumnIsSmallint() {
+        String type = jdbcTemplate.queryForObject(
+                "SELECT DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = 'TASKS' AND COLUMN_NAME = 'STATUS'",
+                String.class);
+
+        assertEquals("SMALLINT", type);
+    }
+}
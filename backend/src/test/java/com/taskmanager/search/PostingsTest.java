@@ -0,0 +1,39 @@
+package com.taskmanager.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostingsTest {
+
+    @Test
+    void testMatchesHashMapUnderRandomPutsAndRemoves() {
+        Postings postings = new Postings();
+        Map<Integer, Float> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            int doc = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                postings.remove(doc);
+                expected.remove(doc);
+            } else {
+                float weight = random.nextFloat() + 0.01f;
+                postings.put(doc, weight);
+                expected.put(doc, weight);
+            }
+        }
+
+        assertEquals(expected.size(), postings.size());
+        for (int doc = 0; doc < 5_000; doc++) {
+            assertEquals(expected.getOrDefault(doc, 0f), postings.get(doc));
+        }
+        Map<Integer, Float> iterated = new HashMap<>();
+        postings.forEach(iterated::put);
+        assertEquals(expected, iterated);
+    }
+}
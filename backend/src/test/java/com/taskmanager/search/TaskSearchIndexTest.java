@@ -0,0 +1,136 @@
+package com.taskmanager.search;
+
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchIndexTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskSearchIndex(taskRepository, entityManager, transactionManager, Runnable::run);
+    }
+
+    @Test
+    void testTokenizeLowerCasesAndSplitsOnNonAlphanumerics() {
+        assertEquals(List.of("write", "api", "docs", "v2", "für", "übersicht"),
+                TaskSearchIndex.tokenize("Write API-docs (v2) für Übersicht!"));
+        assertTrue(TaskSearchIndex.tokenize("  --  ").isEmpty());
+        assertTrue(TaskSearchIndex.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void testTitleMatchesRankAboveDescriptionMatches() {
+        Task inDescription = index(task("Quarterly planning", "Prepare the budget report"));
+        Task inTitle = index(task("Budget report", "Prepare for the quarterly planning"));
+
+        TaskSearchIndex.SearchResult result = index.search("budget", 0, 10);
+
+        assertEquals(2, result.total());
+        assertEquals(List.of(inTitle.getId(), inDescription.getId()), result.ids());
+    }
+
+    @Test
+    void testEveryQueryWordMustMatch() {
+        Task both = index(task("Review pull request", "Backend review"));
+        index(task("Review design", "Frontend"));
+
+        TaskSearchIndex.SearchResult result = index.search("review backend", 0, 10);
+
+        assertEquals(List.of(both.getId()), result.ids());
+        assertEquals(0, index.search("review missing", 0, 10).total());
+    }
+
+    @Test
+    void testPrefixMatchesLongerWordsBelowExactMatches() {
+        Task prefix = index(task("Documentation sprint", null));
+        Task exact = index(task("Doc review", null));
+
+        TaskSearchIndex.SearchResult result = index.search("doc", 0, 10);
+
+        assertEquals(List.of(exact.getId(), prefix.getId()), result.ids());
+        // Single characters only match whole words
+        assertEquals(0, index.search("d", 0, 10).total());
+    }
+
+    @Test
+    void testPaginationReportsTotalAndReturnsRequestedSlice() {
+        for (int i = 0; i < 25; i++) {
+            index(task("Invoice " + i, "Monthly invoice"));
+        }
+
+        TaskSearchIndex.SearchResult first = index.search("invoice", 0, 10);
+        TaskSearchIndex.SearchResult third = index.search("invoice", 20, 10);
+
+        assertEquals(25, first.total());
+        assertEquals(10, first.ids().size());
+        assertEquals(5, third.ids().size());
+        assertTrue(first.ids().stream().noneMatch(third.ids()::contains));
+    }
+
+    @Test
+    void testReindexingReplacesOldTerms() {
+        Task task = index(task("Old title", null));
+        task.setTitle("New title");
+
+        index.onTaskChanged(TaskChangedEvent.updated(task, task.getStatus()));
+
+        assertEquals(0, index.search("old", 0, 10).total());
+        assertEquals(List.of(task.getId()), index.search("new", 0, 10).ids());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testDeletedTasksAreNoLongerFound() {
+        Task deleted = index(task("Temporary task", null));
+        Task kept = index(task("Permanent task", null));
+
+        index.onTaskChanged(TaskChangedEvent.deleted(deleted.getId(), deleted.getStatus()));
+        // The freed slot is reused by the next task
+        Task added = index(task("Another task", null));
+
+        assertEquals(2, index.search("task", 0, 10).total());
+        assertTrue(index.search("task", 0, 10).ids().containsAll(List.of(kept.getId(), added.getId())));
+        assertEquals(0, index.search("temporary", 0, 10).total());
+    }
+
+    @Test
+    void testQueryWithoutWordsMatchesNothing() {
+        index(task("Some task", null));
+
+        assertEquals(0, index.search("!!!", 0, 10).total());
+    }
+
+    private Task index(Task task) {
+        index.onTaskChanged(TaskChangedEvent.created(task));
+        return task;
+    }
+
+    private static Task task(String title, String description) {
+        return Task.builder().id(UUID.randomUUID()).title(title).description(description).build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskmanager.search;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        taskSearchIndex.rebuild();
+    }
+
+    @Test
+    void testSearchFollowsCreateUpdateAndDelete() throws Exception {
+        String id = createTask("Write release notes", "Summarise the changes since the last release");
+
+        mockMvc.perform(get("/v1/api/tasks/search").param("q", "release"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andExpect(jsonPath("$[0].id").value(id));
+
+        mockMvc.perform(put("/v1/api/tasks/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(taskJson("Write migration guide", "Steps for upgrading")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/api/tasks/search").param("q", "release"))
+                .andExpect(header().string("X-Total-Count", "0"));
+        mockMvc.perform(get("/v1/api/tasks/search").param("q", "migr"))
+                .andExpect(jsonPath("$[0].id").value(id));
+
+        mockMvc.perform(delete("/v1/api/tasks/" + id)).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/api/tasks/search").param("q", "migration"))
+                .andExpect(header().string("X-Total-Count", "0"));
+    }
+
+    @Test
+    void testSearchIndexesBulkCreates() throws Exception {
+        mockMvc.perform(post("/v1/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + taskJson("Bulk invoice one", null) + "," + taskJson("Bulk invoice two", null) + "]"))
+                .andExpect(jsonPath("$.succeeded").value(2));
+
+        mockMvc.perform(get("/v1/api/tasks/search").param("q", "invoice").param("limit", "1"))
+                .andExpect(header().string("X-Total-Count", "2"))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void testRebuildIndexesExistingRows() throws Exception {
+        createTask("Rebuilt task", "Present before the rebuild");
+
+        taskSearchIndex.rebuild();
+
+        mockMvc.perform(get("/v1/api/tasks/search").param("q", "rebuilt"))
+                .andExpect(header().string("X-Total-Count", "1"));
+    }
+
+    @Test
+    void testSearchRejectsBlankQuery() throws Exception {
+        mockMvc.perform(get("/v1/api/tasks/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String createTask(String title, String description) throws Exception {
+        String response = mockMvc.perform(post("/v1/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(taskJson(title, description)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private static String taskJson(String title, String description) {
+        return "{\"title\":\"" + title + "\"," +
+                (description == null ? "" : "\"description\":\"" + description + "\",") +
+                "\"status\":\"pending\",\"dueDate\":\"" + LocalDateTime.now().plusDays(1).withNano(0) + "\"}";
+    }
+}
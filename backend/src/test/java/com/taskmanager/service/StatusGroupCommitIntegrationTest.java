@@ -0,0 +1,112 @@
+package com.taskmanager.service;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.stats.TaskStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "taskmanager.status-writes.group-commit.enabled=true")
+@AutoConfigureMockMvc
+class StatusGroupCommitIntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final int MOVES = 30;
+    private static final TaskStatus[] CYCLE = {TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED, TaskStatus.PENDING};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void testConcurrentMovesReadTheirOwnWrites() throws Exception {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            ids.add(taskRepository.save(Task.create("Card " + i, null, LocalDateTime.now().plusDays(3))).getId());
+        }
+        // Saved directly, so the counters learn about them from a recount
+        taskStatistics.reconcile();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (UUID id : ids) {
+            results.add(pool.submit(() -> {
+                start.await();
+                for (int move = 0; move < MOVES; move++) {
+                    String status = CYCLE[move % CYCLE.length].value();
+                    mockMvc.perform(patch("/v1/api/tasks/" + id + "/status").param("status", status))
+                            .andExpect(status().isOk())
+                            .andExpect(jsonPath("$.status").value(status));
+                    // Served from the task cache, which the commit has already evicted
+                    mockMvc.perform(get("/v1/api/tasks/" + id))
+                            .andExpect(jsonPath("$.status").value(status));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        pool.shutdown();
+
+        TaskStatus last = CYCLE[(MOVES - 1) % CYCLE.length];
+        for (UUID id : ids) {
+            Task task = taskRepository.findById(id).orElseThrow();
+            assertEquals(last, task.getStatus());
+            assertEquals(MOVES, task.getVersion());
+        }
+        // Every committed change reached the event listeners exactly once
+        for (TaskStatus status : TaskStatus.values()) {
+            assertEquals(status == last ? THREADS : 0, taskStatistics.count(status), status.value());
+        }
+    }
+
+    @Test
+    void testIfMatchAndMissingTasksStillFail() throws Exception {
+        UUID id = taskRepository.save(Task.create("Guarded", null, LocalDateTime.now().plusDays(1))).getId();
+        String etag = mockMvc.perform(patch("/v1/api/tasks/" + id + "/status").param("status", "in-progress"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(patch("/v1/api/tasks/" + id + "/status").param("status", "completed")
+                        .header("If-Match", "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+        String body = mockMvc.perform(patch("/v1/api/tasks/" + id + "/status").param("status", "completed")
+                        .header("If-Match", etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals("completed", JsonPath.read(body, "$.status"));
+        mockMvc.perform(patch("/v1/api/tasks/" + UUID.randomUUID() + "/status").param("status", "completed"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,181 @@
+package com.taskmanager.service;
+
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.ServiceUnavailableException;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatusGroupCommitTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private StatusGroupCommit groupCommit;
+
+    @BeforeEach
+    void setUp() {
+        // Never started: the tests hand batches to flush() themselves
+        groupCommit = new StatusGroupCommit(taskRepository, transactionManager, eventPublisher,
+                16, Duration.ofMillis(2), 64, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testRepeatedChangesToOneTaskAreWrittenOnce() {
+        UUID dragged = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        TaskRepository.StatusChange completed = change(dragged, TaskStatus.COMPLETED, TaskStatus.PENDING);
+        TaskRepository.StatusChange otherChange = change(other, TaskStatus.IN_PROGRESS, TaskStatus.PENDING);
+        when(taskRepository.updateStatusReturning(eq(dragged), eq(TaskStatus.COMPLETED), any(LocalDateTime.class), isNull()))
+                .thenReturn(Optional.of(completed));
+        when(taskRepository.updateStatusReturning(eq(other), eq(TaskStatus.IN_PROGRESS), any(LocalDateTime.class), isNull()))
+                .thenReturn(Optional.of(otherChange));
+        StatusGroupCommit.Change first = new StatusGroupCommit.Change(dragged, TaskStatus.IN_PROGRESS, null);
+        StatusGroupCommit.Change second = new StatusGroupCommit.Change(other, TaskStatus.IN_PROGRESS, null);
+        StatusGroupCommit.Change last = new StatusGroupCommit.Change(dragged, TaskStatus.COMPLETED, null);
+
+        groupCommit.flush(List.of(first, second, last));
+
+        verify(taskRepository, never()).updateStatusReturning(eq(dragged), eq(TaskStatus.IN_PROGRESS), any(), any());
+        verify(transactionManager, times(1)).commit(any());
+        // The replaced change is answered with the state that was committed
+        assertEquals(Optional.of(completed), first.result.join());
+        assertEquals(Optional.of(otherChange), second.result.join());
+        assertEquals(Optional.of(completed), last.result.join());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.statusChanged(completed.task(), TaskStatus.PENDING));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.statusChanged(otherChange.task(), TaskStatus.PENDING));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void testConditionalChangesAreNotCoalesced() {
+        UUID id = UUID.randomUUID();
+        TaskRepository.StatusChange inProgress = change(id, TaskStatus.IN_PROGRESS, TaskStatus.PENDING);
+        when(taskRepository.updateStatusReturning(eq(id), eq(TaskStatus.IN_PROGRESS), any(LocalDateTime.class), isNull()))
+                .thenReturn(Optional.of(inProgress));
+        when(taskRepository.updateStatusReturning(eq(id), eq(TaskStatus.COMPLETED), any(LocalDateTime.class), eq(1L)))
+                .thenReturn(Optional.empty());
+        when(taskRepository.updateStatusReturning(eq(id), eq(TaskStatus.PENDING), any(LocalDateTime.class), isNull()))
+                .thenReturn(Optional.of(change(id, TaskStatus.PENDING, TaskStatus.IN_PROGRESS)));
+        StatusGroupCommit.Change unconditional = new StatusGroupCommit.Change(id, TaskStatus.IN_PROGRESS, null);
+        StatusGroupCommit.Change conditional = new StatusGroupCommit.Change(id, TaskStatus.COMPLETED, 1L);
+        StatusGroupCommit.Change after = new StatusGroupCommit.Change(id, TaskStatus.PENDING, null);
+
+        groupCommit.flush(List.of(unconditional, conditional, after));
+
+        // The If-Match may refer to the version the first change produces, so all three run, in order
+        InOrder inOrder = inOrder(taskRepository);
+        inOrder.verify(taskRepository).updateStatusReturning(eq(id), eq(TaskStatus.IN_PROGRESS), any(), isNull());
+        inOrder.verify(taskRepository).updateStatusReturning(eq(id), eq(TaskStatus.COMPLETED), any(), eq(1L));
+        inOrder.verify(taskRepository).updateStatusReturning(eq(id), eq(TaskStatus.PENDING), any(), isNull());
+        assertEquals(Optional.of(inProgress), unconditional.result.join());
+        assertEquals(Optional.empty(), conditional.result.join());
+        assertEquals(TaskStatus.PENDING, after.result.join().orElseThrow().task().getStatus());
+    }
+
+    @Test
+    void testFailedBatchFailsEveryRequest() {
+        UUID id = UUID.randomUUID();
+        when(taskRepository.updateStatusReturning(any(), any(), any(), any())).thenThrow(new QueryTimeoutException("Timed out"));
+        StatusGroupCommit.Change replaced = new StatusGroupCommit.Change(id, TaskStatus.IN_PROGRESS, null);
+        StatusGroupCommit.Change written = new StatusGroupCommit.Change(id, TaskStatus.COMPLETED, null);
+
+        groupCommit.flush(List.of(replaced, written));
+
+        verify(transactionManager).rollback(any());
+        CompletionException failure = assertThrows(CompletionException.class, replaced.result::join);
+        assertInstanceOf(QueryTimeoutException.class, failure.getCause());
+        assertThrows(CompletionException.class, written.result::join);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testFailedChangeIsRetriedAloneSoTheOthersCommit() {
+        UUID failing = UUID.randomUUID();
+        UUID fine = UUID.randomUUID();
+        TaskRepository.StatusChange completed = change(fine, TaskStatus.COMPLETED, TaskStatus.PENDING);
+        when(taskRepository.updateStatusReturning(eq(failing), any(), any(), any())).thenThrow(new QueryTimeoutException("Timed out"));
+        when(taskRepository.updateStatusReturning(eq(fine), any(), any(), any())).thenReturn(Optional.of(completed));
+        StatusGroupCommit.Change bad = new StatusGroupCommit.Change(failing, TaskStatus.IN_PROGRESS, null);
+        StatusGroupCommit.Change replaced = new StatusGroupCommit.Change(fine, TaskStatus.IN_PROGRESS, null);
+        StatusGroupCommit.Change good = new StatusGroupCommit.Change(fine, TaskStatus.COMPLETED, null);
+
+        groupCommit.flush(List.of(bad, replaced, good));
+
+        // The batch and then the failing change on its own roll back; the other change commits by itself
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        CompletionException failure = assertThrows(CompletionException.class, bad.result::join);
+        assertInstanceOf(QueryTimeoutException.class, failure.getCause());
+        assertEquals(Optional.of(completed), replaced.result.join());
+        assertEquals(Optional.of(completed), good.result.join());
+    }
+
+    @Test
+    void testErrorInOneBatchDoesNotStopTheFlusher() throws InterruptedException {
+        UUID broken = UUID.randomUUID();
+        UUID fine = UUID.randomUUID();
+        TaskRepository.StatusChange completed = change(fine, TaskStatus.COMPLETED, TaskStatus.PENDING);
+        when(taskRepository.updateStatusReturning(eq(broken), any(), any(), any())).thenThrow(new StackOverflowError());
+        when(taskRepository.updateStatusReturning(eq(fine), any(), any(), any())).thenReturn(Optional.of(completed));
+        groupCommit.start();
+        try {
+            IllegalStateException failure = assertThrows(IllegalStateException.class,
+                    () -> groupCommit.updateStatus(broken, TaskStatus.COMPLETED, null));
+            assertInstanceOf(StackOverflowError.class, failure.getCause());
+
+            assertEquals(Optional.of(completed), groupCommit.updateStatus(fine, TaskStatus.COMPLETED, null));
+        } finally {
+            groupCommit.close();
+        }
+    }
+
+    @Test
+    void testWaitForTheCommitIsBounded() {
+        // Never started, so nothing is ever flushed
+        StatusGroupCommit stalled = new StatusGroupCommit(taskRepository, transactionManager, eventPublisher,
+                16, Duration.ofMillis(2), 64, Duration.ofMillis(50));
+
+        ServiceUnavailableException failure = assertThrows(ServiceUnavailableException.class,
+                () -> stalled.updateStatus(UUID.randomUUID(), TaskStatus.COMPLETED, null));
+
+        assertEquals(StatusGroupCommit.RETRY_AFTER_SECONDS, failure.getRetryAfterSeconds());
+        // The change was still queued, so it was withdrawn rather than left to be written later
+        assertEquals("Status updates are backed up, please retry later", failure.getMessage());
+        verifyNoInteractions(taskRepository);
+    }
+
+    private static TaskRepository.StatusChange change(UUID id, TaskStatus status, TaskStatus previousStatus) {
+        Task task = Task.builder().id(id).title("Card").status(status).version(2L).build();
+        return new TaskRepository.StatusChange(task, previousStatus);
+    }
+}
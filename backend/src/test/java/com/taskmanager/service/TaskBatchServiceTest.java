@@ -0,0 +1,146 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.BatchItemResult;
+import com.taskmanager.dto.BatchResponse;
+import com.taskmanager.dto.TaskPatch;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.model.TaskTombstone;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskTombstoneRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TaskBatchService.class, ValidationAutoConfiguration.class})
+class TaskBatchServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Test
+    void testCreateAllReportsEachItem() {
+        List<Task> tasks = Arrays.asList(
+                Task.create("First task", null, LocalDateTime.now().plusDays(1)),
+                Task.create("", null, LocalDateTime.now().plusDays(1)),
+                Task.create("Third task", "Description", LocalDateTime.now().plusDays(2)));
+
+        BatchResponse response = taskBatchService.createAll(tasks);
+        entityManager.flush();
+
+        assertEquals(2, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        assertEquals(201, response.getResults().get(0).getStatus());
+        assertNotNull(response.getResults().get(0).getId());
+        assertEquals(400, response.getResults().get(1).getStatus());
+        assertFalse(response.getResults().get(1).getFieldErrors().isEmpty());
+        assertEquals(2, taskRepository.count());
+    }
+
+    @Test
+    void testCreateAllUsesJdbcBatching() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            tasks.add(Task.create("Batch task " + i, null, LocalDateTime.now().plusDays(1)));
+        }
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        taskBatchService.createAll(tasks);
+        entityManager.flush();
+
+        assertEquals(120, statistics.getEntityInsertCount());
+        // Without batching every insert prepares its own statement; batches of 50 share at most one per batch
+        assertTrue(statistics.getPrepareStatementCount() <= 3);
+    }
+
+    @Test
+    void testUpdateAllAppliesOnlyPatchedFields() {
+        Task task = entityManager.persistAndFlush(Task.builder()
+                .title("Original title")
+                .description("Original description")
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .build());
+        UUID missingId = UUID.randomUUID();
+
+        BatchResponse response = taskBatchService.updateAll(Arrays.asList(
+                TaskPatch.builder().id(task.getId()).status(TaskStatus.COMPLETED).build(),
+                TaskPatch.builder().id(missingId).status(TaskStatus.COMPLETED).build(),
+                TaskPatch.builder().id(task.getId()).title("Duplicate").build(),
+                TaskPatch.builder().status(TaskStatus.COMPLETED).build()));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(200, response.getResults().get(0).getStatus());
+        assertEquals(404, response.getResults().get(1).getStatus());
+        assertEquals(400, response.getResults().get(2).getStatus());
+        assertEquals(400, response.getResults().get(3).getStatus());
+
+        Task updated = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(TaskStatus.COMPLETED, updated.getStatus());
+        assertEquals("Original title", updated.getTitle());
+        assertEquals("Original description", updated.getDescription());
+    }
+
+    @Test
+    void testUpdateAllRejectsInvalidFieldsWithoutWriting() {
+        Task task = entityManager.persistAndFlush(Task.builder()
+                .title("Original title")
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .build());
+
+        BatchResponse response = taskBatchService.updateAll(List.of(
+                TaskPatch.builder().id(task.getId()).title("ab").dueDate(LocalDateTime.now().minusDays(1)).build()));
+        entityManager.flush();
+        entityManager.clear();
+
+        BatchItemResult result = response.getResults().get(0);
+        assertEquals(400, result.getStatus());
+        assertEquals(2, result.getFieldErrors().size());
+        assertEquals("Original title", taskRepository.findById(task.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void testDeleteAllReportsMissingIds() {
+        Task task1 = entityManager.persist(Task.create("Delete me", null, LocalDateTime.now().plusDays(1)));
+        Task task2 = entityManager.persist(Task.create("Keep me", null, LocalDateTime.now().plusDays(1)));
+        entityManager.flush();
+        UUID missingId = UUID.randomUUID();
+
+        BatchResponse response = taskBatchService.deleteAll(Arrays.asList(task1.getId(), missingId));
+        entityManager.clear();
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(200, response.getResults().get(0).getStatus());
+        assertEquals(404, response.getResults().get(1).getStatus());
+        assertFalse(taskRepository.existsById(task1.getId()));
+        assertTrue(taskRepository.existsById(task2.getId()));
+        // Only the task that was actually deleted leaves a tombstone
+        assertEquals(List.of(task1.getId()), tombstoneRepository.findAll().stream().map(TaskTombstone::getTaskId).toList());
+    }
+}
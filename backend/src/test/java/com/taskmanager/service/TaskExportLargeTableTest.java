@@ -0,0 +1,88 @@
+package com.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exports a large file-backed table to prove heap use stays flat. Disabled by default; run with e.g.
+ * {@code mvn test -Dtest=TaskExportLargeTableTest -Dtaskmanager.export.rows=1000000 -DargLine=-Xmx96m}
+ */
+@DataJpaTest
+@AutoConfigureJson
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/export-large-test;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Import(TaskExportService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "taskmanager.export.rows", matches = "\\d+")
+class TaskExportLargeTableTest {
+
+    private static final int INSERT_CHUNK = 50_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Test
+    void testExportLargeTableWithFlatHeap() throws Exception {
+        long rows = Long.getLong("taskmanager.export.rows");
+        for (long start = 1; start <= rows; start += INSERT_CHUNK) {
+            long end = Math.min(rows, start + INSERT_CHUNK - 1);
+            jdbcTemplate.update("INSERT INTO tasks (id, title, description, status, due_date, created_at) " +
+                    "SELECT RANDOM_UUID(), 'Task ' || X, REPEAT('x', 200), 0, " +
+                    "DATEADD('DAY', 30, LOCALTIMESTAMP), DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00') " +
+                    "FROM SYSTEM_RANGE(?, ?)", start, end);
+        }
+
+        CountingOutputStream out = new CountingOutputStream();
+        long started = System.nanoTime();
+        long exported = taskExportService.exportTo(out);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertEquals(rows, exported);
+        assertEquals(rows, out.lines);
+        System.out.printf("Exported %d tasks (%d MB) in %d ms with max heap %d MB%n",
+                exported, out.bytes >> 20, elapsedMillis, Runtime.getRuntime().maxMemory() >> 20);
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        long bytes;
+        long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
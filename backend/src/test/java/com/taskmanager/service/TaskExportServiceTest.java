@@ -0,0 +1,83 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.model.Task;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureJson
+@Import(TaskExportService.class)
+class TaskExportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testExportWritesOneJsonObjectPerLine() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            entityManager.persist(Task.builder()
+                    .title("Task " + i)
+                    .description("Description " + i)
+                    .dueDate(LocalDateTime.now().plusDays(1))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = taskExportService.exportTo(out);
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+        assertEquals(25, exported);
+        assertEquals(25, lines.length);
+        assertTrue(body.endsWith("\n"));
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Task 0", first.get("title").asText());
+        assertTrue(first.get("dueDate").isTextual());
+    }
+
+    @Test
+    void testExportDetachesEveryWrittenTask() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            entityManager.persist(Task.builder()
+                    .title("Task " + i)
+                    .dueDate(LocalDateTime.now().plusDays(1))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        taskExportService.exportTo(new ByteArrayOutputStream());
+
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        assertEquals(0, session.getStatistics().getEntityCount());
+    }
+
+    @Test
+    void testExportOfEmptyTable() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(0, taskExportService.exportTo(out));
+        assertEquals(0, out.size());
+    }
+}
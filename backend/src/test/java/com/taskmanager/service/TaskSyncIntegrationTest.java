@@ -0,0 +1,92 @@
+package com.taskmanager.service;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanager.dto.ChangeToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "taskmanager.sync.settle-time=0s")
+@AutoConfigureMockMvc
+class TaskSyncIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testChangesFollowWritesAndDeletes() throws Exception {
+        String kept = createTask("Kept task");
+        String patched = createTask("Patched task");
+        String deleted = createTask("Deleted task");
+        String bulkDeleted = createTask("Bulk deleted task");
+        String token = initialSync();
+
+        mockMvc.perform(patch("/v1/api/tasks/" + patched + "/status").param("status", "completed"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/v1/api/tasks/" + deleted)).andExpect(status().isOk());
+        mockMvc.perform(delete("/v1/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + bulkDeleted + "\"]"))
+                .andExpect(jsonPath("$.succeeded").value(1));
+        String created = createTask("Created task");
+
+        String response = mockMvc.perform(get("/v1/api/tasks/changes").param("since", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated[*].id").value(containsInAnyOrder(patched, created)))
+                .andExpect(jsonPath("$.updated[?(@.id == '" + patched + "')].status").value("completed"))
+                .andExpect(jsonPath("$.deleted").value(containsInAnyOrder(deleted, bulkDeleted)))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn().getResponse().getContentAsString();
+
+        // Nothing new since the last sync; the untouched task is never sent again
+        mockMvc.perform(get("/v1/api/tasks/changes").param("since", JsonPath.<String>read(response, "$.nextToken")))
+                .andExpect(jsonPath("$.updated").isEmpty())
+                .andExpect(jsonPath("$.deleted").isEmpty());
+        List<String> everything = JsonPath.read(mockMvc.perform(get("/v1/api/tasks/changes"))
+                .andReturn().getResponse().getContentAsString(), "$.updated[*].id");
+        assertTrue(everything.contains(kept));
+    }
+
+    @Test
+    void testExpiredTokenIsGone() throws Exception {
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(60);
+        String expired = new ChangeToken(longAgo, ChangeToken.NIL, longAgo, ChangeToken.NIL).encode();
+
+        mockMvc.perform(get("/v1/api/tasks/changes").param("since", expired))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    void testInvalidTokenIsRejected() throws Exception {
+        mockMvc.perform(get("/v1/api/tasks/changes").param("since", "not-a-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String initialSync() throws Exception {
+        String response = mockMvc.perform(get("/v1/api/tasks/changes"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.nextToken");
+    }
+
+    private String createTask(String title) throws Exception {
+        String response = mockMvc.perform(post("/v1/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"status\":\"pending\",\"dueDate\":\"" +
+                                LocalDateTime.now().plusDays(1).withNano(0) + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+}
@@ -0,0 +1,155 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.ChangeToken;
+import com.taskmanager.dto.TaskChanges;
+import com.taskmanager.exception.ResourceGoneException;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskTombstone;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskTombstoneRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "taskmanager.sync.settle-time=0s")
+@Import(TaskSyncService.class)
+class TaskSyncServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TaskSyncService taskSyncService;
+
+    @Test
+    void testInitialSyncReturnsEveryTaskAndNoOlderDeletions() {
+        Task deleted = persist("Deleted before sync");
+        Task kept = persist("Kept task");
+        entityManager.flush();
+        taskSyncService.delete(deleted);
+        entityManager.flush();
+
+        TaskChanges changes = taskSyncService.changesSince(null, 100);
+
+        assertEquals(List.of(kept.getId()), ids(changes.getUpdated()));
+        assertTrue(changes.getDeleted().isEmpty());
+        assertFalse(changes.isHasMore());
+
+        TaskChanges nothingNew = taskSyncService.changesSince(ChangeToken.decode(changes.getNextToken()), 100);
+        assertTrue(nothingNew.getUpdated().isEmpty());
+        assertTrue(nothingNew.getDeleted().isEmpty());
+    }
+
+    @Test
+    void testSyncReturnsUpdatesAndDeletionsAfterToken() {
+        Task unchanged = persist("Unchanged task");
+        Task updated = persist("Updated task");
+        Task deleted = persist("Deleted task");
+        entityManager.flush();
+        ChangeToken token = ChangeToken.decode(taskSyncService.changesSince(null, 100).getNextToken());
+
+        updated.setTitle("Renamed task");
+        taskRepository.saveAndFlush(updated);
+        taskSyncService.delete(deleted);
+        Task created = persist("Created task");
+        entityManager.flush();
+
+        TaskChanges changes = taskSyncService.changesSince(token, 100);
+
+        assertEquals(List.of(updated.getId(), created.getId()), ids(changes.getUpdated()));
+        assertEquals("Renamed task", changes.getUpdated().get(0).getTitle());
+        assertEquals(List.of(deleted.getId()), changes.getDeleted());
+        assertFalse(ids(changes.getUpdated()).contains(unchanged.getId()));
+    }
+
+    @Test
+    void testLimitPagesThroughChangesWithoutDuplicates() {
+        for (int i = 0; i < 5; i++) {
+            persist("Paged task " + i);
+        }
+        entityManager.flush();
+
+        Set<UUID> seen = new HashSet<>();
+        ChangeToken token = null;
+        int pages = 0;
+        TaskChanges changes;
+        do {
+            changes = taskSyncService.changesSince(token, 2);
+            for (Task task : changes.getUpdated()) {
+                assertTrue(seen.add(task.getId()), "Duplicate task " + task.getId());
+            }
+            token = ChangeToken.decode(changes.getNextToken());
+            pages++;
+        } while (changes.isHasMore());
+
+        assertEquals(5, seen.size());
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void testRecentChangesAreHeldBackUntilSettled() {
+        persist("Just written");
+        entityManager.flush();
+        TaskSyncService settling = new TaskSyncService(taskRepository, tombstoneRepository,
+                Duration.ofMinutes(1), Duration.ofDays(30));
+
+        assertTrue(settling.changesSince(null, 100).getUpdated().isEmpty());
+    }
+
+    @Test
+    void testTokenOlderThanTombstoneRetentionIsGone() {
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(31);
+        ChangeToken expired = new ChangeToken(longAgo, ChangeToken.NIL, longAgo, ChangeToken.NIL);
+
+        assertThrows(ResourceGoneException.class, () -> taskSyncService.changesSince(expired, 100));
+    }
+
+    @Test
+    void testPurgeRemovesOnlyExpiredTombstones() {
+        UUID expired = UUID.randomUUID();
+        UUID recent = UUID.randomUUID();
+        tombstoneRepository.save(new TaskTombstone(expired, LocalDateTime.now().minusDays(31)));
+        tombstoneRepository.save(new TaskTombstone(recent, LocalDateTime.now().minusDays(1)));
+        entityManager.flush();
+
+        taskSyncService.purgeTombstones();
+
+        assertFalse(tombstoneRepository.existsById(expired));
+        assertTrue(tombstoneRepository.existsById(recent));
+    }
+
+    @Test
+    void testTokenRoundTripsAndRejectsGarbage() {
+        ChangeToken token = new ChangeToken(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6000), UUID.randomUUID(),
+                LocalDateTime.of(2024, 1, 2, 3, 4, 5), ChangeToken.NIL);
+
+        assertEquals(token, ChangeToken.decode(token.encode()));
+        assertThrows(IllegalArgumentException.class, () -> ChangeToken.decode("not a token"));
+        assertThrows(IllegalArgumentException.class, () -> ChangeToken.decode("MjAyNA"));
+    }
+
+    private Task persist(String title) {
+        return entityManager.persist(Task.create(title, null, LocalDateTime.now().plusDays(1)));
+    }
+
+    private static List<UUID> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+}
@@ -0,0 +1,98 @@
+package com.taskmanager.stats;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "taskmanager.stats.due-counts-ttl=0s")
+@AutoConfigureMockMvc
+class TaskStatisticsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        // The bulk delete publishes no events; the recount corrects the counters
+        taskStatistics.reconcile();
+    }
+
+    @Test
+    void testCountersFollowEveryWritePath() throws Exception {
+        String first = createTask("First task", 2);
+        String second = createTask("Second task", 3);
+        String third = createTask("Third task", 30);
+        mockMvc.perform(patch("/v1/api/tasks/" + first + "/status").param("status", "in-progress"))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/v1/api/tasks/" + second + "/status").param("status", "completed")
+                        .header("Prefer", "return=minimal"))
+                .andExpect(status().isNoContent());
+        // Setting the status it already has changes nothing
+        mockMvc.perform(patch("/v1/api/tasks/" + second + "/status").param("status", "completed"))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/v1/api/tasks/" + third)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(taskJson("Third task", "completed", 30)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/v1/api/tasks/" + third)).andExpect(status().isOk());
+        mockMvc.perform(post("/v1/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + taskJson("Bulk one", "pending", 1) + "," + taskJson("Bulk two", "pending", 40) + "]"))
+                .andExpect(jsonPath("$.succeeded").value(2));
+        mockMvc.perform(patch("/v1/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"id\":\"" + first + "\",\"status\":\"completed\"}]"))
+                .andExpect(jsonPath("$.succeeded").value(1));
+        mockMvc.perform(delete("/v1/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + second + "\"]"))
+                .andExpect(jsonPath("$.succeeded").value(1));
+
+        mockMvc.perform(get("/v1/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byStatus.pending").value(2))
+                .andExpect(jsonPath("$.byStatus['in-progress']").value(0))
+                .andExpect(jsonPath("$.byStatus.completed").value(1))
+                .andExpect(jsonPath("$.overdue").value(0))
+                .andExpect(jsonPath("$.dueSoon").value(1));
+
+        // Nothing for the reconciliation to correct
+        for (TaskRepository.StatusCount row : taskRepository.countByStatus()) {
+            assertEquals(row.getCount(), taskStatistics.count(row.getStatus()), row.getStatus().value());
+        }
+    }
+
+    private String createTask(String title, int dueInDays) throws Exception {
+        String response = mockMvc.perform(post("/v1/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(taskJson(title, "pending", dueInDays)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private static String taskJson(String title, String status, int dueInDays) {
+        return "{\"title\":\"" + title + "\",\"status\":\"" + status + "\",\"dueDate\":\"" +
+                LocalDateTime.now().plusDays(dueInDays).withNano(0) + "\"}";
+    }
+}
@@ -0,0 +1,207 @@
+package com.taskmanager.stats;
+
+import com.taskmanager.dto.TaskStats;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatisticsTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new TaskStatistics(taskRepository, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testNotReadyUntilFirstReconcile() {
+        when(taskRepository.countByStatus()).thenReturn(List.of(statusCount(TaskStatus.PENDING, 4), statusCount(TaskStatus.COMPLETED, 1)));
+        assertFalse(statistics.isReady());
+
+        statistics.reconcile();
+
+        assertTrue(statistics.isReady());
+        assertEquals(4, statistics.count(TaskStatus.PENDING));
+        assertEquals(0, statistics.count(TaskStatus.IN_PROGRESS));
+        assertEquals(1, statistics.count(TaskStatus.COMPLETED));
+    }
+
+    @Test
+    void testWritesMoveCountersBetweenStatuses() {
+        Task task = task(TaskStatus.PENDING);
+        statistics.onTaskChanged(TaskChangedEvent.created(task));
+        statistics.onTaskChanged(TaskChangedEvent.created(task(TaskStatus.PENDING)));
+
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        statistics.onTaskChanged(TaskChangedEvent.statusChanged(task, TaskStatus.PENDING));
+        // A PUT that leaves the status alone does not move anything
+        statistics.onTaskChanged(TaskChangedEvent.updated(task, TaskStatus.IN_PROGRESS));
+        task.setStatus(TaskStatus.COMPLETED);
+        statistics.onTaskChanged(TaskChangedEvent.updated(task, TaskStatus.IN_PROGRESS));
+
+        assertEquals(1, statistics.count(TaskStatus.PENDING));
+        assertEquals(0, statistics.count(TaskStatus.IN_PROGRESS));
+        assertEquals(1, statistics.count(TaskStatus.COMPLETED));
+
+        statistics.onTaskChanged(TaskChangedEvent.deleted(task.getId(), TaskStatus.COMPLETED));
+        assertEquals(0, statistics.count(TaskStatus.COMPLETED));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testReconcileCorrectsDriftAndKeepsLaterWrites() {
+        when(taskRepository.countByStatus()).thenReturn(List.of());
+        statistics.reconcile();
+        statistics.onTaskChanged(TaskChangedEvent.created(task(TaskStatus.PENDING)));
+        statistics.onTaskChanged(TaskChangedEvent.created(task(TaskStatus.PENDING)));
+        // The table says one pending task: one of the counted writes never happened
+        when(taskRepository.countByStatus()).thenReturn(List.of(statusCount(TaskStatus.PENDING, 1)));
+        statistics.reconcile();
+        assertEquals(1, statistics.count(TaskStatus.PENDING));
+
+        when(taskRepository.countByStatus()).thenAnswer(invocation -> {
+            // Committed while the grouped query runs, so not part of its result
+            statistics.onTaskChanged(TaskChangedEvent.created(task(TaskStatus.COMPLETED)));
+            return List.of(statusCount(TaskStatus.PENDING, 1));
+        });
+        statistics.reconcile();
+
+        assertEquals(1, statistics.count(TaskStatus.PENDING));
+        assertEquals(1, statistics.count(TaskStatus.COMPLETED));
+    }
+
+    @Test
+    void testReconcileIgnoresWriteWhoseEventLandsAfterTheQuery() {
+        when(taskRepository.countByStatus()).thenReturn(List.of(statusCount(TaskStatus.PENDING, 2)));
+        statistics.reconcile();
+        // Committed before the grouped query, but its after-commit callback only runs once the query is done
+        List<TransactionSynchronization> commit = publishInTransaction(TaskChangedEvent.created(task(TaskStatus.PENDING)));
+        when(taskRepository.countByStatus()).thenReturn(List.of(statusCount(TaskStatus.PENDING, 3)));
+
+        statistics.reconcile();
+        afterCommit(commit);
+
+        assertEquals(3, statistics.count(TaskStatus.PENDING));
+        // The next run measures no drift, so nothing is ever corrected
+        statistics.reconcile();
+        assertEquals(3, statistics.count(TaskStatus.PENDING));
+    }
+
+    @Test
+    void testReconcileCorrectsDriftWhileWritesKeepArriving() {
+        when(taskRepository.countByStatus()).thenReturn(List.of(statusCount(TaskStatus.PENDING, 2)));
+        statistics.reconcile();
+        // Inserted behind the application's back: the counters are three short for good
+        long table = 5;
+        for (int run = 1; run <= 3; run++) {
+            // A different number of writes is still on its way to the counters during each run
+            List<TransactionSynchronization> commits = new ArrayList<>();
+            for (int write = 0; write < run; write++) {
+                commits.addAll(publishInTransaction(TaskChangedEvent.created(task(TaskStatus.PENDING))));
+            }
+            table += run;
+            when(taskRepository.countByStatus()).thenReturn(List.of(statusCount(TaskStatus.PENDING, table)));
+
+            statistics.reconcile();
+            afterCommit(commits);
+
+            assertEquals(table, statistics.count(TaskStatus.PENDING));
+            // A write committed between the runs
+            statistics.onTaskChanged(TaskChangedEvent.created(task(TaskStatus.PENDING)));
+            table++;
+        }
+    }
+
+    @Test
+    void testRolledBackWriteMovesNothing() {
+        when(taskRepository.countByStatus()).thenReturn(List.of(statusCount(TaskStatus.PENDING, 2)));
+        statistics.reconcile();
+
+        List<TransactionSynchronization> rollback = publishInTransaction(TaskChangedEvent.created(task(TaskStatus.PENDING)));
+        rollback.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(2, statistics.count(TaskStatus.PENDING));
+    }
+
+    @Test
+    void testSnapshotCombinesCountersWithCachedDueCounts() {
+        when(taskRepository.countByStatus()).thenReturn(List.of(statusCount(TaskStatus.PENDING, 3), statusCount(TaskStatus.IN_PROGRESS, 2)));
+        when(taskRepository.countDueBefore(eq(TaskStatus.PENDING), any(LocalDateTime.class))).thenReturn(1L);
+        when(taskRepository.countDueBefore(eq(TaskStatus.IN_PROGRESS), any(LocalDateTime.class))).thenReturn(1L);
+        when(taskRepository.countDueBetween(eq(TaskStatus.PENDING), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(2L);
+        when(taskRepository.countDueBetween(eq(TaskStatus.IN_PROGRESS), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0L);
+        statistics.reconcile();
+
+        TaskStats stats = statistics.snapshot();
+        statistics.snapshot();
+
+        assertEquals(5, stats.getTotal());
+        assertEquals(List.of("pending", "in-progress", "completed"), List.copyOf(stats.getByStatus().keySet()));
+        assertEquals(0L, stats.getByStatus().get("completed"));
+        assertEquals(2, stats.getOverdue());
+        assertEquals(2, stats.getDueSoon());
+        // Completed tasks are never overdue, and the range counts are reused within the TTL
+        verify(taskRepository, never()).countDueBefore(eq(TaskStatus.COMPLETED), any());
+        verify(taskRepository, times(1)).countDueBefore(eq(TaskStatus.PENDING), any());
+    }
+
+    // The event as published inside a transaction that commits, with the callbacks still to run
+    private List<TransactionSynchronization> publishInTransaction(TaskChangedEvent event) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            statistics.onTaskChanged(event);
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void afterCommit(List<TransactionSynchronization> synchronizations) {
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+    }
+
+    private static Task task(TaskStatus status) {
+        return Task.builder().id(UUID.randomUUID()).title("Counted task").status(status).build();
+    }
+
+    private static TaskRepository.StatusCount statusCount(TaskStatus status, long count) {
+        return new TaskRepository.StatusCount() {
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,243 @@
+package com.taskmanager.stream;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanager.reminder.TaskReminder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against a real server: the stream is an async response that MockMvc would buffer.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "taskmanager.stream.buffer-size=4")
+class TaskEventStreamIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskEventStream taskEventStream;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<EventReader> readers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        readers.forEach(EventReader::close);
+    }
+
+    @Test
+    void testStreamDeliversWritesInOrder() throws Exception {
+        EventReader reader = connect(null);
+
+        String id = createTask("Streamed task");
+        send(HttpRequest.newBuilder(tasksUri("/" + id + "/status?status=completed"))
+                .method("PATCH", HttpRequest.BodyPublishers.noBody()));
+        send(HttpRequest.newBuilder(tasksUri("/" + id)).DELETE());
+
+        Event created = reader.next();
+        assertEquals(TaskEventStream.CHANGE_EVENT, created.name());
+        assertEquals("CREATED", JsonPath.read(created.data(), "$.type"));
+        assertEquals("Streamed task", JsonPath.read(created.data(), "$.task.title"));
+
+        Event statusChanged = reader.next();
+        assertEquals("STATUS_CHANGED", JsonPath.read(statusChanged.data(), "$.type"));
+        assertEquals("completed", JsonPath.read(statusChanged.data(), "$.task.status"));
+
+        Event deleted = reader.next();
+        assertEquals("DELETED", JsonPath.read(deleted.data(), "$.type"));
+        assertEquals(id, JsonPath.read(deleted.data(), "$.taskId"));
+        assertNotEquals(created.id(), deleted.id());
+    }
+
+    @Test
+    void testRemindersShareTheStream() throws Exception {
+        EventReader reader = connect(null);
+        UUID taskId = UUID.randomUUID();
+
+        taskEventStream.deliver(new TaskReminder(TaskReminder.Kind.OVERDUE, taskId, "Late task",
+                LocalDateTime.of(2026, 1, 1, 12, 0)));
+
+        Event reminder = reader.next();
+        assertEquals(TaskEventStream.REMINDER_EVENT, reminder.name());
+        assertEquals("overdue", JsonPath.read(reminder.data(), "$.kind"));
+        assertEquals(taskId.toString(), JsonPath.read(reminder.data(), "$.taskId"));
+        assertEquals("2026-01-01T12:00:00", JsonPath.read(reminder.data(), "$.dueDate"));
+    }
+
+    @Test
+    void testReconnectWithLastEventIdReplaysMissedEvents() throws Exception {
+        EventReader reader = connect(null);
+        createTask("Before disconnect");
+        Event seen = reader.next();
+        reader.close();
+
+        createTask("Missed one");
+        createTask("Missed two");
+
+        EventReader resumed = connect(seen.id());
+        assertEquals("Missed one", JsonPath.read(resumed.next().data(), "$.task.title"));
+        assertEquals("Missed two", JsonPath.read(resumed.next().data(), "$.task.title"));
+    }
+
+    @Test
+    void testReconnectBeyondBufferRequestsReset() throws Exception {
+        EventReader reader = connect(null);
+        createTask("First");
+        Event seen = reader.next();
+        reader.close();
+
+        // Five more writes overflow the four-event buffer
+        for (int i = 0; i < 5; i++) {
+            createTask("Overflow " + i);
+        }
+
+        assertEquals(TaskEventStream.RESET_EVENT, connect(seen.id()).next().name());
+        assertEquals(TaskEventStream.RESET_EVENT, connect("stale-epoch-1").next().name());
+    }
+
+    @Test
+    void testDisconnectedClientIsUnsubscribed() throws Exception {
+        // Streams closed by earlier tests are only noticed on the next write to them
+        awaitSubscriberCount(0);
+        EventReader reader = connect(null);
+        assertEquals(1, taskEventStream.subscriberCount());
+
+        reader.close();
+
+        awaitSubscriberCount(0);
+    }
+
+    private void awaitSubscriberCount(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (taskEventStream.subscriberCount() != expected && System.nanoTime() < deadline) {
+            taskEventStream.sendHeartbeat();
+            Thread.sleep(50);
+        }
+        assertEquals(expected, taskEventStream.subscriberCount());
+    }
+
+    private EventReader connect(String lastEventId) throws Exception {
+        // HTTP/1.0 over a plain socket: the body is not chunked, and closing the socket really disconnects
+        Socket socket = new Socket("localhost", port);
+        socket.setSoTimeout(10_000);
+        String request = "GET /v1/api/tasks/stream HTTP/1.0\r\nHost: localhost\r\nAccept: text/event-stream\r\n" +
+                (lastEventId == null ? "" : "Last-Event-ID: " + lastEventId + "\r\n") + "\r\n";
+        socket.getOutputStream().write(request.getBytes(StandardCharsets.UTF_8));
+        BufferedReader lines = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+        assertTrue(lines.readLine().contains(" 200 "));
+        boolean eventStream = false;
+        for (String header = lines.readLine(); !header.isEmpty(); header = lines.readLine()) {
+            eventStream |= header.toLowerCase().startsWith("content-type: text/event-stream");
+        }
+        assertTrue(eventStream);
+        // Idle streams only carry a heartbeat every 15 seconds
+        socket.setSoTimeout(0);
+        EventReader reader = new EventReader(socket, lines);
+        readers.add(reader);
+        return reader;
+    }
+
+    private String createTask(String title) throws Exception {
+        String json = "{\"title\":\"" + title + "\",\"status\":\"pending\",\"dueDate\":\"" +
+                LocalDateTime.now().plusDays(1).withNano(0) + "\"}";
+        HttpResponse<String> response = send(HttpRequest.newBuilder(tasksUri(""))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+        assertEquals(201, response.statusCode());
+        return JsonPath.read(response.body(), "$.id");
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI tasksUri(String path) {
+        return URI.create("http://localhost:" + port + "/v1/api/tasks" + path);
+    }
+
+    private record Event(String id, String name, String data) {
+    }
+
+    /**
+     * Parses the text/event-stream body on a background thread; comments (heartbeats) are skipped.
+     */
+    private static class EventReader {
+
+        private final Socket socket;
+        private final BufferedReader lines;
+        private final BlockingQueue<Event> events = new LinkedBlockingQueue<>();
+
+        EventReader(Socket socket, BufferedReader lines) {
+            this.socket = socket;
+            this.lines = lines;
+            Thread thread = new Thread(this::read, "sse-reader");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        Event next() throws InterruptedException {
+            Event event = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(event, "No event received");
+            return event;
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Closed by the test
+                // Already closed
+            }
+        }
+
+        private void read() {
+            String id = null;
+            String name = null;
+            StringBuilder data = new StringBuilder();
+            try {
+                for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                    if (line.isEmpty()) {
+                        if (name != null || !data.isEmpty()) {
+                            events.add(new Event(id, name, data.toString()));
+                        }
+                        id = null;
+                        name = null;
+                        data.setLength(0);
+                    } else if (line.startsWith("id:")) {
+                        id = line.substring(3);
+                    } else if (line.startsWith("event:")) {
+                        name = line.substring(6);
+                    } else if (line.startsWith("data:")) {
+                        data.append(line.substring(5));
+                    }
+                }
+            } catch (IOException e) {
+                // Closed by the test
+            }
+        }
+    }
+}
@@ -1,6 +1,6 @@
 import { useState, useEffect, useCallback } from 'react';
 import { taskService } from '../services/taskService';
-import { Task, TaskFormData } from '../types/task';
+import { Task, TaskChange, TaskFormData } from '../types/task';
 
 interface UseTasksReturn {
   tasks: Task[];
@@ -38,6 +38,17 @@ export const useTasks = (): UseTasksReturn => {
     fetchTasks();
   }, [fetchTasks]);
 
+  // Apply changes pushed by the server instead of re-fetching the whole list
+  useEffect(() => {
+    const applyChange = (change: TaskChange) => {
+      setTasks(prev => {
+        const others = prev.filter(task => task.id !== change.taskId);
+        return change.type === 'DELETED' || !change.task ? others : [...others, change.task];
+      });
+    };
+    return taskService.subscribeToChanges(applyChange, fetchTasks);
+  }, [fetchTasks]);
+
   const createTask = async (taskData: TaskFormData): Promise<Task> => {
     try {
       const newTask = await taskService.createTask(taskData);
@@ -1,6 +1,12 @@
-import axios from 'axios';
-import { API_BASE_URL } from '../utils/constants';
-import { Task, TaskFormData, TaskService } from '../types/task';
+import axios, { AxiosError, InternalAxiosRequestConfig } from 'axios';
+import {
+  API_BASE_URL,
+  MAX_READ_RETRIES,
+  MAX_RETRY_DELAY_MS,
+  RETRY_BASE_DELAY_MS,
+  TASK_PAGE_SIZE,
+} from '../utils/constants';
+import { Task, TaskChange, TaskFormData, TaskSearchResult, TaskService } from '../types/task';
 
 const api = axios.create({
   baseURL: API_BASE_URL,
@@ -9,10 +15,57 @@ const api = axios.create({
   },
 });
 
+type RetriedRequestConfig = InternalAxiosRequestConfig & { retries?: number };
+
+// Retry-After is either a number of seconds or an HTTP date
+const retryDelayMs = (retryAfter: string | undefined, retries: number): number => {
+  let delay = RETRY_BASE_DELAY_MS * 2 ** retries;
+  if (retryAfter) {
+    const seconds = Number(retryAfter);
+    const date = Date.parse(retryAfter);
+    if (!Number.isNaN(seconds)) {
+      delay = seconds * 1000;
+    } else if (!Number.isNaN(date)) {
+      delay = date - Date.now();
+    }
+  }
+  return Math.min(Math.max(delay, 0), MAX_RETRY_DELAY_MS);
+};
+
+// 429 (rate limited) and 503 (overloaded) are sent before anything is changed, but only reads are retried here:
+// a write may have been applied before a 503 from a later stage
+api.interceptors.response.use(undefined, async (error: AxiosError) => {
+  const config = error.config as RetriedRequestConfig | undefined;
+  const status = error.response?.status;
+  if (!config || config.method !== 'get' || (status !== 429 && status !== 503)) {
+    throw error;
+  }
+  const retries = config.retries ?? 0;
+  if (retries >= MAX_READ_RETRIES) {
+    throw error;
+  }
+  config.retries = retries + 1;
+  const delay = retryDelayMs(error.response?.headers['retry-after'], retries);
+  await new Promise(resolve => setTimeout(resolve, delay));
+  return api.request(config);
+});
+
 export const taskService: TaskService = {
+  // Each page is a separate request, so a page that is rate limited is retried on its own (see above)
   getAllTasks: async (): Promise<Task[]> => {
-    const response = await api.get<Task[]>('/');
-    return response.data;
+    const tasks: Task[] = [];
+    let after: string | undefined;
+    do {
+      const response = await api.get<Task[]>('/', { params: { limit: TASK_PAGE_SIZE, after } });
+      tasks.push(...response.data);
+      after = response.headers['x-next-cursor'];
+    } while (after);
+    return tasks;
+  },
+
+  searchTasks: async (query: string, limit = 20, offset = 0): Promise<TaskSearchResult> => {
+    const response = await api.get<Task[]>('/search', { params: { q: query, limit, offset } });
+    return { tasks: response.data, total: Number(response.headers['x-total-count'] ?? response.data.length) };
   },
 
   getTaskById: async (id: string): Promise<Task> => {
@@ -38,4 +91,15 @@ export const taskService: TaskService = {
   deleteTask: async (id: string): Promise<void> => {
     await api.delete(`/${id}`);
   },
+
+  // EventSource reconnects by itself and resumes with Last-Event-ID; 'reset' means events were missed
+  subscribeToChanges: (onChange: (change: TaskChange) => void, onReset: () => void): (() => void) => {
+    if (typeof EventSource === 'undefined') {
+      return () => {};
+    }
+    const source = new EventSource(`${API_BASE_URL}/stream`);
+    source.addEventListener('task', event => onChange(JSON.parse((event as MessageEvent).data)));
+    source.addEventListener('reset', () => onReset());
+    return () => source.close();
+  },
 };
\ No newline at end of file
@@ -6,6 +6,7 @@ export interface Task {
   dueDate: string;
   createdAt: string;
   updatedAt?: string;
+  version?: number;
 }
 
 export interface TaskFormData {
@@ -15,11 +16,24 @@ export interface TaskFormData {
   dueDate: string;
 }
 
+export interface TaskSearchResult {
+  tasks: Task[];
+  total: number;
+}
+
+export interface TaskChange {
+  type: 'CREATED' | 'UPDATED' | 'STATUS_CHANGED' | 'DELETED';
+  taskId: string;
+  task?: Task;
+}
+
 export interface TaskService {
   getAllTasks: () => Promise<Task[]>;
+  searchTasks: (query: string, limit?: number, offset?: number) => Promise<TaskSearchResult>;
   getTaskById: (id: string) => Promise<Task>;
   createTask: (task: TaskFormData) => Promise<Task>;
   updateTask: (id: string, task: TaskFormData) => Promise<Task>;
   updateTaskStatus: (id: string, status: Task['status']) => Promise<Task>;
   deleteTask: (id: string) => Promise<void>;
+  subscribeToChanges: (onChange: (change: TaskChange) => void, onReset: () => void) => () => void;
 }
\ No newline at end of file
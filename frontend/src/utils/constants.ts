@@ -1,5 +1,12 @@
 export const API_BASE_URL = 'http://localhost:8080/v1/api/tasks';
 
+export const TASK_PAGE_SIZE = 500;
+
+// Reads answered 429 or 503 are retried after the server's Retry-After, or with exponential backoff without one
+export const MAX_READ_RETRIES = 3;
+export const RETRY_BASE_DELAY_MS = 1000;
+export const MAX_RETRY_DELAY_MS = 30000;
+
 export const TASK_STATUS = {
   PENDING: 'pending',
   IN_PROGRESS: 'in-progress',